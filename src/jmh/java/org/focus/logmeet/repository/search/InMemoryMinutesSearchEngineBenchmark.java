@@ -0,0 +1,45 @@
+package org.focus.logmeet.repository.search;
+
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// local-search 프로필의 인메모리 검색 엔진에서 5천 건 인덱스 기준 검색/자동완성 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InMemoryMinutesSearchEngineBenchmark {
+
+    private static final List<Long> PROJECT_IDS = List.of(1L, 2L, 3L, 4L, 5L);
+
+    private InMemoryMinutesSearchEngine engine;
+
+    @Setup
+    public void setUp() {
+        engine = new InMemoryMinutesSearchEngine();
+        List<MinutesDocument> documents = new ArrayList<>();
+        for (long id = 100; id < 5100; id++) {
+            documents.add(MinutesDocument.builder()
+                    .id(id)
+                    .projectId(id % 20)
+                    .title("회의록 " + id)
+                    .content("프로젝트 " + id + " 진행 상황 공유와 배포 일정 논의, 다음 회의 안건 정리 " + "내용 ".repeat(50))
+                    .build());
+        }
+        engine.saveAll(documents);
+    }
+
+    @Benchmark
+    public MinutesSearchHits searchPage() {
+        return engine.searchPage("배포 일정", PROJECT_IDS, 20, null, null, SearchSortType.RELEVANCE);
+    }
+
+    @Benchmark
+    public List<MinutesDocument> suggestTitles() {
+        return engine.suggestTitles("회의록 1", PROJECT_IDS, 10);
+    }
+}
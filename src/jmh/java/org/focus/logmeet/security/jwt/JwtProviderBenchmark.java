@@ -0,0 +1,42 @@
+package org.focus.logmeet.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+// 모든 인증 요청마다 거치는 토큰 생성/파싱 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        jwtProvider = new JwtProvider(null, null);
+        Field secretKey = JwtProvider.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtProvider, Base64.getEncoder().encodeToString(secret));
+        jwtProvider.init();
+        accessToken = jwtProvider.createToken("bench@example.com", "Access");
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtProvider.createToken("bench@example.com", "Access");
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtProvider.parseToken(accessToken);
+    }
+}
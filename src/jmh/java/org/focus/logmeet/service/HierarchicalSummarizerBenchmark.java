@@ -0,0 +1,95 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.controller.dto.minutes.MinutesSummarizeResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 로컬 Flask 요약 스텁(입력 길이에 비례해 지연)을 상대로 한 번에 요약 vs map-reduce 요약의 처리 시간 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class HierarchicalSummarizerBenchmark {
+
+    // 스텁 지연: 기본 20ms + 입력 200글자당 1ms
+    private static final long BASE_LATENCY_MS = 20;
+    private static final int CHARS_PER_MS = 200;
+
+    @Param({"100000"})
+    public int transcriptChars;
+
+    @Param({"1", "4", "8"})
+    public int parallelism;
+
+    private HttpServer flaskStub;
+    private ExecutorService stubExecutor;
+    private FlaskGateway flaskGateway;
+    private HierarchicalSummarizer summarizer;
+    private String transcript;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        flaskStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        flaskStub.setExecutor(stubExecutor);
+        flaskStub.createContext("/summarize_text", exchange -> {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String text = request.path("text").asText();
+            try {
+                Thread.sleep(BASE_LATENCY_MS + text.length() / CHARS_PER_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                    "summarizedText", text.substring(0, Math.min(text.length(), 200)),
+                    "schedules", List.of()));
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        flaskStub.start();
+
+        flaskGateway = new FlaskGateway(HttpClient.newHttpClient(), objectMapper, new SimpleMeterRegistry(),
+                "http://127.0.0.1:" + flaskStub.getAddress().getPort(), Duration.ofMinutes(1));
+        summarizer = new HierarchicalSummarizer(flaskGateway, 3000, 2.0, parallelism, 3);
+
+        StringBuilder builder = new StringBuilder(transcriptChars + 64);
+        for (int i = 0; builder.length() < transcriptChars; i++) {
+            builder.append("SPEAKER_").append(i % 4).append(": 다음 배포 일정과 QA 범위, 담당자를 정리했습니다.\n");
+        }
+        transcript = builder.toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        flaskStub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public MinutesSummarizeResult singleCall() {
+        return flaskGateway.summarize(transcript).join();
+    }
+
+    @Benchmark
+    public MinutesSummarizeResult mapReduce() {
+        return summarizer.summarize(transcript).join();
+    }
+}
@@ -0,0 +1,43 @@
+package org.focus.logmeet.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 검색 결과마다 호출되는 스니펫 추출 비용 측정 (본문 앞/뒤 매칭, 미매칭)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MinutesSearchServiceBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int contentLength;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(contentLength + 32);
+        builder.append("Kickoff 회의 ");
+        while (builder.length() < contentLength) {
+            builder.append("SPEAKER_1: 다음 주 배포 일정과 QA 범위를 논의했습니다.\n");
+        }
+        builder.append(" Retrospective");
+        content = builder.toString();
+    }
+
+    @Benchmark
+    public String snippetMatchAtStart() {
+        return MinutesSearchService.extractSnippet(content, "kickoff");
+    }
+
+    @Benchmark
+    public String snippetMatchAtEnd() {
+        return MinutesSearchService.extractSnippet(content, "retrospective");
+    }
+
+    @Benchmark
+    public String snippetNoMatch() {
+        return MinutesSearchService.extractSnippet(content, "없는검색어");
+    }
+}
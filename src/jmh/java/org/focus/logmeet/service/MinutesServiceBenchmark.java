@@ -0,0 +1,55 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 긴 회의 녹취(수 MB 세그먼트 JSON)에서 본문을 추출하는 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MinutesServiceBenchmark {
+
+    private static final String SEGMENT_TEXT = "이번 스프린트에서는 회의록 검색 성능과 업로드 안정성을 우선적으로 개선하기로 했습니다.";
+
+    @Param({"1", "4"})
+    public int transcriptMb;
+
+    private String voiceContent;
+    private String pictureContent;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode segments = root.putArray("segments");
+        StringBuilder text = new StringBuilder();
+
+        long targetBytes = transcriptMb * 1024L * 1024L;
+        long bytes = 0;
+        for (int i = 0; bytes < targetBytes; i++) {
+            ObjectNode segment = segments.addObject();
+            segment.put("speaker", "SPEAKER_" + (i % 6));
+            segment.put("text", SEGMENT_TEXT);
+            text.append(SEGMENT_TEXT).append('\n');
+            bytes += SEGMENT_TEXT.getBytes().length + 40;
+        }
+
+        voiceContent = objectMapper.writeValueAsString(root);
+        pictureContent = objectMapper.writeValueAsString(objectMapper.createObjectNode().put("text", text.toString()));
+    }
+
+    @Benchmark
+    public String extractVoiceContent() {
+        return MinutesService.extractClearContent(voiceContent, MinutesType.VOICE);
+    }
+
+    @Benchmark
+    public String extractPictureContent() {
+        return MinutesService.extractClearContent(pictureContent, MinutesType.PICTURE);
+    }
+}
@@ -0,0 +1,40 @@
+package org.focus.logmeet.service;
+
+import org.focus.logmeet.controller.dto.schedule.ScheduleMonthlyListResult;
+import org.focus.logmeet.domain.Schedule;
+import org.focus.logmeet.domain.enums.ProjectColor;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 월별 스케줄 조회의 일자별 groupingBy 집계 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleServiceBenchmark {
+
+    @Param({"100", "10000"})
+    public int scheduleCount;
+
+    private List<Schedule> schedules;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime monthStart = LocalDateTime.of(2024, 10, 1, 9, 0);
+        schedules = new ArrayList<>(scheduleCount);
+        for (int i = 0; i < scheduleCount; i++) {
+            schedules.add(Schedule.builder()
+                    .content("일정 " + i)
+                    .scheduleDate(monthStart.plusDays(i % 31).plusMinutes(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ScheduleMonthlyListResult> groupColorsByDay() {
+        return ScheduleService.groupColorsByDay(schedules, ProjectColor.PROJECT_1);
+    }
+}
@@ -0,0 +1,23 @@
+package org.focus.logmeet.common.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 안에서는 커밋 이후에 무효화해 커밋 전 데이터가 다시 캐시되지 않도록 한다
+final class CacheInvalidation {
+    private CacheInvalidation() {
+    }
+
+    static void afterCommit(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+            return;
+        }
+        invalidation.run();
+    }
+}
@@ -0,0 +1,61 @@
+package org.focus.logmeet.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 유효한 초대 코드 캐시. 각 엔트리는 초대 코드의 만료 시각에 맞춰 제거된다.
+ * 유효하지 않은 코드는 캐시하지 않으며, 프로젝트 삭제 시 해당 프로젝트의 코드를 무효화한다.
+ */
+@Component
+public class InviteCodeCache {
+    private final Cache<String, Entry> cache;
+
+    public InviteCodeCache(MeterRegistry meterRegistry,
+                           @Value("${invite-code.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilExpiration())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.invite-code");
+    }
+
+    // loader가 null을 반환하면 캐시하지 않고 null을 반환
+    public Entry get(String code, Supplier<Entry> loader) {
+        return cache.get(code, k -> loader.get());
+    }
+
+    public void evictProject(Long projectId) {
+        CacheInvalidation.afterCommit(() -> cache.asMap().values().removeIf(entry -> entry.projectId().equals(projectId)));
+    }
+
+    public record Entry(Long projectId, LocalDateTime expirationDate) {
+    }
+
+    private static class UntilExpiration implements Expiry<String, Entry> {
+        @Override
+        public long expireAfterCreate(String code, Entry entry, long currentTime) {
+            return Math.max(0, Duration.between(LocalDateTime.now(), entry.expirationDate()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String code, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(code, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String code, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
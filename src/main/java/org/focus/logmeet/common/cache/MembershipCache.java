@@ -0,0 +1,53 @@
+package org.focus.logmeet.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * (userId, projectId) 별 프로젝트 멤버십/역할 캐시.
+ * 멤버가 아닌 경우는 캐시하지 않으며, 참여/탈퇴/추방/리더 위임/색상 변경/프로젝트 삭제 시 커밋 이후에 무효화한다.
+ * 노드 간 공유되지 않으므로 다른 노드의 변경은 TTL 이내에 반영된다.
+ */
+@Component
+public class MembershipCache {
+    private final Cache<Key, ProjectMembership> cache;
+
+    public MembershipCache(MeterRegistry meterRegistry,
+                           @Value("${project.membership.cache.max-size:100000}") long maxSize,
+                           @Value("${project.membership.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.membership");
+    }
+
+    // loader가 null을 반환하면 캐시하지 않고 null을 반환
+    public ProjectMembership get(Long userId, Long projectId, Supplier<ProjectMembership> loader) {
+        return cache.get(new Key(userId, projectId), k -> loader.get());
+    }
+
+    public void evict(Long userId, Long projectId) {
+        CacheInvalidation.afterCommit(() -> cache.invalidate(new Key(userId, projectId)));
+    }
+
+    public void evictProject(Long projectId) {
+        CacheInvalidation.afterCommit(() -> cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId)));
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    public record Key(Long userId, Long projectId) {
+    }
+}
@@ -0,0 +1,43 @@
+package org.focus.logmeet.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.focus.logmeet.controller.dto.project.ProjectInfoResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 프로젝트 상세(멤버 목록 포함) 캐시.
+ * 멤버 참여/탈퇴/추방, 역할/색상/북마크 변경 시 커밋 이후에 무효화한다.
+ */
+@Component
+public class ProjectInfoCache {
+    private final Cache<Long, ProjectInfoResult> cache;
+
+    public ProjectInfoCache(MeterRegistry meterRegistry,
+                            @Value("${project.cache.max-size:1000}") long maxSize,
+                            @Value("${project.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "project.info");
+    }
+
+    public ProjectInfoResult get(Long projectId, Supplier<ProjectInfoResult> loader) {
+        return cache.get(projectId, k -> loader.get());
+    }
+
+    public void invalidate(Long projectId) {
+        if (projectId == null) {
+            return;
+        }
+        CacheInvalidation.afterCommit(() -> cache.invalidate(projectId));
+    }
+}
@@ -0,0 +1,49 @@
+package org.focus.logmeet.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.focus.logmeet.controller.dto.search.MinutesSearchHistoryResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 최근 검색 기록 캐시 (search.history.cache.enabled=true 일 때만 사용).
+ * 기록 저장/삭제 시 해당 유저 엔트리를 무효화하며, 회의록 이름 변경은 TTL 이내로만 늦게 반영된다.
+ */
+@Component
+public class SearchHistoryCache {
+    private final boolean enabled;
+    private final Cache<Long, List<MinutesSearchHistoryResult>> cache;
+
+    public SearchHistoryCache(MeterRegistry meterRegistry,
+                              @Value("${search.history.cache.enabled:false}") boolean enabled,
+                              @Value("${search.history.cache.max-size:10000}") long maxSize,
+                              @Value("${search.history.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "minutes.search.history");
+    }
+
+    public List<MinutesSearchHistoryResult> get(Long userId, Supplier<List<MinutesSearchHistoryResult>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(userId, k -> loader.get());
+    }
+
+    public void invalidate(Long userId) {
+        if (enabled) {
+            cache.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.focus.logmeet.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.controller.dto.search.MinutesSearchPageResult;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 유저별 회의록 검색 결과 캐시.
+ * 키에 접근 가능한 프로젝트 집합이 포함되므로 프로젝트 참여/탈퇴 시에는 자연히 다른 키가 되고,
+ * 회의록 인덱싱 시에는 해당 프로젝트가 포함된 엔트리만 무효화한다.
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+    private final Cache<Key, MinutesSearchPageResult> cache;
+
+    public SearchResultCache(MeterRegistry meterRegistry,
+                             @Value("${search.cache.max-size:10000}") long maxSize,
+                             @Value("${search.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "minutes.search");
+    }
+
+    public MinutesSearchPageResult get(Key key, Supplier<MinutesSearchPageResult> loader) {
+        return cache.get(key, k -> loader.get());
+    }
+
+    public void invalidateProjects(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        boolean removed = cache.asMap().keySet().removeIf(key -> key.projectIds().stream().anyMatch(projectIds::contains));
+        if (removed) {
+            log.debug("검색 결과 캐시 무효화: projectIds={}", projectIds);
+        }
+    }
+
+    public void invalidateProject(Long projectId) {
+        invalidateProjects(List.of(projectId));
+    }
+
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    // projectIds는 정렬된 상태로 전달해야 같은 집합이 같은 키가 된다
+    public record Key(Long userId, String query, List<Long> projectIds, int size,
+                      List<Object> searchAfter, Float minScore, SearchSortType sort) {
+    }
+}
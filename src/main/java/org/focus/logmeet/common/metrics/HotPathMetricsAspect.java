@@ -0,0 +1,55 @@
+package org.focus.logmeet.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 엔진 호출과 JWT 검증 구간의 소요 시간을 기록한다.
+ * 검색 엔진은 MinutesSearchService와 MinutesRepositoryAspect 양쪽의 호출을 모두 포함한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class HotPathMetricsAspect {
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* org.focus.logmeet.repository.search.MinutesSearchEngine.*(..))")
+    public Object timeSearchEngine(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(timer("search.engine.requests", joinPoint.getSignature().getName(), outcome));
+        }
+    }
+
+    @Around("execution(* org.focus.logmeet.security.jwt.JwtProvider.tokenValidation(..)) || " +
+            "execution(* org.focus.logmeet.security.jwt.JwtProvider.refreshTokenValidation(..))")
+    public Object timeJwtValidation(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            Object result = joinPoint.proceed();
+            outcome = Boolean.TRUE.equals(result) ? "valid" : "invalid";
+            return result;
+        } finally {
+            sample.stop(timer("jwt.validation", joinPoint.getSignature().getName(), outcome));
+        }
+    }
+
+    private Timer timer(String name, String operation, String outcome) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,30 @@
+package org.focus.logmeet.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 단위로 Hibernate가 실행한 SQL 문 수를 센다.
+ * {@link QueryCountFilter}가 요청 시작 시 카운터를 열고 종료 시 닫으며, 그 밖의 스레드(스케줄러 등)에서는 세지 않는다.
+ */
+public class QueryCountInspector implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
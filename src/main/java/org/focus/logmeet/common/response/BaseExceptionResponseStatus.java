@@ -11,6 +11,8 @@ public enum BaseExceptionResponseStatus implements ResponseStatus {
     INVALID_INPUT_VALUE(false, 0, "요청에 잘못된 값이 존재합니다.", 400),
     NOT_FOUND(false, 1, "존재하지 않는 URL입니다.", 404),
     FORBIDDEN(false, 2, "금지된 접근입니다.", 403),
+    IDEMPOTENCY_KEY_REUSED(false, 3, "같은 Idempotency-Key로 다른 요청을 보냈습니다.", 422),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(false, 4, "같은 Idempotency-Key의 요청이 아직 처리 중입니다.", 409),
 
     // Server, Database 오류
     SERVER_ERROR(false, 2000, "서버에서 오류가 발생하였습니다.", 500),
@@ -55,10 +57,16 @@ public enum BaseExceptionResponseStatus implements ResponseStatus {
     MINUTES_TEXT_SUMMARY_MISSING(false, 6005, "텍스트 요약 반환값에 요약 정보가 없습니다.", 500),
     MINUTES_TEXT_SUMMARY_API_CALL_FAILED(false, 6006, "텍스트 요약 API 호출을 실패했습니다.", 500),
     MINUTES_INVALID_JSON_FORMAT(false, 6007, "JSON 파싱 중 오류가 발생했습니다.", 500),
-    MINUTES_UNSUPPORTED_TYPE(false, 6008, "파일 업로드는 VOICE 또는 PICTURE 타입만 허용됩니다.", 400),
+    MINUTES_UNSUPPORTED_TYPE(false, 6008, "파일 업로드는 VOICE, PICTURE 또는 MULTI_PICTURE 타입만 허용됩니다.", 400),
+    MINUTES_PAGE_COUNT_INVALID(false, 6009, "이미지 개수가 허용 범위를 벗어났습니다.", 400),
+    MINUTES_AI_JOB_QUEUE_FULL(false, 6010, "처리 대기 중인 작업이 너무 많습니다. 잠시 후 다시 시도해 주세요.", 429),
+    MINUTES_CONTENT_EMPTY(false, 6011, "요약할 회의록 내용이 없습니다. 텍스트 변환이 끝난 뒤 다시 시도해 주세요.", 400),
 
     // S3 오류
     S3_CLIENT_CREATION_ERROR(false, 7000, "S3 클라이언트 생성 중 오류가 발생했습니다.", 500),
+    S3_MULTIPART_UPLOAD_FAILED(false, 7001, "멀티파트 업로드 처리 중 오류가 발생했습니다.", 500),
+    S3_MULTIPART_UPLOAD_NOT_FOUND(false, 7002, "존재하지 않거나 이미 종료된 멀티파트 업로드입니다.", 404),
+    S3_MULTIPART_PART_INVALID(false, 7003, "잘못된 파트 번호 또는 파트 목록입니다.", 400),
 
     // Schedule 오류
     SCHEDULE_NOT_FOUND(false, 8000, "존재하지 않는 스케줄입니다.", 404),
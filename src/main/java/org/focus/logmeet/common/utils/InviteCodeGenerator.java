@@ -0,0 +1,79 @@
+package org.focus.logmeet.common.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 초대 코드 생성기.
+ * 40비트 시퀀스(초대 코드 ID)를 비밀 키 기반 Feistel 순열로 섞은 뒤 8자리 base32로 인코딩한다.
+ * 순열은 전단사이므로 서로 다른 ID는 항상 서로 다른 코드가 되어 중복 확인 없이 생성할 수 있고,
+ * 키를 모르면 다음 코드를 추측할 수 없다. 비밀 키는 기본값 없이 invite-code.secret 으로 지정해야 하며, 없거나 짧으면 기동하지 않는다.
+ */
+@Component
+public class InviteCodeGenerator {
+    // 혼동되기 쉬운 i, l, o, u 제외 (Crockford base32)
+    private static final char[] ALPHABET = "0123456789abcdefghjkmnpqrstvwxyz".toCharArray();
+    private static final int CODE_LENGTH = 8;
+    private static final int HALF_BITS = 20;
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final long MAX_SEQUENCE = 1L << (HALF_BITS * 2);
+    private static final int ROUNDS = 4;
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public InviteCodeGenerator(@Value("${invite-code.secret}") String secret) {
+        if (secret == null || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("초대 코드 비밀 키(invite-code.secret)는 " + MIN_SECRET_LENGTH + "자 이상이어야 합니다.");
+        }
+        ByteBuffer digest = ByteBuffer.wrap(sha256(secret));
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = digest.getLong();
+        }
+    }
+
+    public String encode(long sequence) {
+        if (sequence < 0 || sequence >= MAX_SEQUENCE) {
+            throw new IllegalArgumentException("초대 코드 시퀀스 범위 초과: " + sequence);
+        }
+        long permuted = permute(sequence);
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET[(int) (permuted & 31)];
+            permuted >>>= 5;
+        }
+        return new String(code);
+    }
+
+    private long permute(long value) {
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (long roundKey : roundKeys) {
+            long next = left ^ round(right, roundKey);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long round(long half, long key) {
+        long x = (half * 0x9E3779B97F4A7C15L) ^ key;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        x ^= x >>> 31;
+        return x & HALF_MASK;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.focus.logmeet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MaintenanceExecutorConfig {
+
+    // 정리 작업 전용 실행기: 스레드와 대기열을 작게 제한해 요청 처리 스레드와 DB 커넥션을 잠식하지 않도록 함
+    @Bean
+    public ThreadPoolTaskExecutor maintenanceExecutor(@Value("${maintenance.executor.pool-size:1}") int poolSize,
+                                                      @Value("${maintenance.executor.queue-capacity:4}") int queueCapacity,
+                                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("maintenance-");
+        if (virtualThreads) {
+            // 가상 스레드 모드에서도 동시 실행 수 제한은 풀 크기로 유지한다
+            executor.setThreadFactory(Thread.ofVirtual().name("maintenance-", 0).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package org.focus.logmeet.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 권한 확인과 캐시 채우기처럼 방금 커밋된 변경을 반드시 봐야 하는 조회를 프라이머리에서 실행한다.
+ * 읽기 전용 트랜잭션 안에서 호출되면 새 쓰기 트랜잭션(REQUIRES_NEW)으로 실행해 {@link ReplicationRoutingDataSource}가 프라이머리로 보내게 하고,
+ * 그 외(쓰기 트랜잭션, 트랜잭션 밖, 레플리카 미사용)에는 이미 프라이머리이므로 그대로 실행한다.
+ */
+@Component
+public class PrimaryReader {
+    private final TransactionTemplate primaryTransaction;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager,
+                         @Value("${spring.datasource.replica.url:}") String replicaUrl) {
+        if (replicaUrl == null || replicaUrl.isBlank()) {
+            this.primaryTransaction = null;
+            return;
+        }
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        if (primaryTransaction == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.get();
+        }
+        return primaryTransaction.execute(status -> query.get());
+    }
+}
@@ -0,0 +1,33 @@
+package org.focus.logmeet.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 호출)는 프라이머리로 보내는 DataSource.
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로,
+ * 반드시 {@link #lazy(DataSource, DataSource)}처럼 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 라우팅해야 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    public static DataSource lazy(DataSource primary, DataSource replica) {
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource();
+        routing.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly ? REPLICA : PRIMARY;
+    }
+}
@@ -18,14 +18,21 @@ public class S3Config {
     @Value("${cloud.naver.credentials.secretKey}")
     private String secretKey;
 
-    @Bean
-    public AmazonS3 amazonS3() {
-        String endPoint = "https://kr.object.ncloudstorage.com";
-        String regionName = "kr-standard";
+    // 로컬 S3 호환 서버(MinIO 등)로 테스트할 때 엔드포인트와 path-style 접근을 바꿔 지정
+    @Value("${cloud.naver.storage.endpoint:https://kr.object.ncloudstorage.com}")
+    private String endPoint;
+
+    @Value("${cloud.naver.storage.region:kr-standard}")
+    private String regionName;
 
+    @Value("${cloud.naver.storage.path-style-access:false}")
+    private boolean pathStyleAccess;
 
+    @Bean
+    public AmazonS3 amazonS3() {
         return AmazonS3ClientBuilder.standard()
                 .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endPoint, regionName))
+                .withPathStyleAccessEnabled(pathStyleAccess)
                 .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)))
                 .build();
     }
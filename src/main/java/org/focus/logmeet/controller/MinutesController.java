@@ -9,10 +9,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.focus.logmeet.common.response.BaseResponse;
 import org.focus.logmeet.controller.dto.minutes.*;
 import org.focus.logmeet.domain.enums.MinutesType;
+import org.focus.logmeet.service.FlaskGateway;
+import org.focus.logmeet.service.IdempotencyService;
 import org.focus.logmeet.service.MinutesService;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.SUCCESS;
 
@@ -23,6 +27,7 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.SUCC
 public class MinutesController {
 
     private final MinutesService minutesService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "회의록 업데이트", description = "파일로 생성된 회의록의 이름과 프로젝트 정보를 업데이트합니다.")
     @ApiResponses(value = {
@@ -48,40 +53,157 @@ public class MinutesController {
     }
 
 
+    @Operation(summary = "여러 장 사진 업로드를 위한 Pre-signed URL 일괄 발급", description = "요청한 파일 순서(페이지 순서)대로 Pre-signed URL과 파일 경로 목록을 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Pre-signed URL 목록 반환"),
+            @ApiResponse(responseCode = "400", description = "허용 범위를 벗어난 파일 개수")
+    })
+    @GetMapping("/generate-pre-signed-urls")
+    public BaseResponse<List<PreSignedUrlResponse>> generatePreSignedUrls(
+            @RequestParam List<String> fileNames) {
+        return new BaseResponse<>(minutesService.generatePreSignedUrls(fileNames));
+    }
+
+    @Operation(summary = "대용량 파일 멀티파트 업로드 시작", description = "멀티파트 업로드를 시작하고 uploadId와 업로드 완료 후 사용할 파일 경로를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "uploadId와 파일 경로 반환"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파일 타입 요청")
+    })
+    @PostMapping("/multipart-uploads")
+    public BaseResponse<MultipartUploadInitiateResponse> initiateMultipartUpload(
+            @RequestBody MultipartUploadInitiateRequest request) {
+        log.info("멀티파트 업로드 시작 요청: fileName={}, fileType={}", request.getFileName(), request.getFileType());
+        return new BaseResponse<>(minutesService.initiateMultipartUpload(request.getFileName(), request.getFileType()));
+    }
+
+    @Operation(summary = "멀티파트 파트 업로드 URL 일괄 발급", description = "요청한 파트 번호마다 Pre-signed URL을 발급합니다. 업로드 재개 시 남은 파트 번호만 요청합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "파트 번호별 Pre-signed URL 반환"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파트 번호 요청")
+    })
+    @PostMapping("/multipart-uploads/part-urls")
+    public BaseResponse<List<MultipartUploadPartUrl>> generatePartUploadUrls(
+            @RequestBody MultipartUploadPartUrlsRequest request) {
+        return new BaseResponse<>(minutesService.generatePartUploadUrls(request.getFilePath(), request.getUploadId(), request.getPartNumbers()));
+    }
+
+    @Operation(summary = "업로드된 파트 조회", description = "중단된 업로드를 재개할 수 있도록 이미 업로드된 파트 번호와 ETag를 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "업로드된 파트 목록 반환"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 이미 종료된 업로드")
+    })
+    @GetMapping("/multipart-uploads/parts")
+    public BaseResponse<List<MultipartUploadPart>> getUploadedParts(
+            @RequestParam String filePath,
+            @RequestParam String uploadId) {
+        return new BaseResponse<>(minutesService.getUploadedParts(filePath, uploadId));
+    }
+
+    @Operation(summary = "멀티파트 업로드 완료", description = "업로드된 파트를 하나의 파일로 합치고 파일 경로를 반환합니다. 반환된 경로로 회의록을 생성합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "업로드가 완료된 파일 경로 반환"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파트 목록")
+    })
+    @PostMapping("/multipart-uploads/complete")
+    public BaseResponse<String> completeMultipartUpload(
+            @RequestBody MultipartUploadCompleteRequest request) {
+        log.info("멀티파트 업로드 완료 요청: filePath={}", request.getFilePath());
+        return new BaseResponse<>(minutesService.completeMultipartUpload(request.getFilePath(), request.getUploadId(), request.getParts()));
+    }
+
+    @Operation(summary = "멀티파트 업로드 취소", description = "진행 중인 멀티파트 업로드를 취소하고 업로드된 파트를 삭제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "취소 성공")
+    })
+    @DeleteMapping("/multipart-uploads")
+    public BaseResponse<Void> abortMultipartUpload(
+            @RequestParam String filePath,
+            @RequestParam String uploadId) {
+        log.info("멀티파트 업로드 취소 요청: filePath={}", filePath);
+        minutesService.abortMultipartUpload(filePath, uploadId);
+        return new BaseResponse<>(SUCCESS);
+    }
+
     @Operation(summary = "음성 또는 사진 파일이 저장된 path로 회의록을 생성", description = "파일이 저장된 Object Storage의 path를 이용하여 회의록을 생성합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "생성된 회의록 정보 반환")
+            @ApiResponse(responseCode = "200", description = "생성된 회의록 정보 반환"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청을 보냄"),
+            @ApiResponse(responseCode = "429", description = "처리 대기 중인 작업이 너무 많음")
     })
     @PostMapping("/new")
-    public BaseResponse<MinutesFileUploadResponse> createMinutes(
+    public DeferredResult<BaseResponse<MinutesFileUploadResponse>> createMinutes(
+            @Parameter(description = "재시도 시 같은 값을 보내면 회의록을 다시 생성하지 않고 첫 요청의 결과를 반환")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody MinutesFileUploadRequest request) {
         log.info("파일 확인 요청: filePath={}", request.getPath());
-        MinutesFileUploadResponse response = minutesService.createMinutes(request.getPath());
-        return new BaseResponse<>(response);
+        return toDeferredResult(idempotencyService.executeAsync(idempotencyKey, "minutes.create", request,
+                () -> minutesService.createMinutes(request.getPath())));
+    }
+
+    @Operation(summary = "업로드된 파일의 임시 회의록 조회", description = "업로드 완료 이벤트로 자동 생성된 임시 회의록을 파일 경로로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "임시 회의록 정보 반환"),
+            @ApiResponse(responseCode = "404", description = "아직 이벤트가 처리되지 않았거나 존재하지 않는 파일")
+    })
+    @GetMapping("/uploads")
+    public BaseResponse<MinutesFileUploadResponse> getUploadedMinutes(
+            @RequestParam String filePath) {
+        return new BaseResponse<>(minutesService.getUploadedMinutes(filePath));
+    }
+
+    @Operation(summary = "내 AI 작업 대기 순번 조회", description = "현재 유저가 요청한 음성/사진 변환과 요약 작업의 상태와 예상 실행 순번을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "대기 및 실행 중인 작업 목록 반환")
+    })
+    @GetMapping("/ai-jobs")
+    public BaseResponse<List<AiJobStatusResponse>> getAiJobs() {
+        return new BaseResponse<>(minutesService.getAiJobs());
+    }
+
+    @Operation(summary = "여러 장의 사진 path로 회의록을 생성", description = "페이지 순서대로 전달된 사진들을 병렬로 텍스트 변환하여 하나의 회의록을 생성합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "생성된 회의록 정보 반환"),
+            @ApiResponse(responseCode = "400", description = "사진이 아닌 path 또는 허용 범위를 벗어난 사진 개수")
+    })
+    @PostMapping("/new-multi-picture")
+    public DeferredResult<BaseResponse<MinutesFileUploadResponse>> createMultiPictureMinutes(
+            @RequestBody MinutesMultiPictureUploadRequest request) {
+        log.info("여러 장 사진 회의록 생성 요청: pages={}", request.getPaths() == null ? 0 : request.getPaths().size());
+        return toDeferredResult(minutesService.createMultiPictureMinutes(
+                request.getPaths() == null ? List.of() : request.getPaths()));
     }
 
     @Operation(summary = "회의록의 텍스트 요약", description = "회의록의 텍스트를 요약하여 반환합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "요약된 텍스트 반환")
+            @ApiResponse(responseCode = "200", description = "요약된 텍스트 반환"),
+            @ApiResponse(responseCode = "400", description = "텍스트 변환이 끝나지 않았거나 내용이 없는 회의록"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청을 보냄")
     })
     @PostMapping("/{minutesId}/summarize-text")
-    public BaseResponse<MinutesSummarizeResult> summarizeText(
+    public DeferredResult<BaseResponse<MinutesSummarizeResult>> summarizeText(
+            @Parameter(description = "재시도 시 같은 값을 보내면 다시 요약하지 않고 첫 요청의 결과를 반환")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Parameter(name = "minutesId", description = "요약할 회의록의 고유 ID", required = true)
             @PathVariable Long minutesId) {
         log.info("텍스트 요약 요청: minutesId={}", minutesId);
-        MinutesSummarizeResult summarizedText = minutesService.summarizeText(minutesId);
-        return new BaseResponse<>(summarizedText);
+        return toDeferredResult(idempotencyService.executeAsync(idempotencyKey, "minutes.summarize", minutesId,
+                () -> minutesService.summarizeText(minutesId)));
     }
 
     @Operation(summary = "텍스트로 회의록을 생성", description = "사용자가 직접 텍스트를 입력하여 회의록을 생성합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "생성된 회의록 정보 반환")
+            @ApiResponse(responseCode = "200", description = "생성된 회의록 정보 반환"),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 아직 처리 중"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청을 보냄")
     })
     @PostMapping("/upload-content")
     public BaseResponse<MinutesCreateResponse> uploadManualEntry(
+            @Parameter(description = "재시도 시 같은 값을 보내면 회의록을 다시 생성하지 않고 첫 요청의 결과를 반환")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @RequestBody MinutesManuallyCreateRequest request) {
         log.info("직접 작성한 회의록 업로드 요청: minutesName={}, projectId={}", request.getMinutesName(), request.getProjectId());
-        MinutesCreateResponse response = minutesService.saveAndUploadManualEntry(request.getTextContent(), request.getMinutesName(), request.getProjectId());
+        MinutesCreateResponse response = idempotencyService.execute(idempotencyKey, "minutes.upload-content", request,
+                () -> minutesService.saveAndUploadManualEntry(request.getTextContent(), request.getMinutesName(), request.getProjectId()));
         return new BaseResponse<>(response);
     }
 
@@ -134,4 +256,22 @@ public class MinutesController {
         minutesService.deleteMinutes(minutesId);
         return new BaseResponse<>(SUCCESS);
     }
+
+    // Flask 응답을 기다리는 동안 서블릿 스레드를 반환하고, 클라이언트가 연결을 끊은 경우에만 진행 중인 호출을 취소
+    // 비동기 요청 타임아웃은 취소하지 않는다: AI 작업 대기열에서 차례를 기다리는 작업이 사라지지 않고 끝까지 실행되어 회의록이 저장된다
+    private static <T> DeferredResult<BaseResponse<T>> toDeferredResult(CompletableFuture<T> future) {
+        DeferredResult<BaseResponse<T>> deferredResult = new DeferredResult<>();
+        deferredResult.onError(e -> {
+            log.info("클라이언트 연결 종료로 진행 중인 작업 취소: {}", e.toString());
+            future.cancel(true);
+        });
+        future.whenComplete((result, e) -> {
+            if (e != null) {
+                deferredResult.setErrorResult(FlaskGateway.unwrap(e));
+            } else {
+                deferredResult.setResult(new BaseResponse<>(result));
+            }
+        });
+        return deferredResult;
+    }
 }
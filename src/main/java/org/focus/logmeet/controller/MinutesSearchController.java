@@ -7,8 +7,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.focus.logmeet.common.response.BaseResponse;
 import org.focus.logmeet.controller.dto.search.MinutesSearchHistoryResult;
+import org.focus.logmeet.controller.dto.search.MinutesSearchPageResult;
 import org.focus.logmeet.controller.dto.search.MinutesSearchRequest;
-import org.focus.logmeet.controller.dto.search.MinutesSearchResult;
+import org.focus.logmeet.controller.dto.search.MinutesSuggestResult;
 import org.focus.logmeet.service.MinutesSearchService;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,15 +24,31 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.SUCC
 public class MinutesSearchController {
     private final MinutesSearchService minutesSearchService;
 
-    @Operation(summary = "회의록 검색", description = "검색어로 회의록을 검색합니다.")
+    @Operation(summary = "회의록 검색", description = "검색어로 회의록을 검색합니다. 다음 페이지는 응답의 nextSearchAfter를 searchAfter로 전달하여 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "검색 결과 반환")
+            @ApiResponse(responseCode = "200", description = "관련도 점수를 포함한 검색 결과 페이지 반환")
     })
     @PostMapping
-    public BaseResponse<List<MinutesSearchResult>> searchMinutes(
+    public BaseResponse<MinutesSearchPageResult> searchMinutes(
             @RequestBody MinutesSearchRequest request) {
-        log.info("회의록 검색 요청: query={}", request.getQuery());
-        List<MinutesSearchResult> results = minutesSearchService.search(request.getQuery());
+        log.info("회의록 검색 요청: query={}, size={}, sort={}", request.getQuery(), request.getSize(), request.getSort());
+        MinutesSearchPageResult results = minutesSearchService.search(request);
+        return new BaseResponse<>(results);
+    }
+
+    @Operation(summary = "회의록 제목 자동완성",
+            description = "입력 중인 검색어로 시작하는 회의록 제목을 최대 size개(기본 5, 최대 10) 반환합니다. "
+                    + "클라이언트는 키 입력마다 호출하지 말고 150~300ms 디바운스 후 호출하며, "
+                    + "새 요청을 보낼 때 이전 요청은 취소하고 확정된 검색은 /search를 사용해야 합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "자동완성 제목 목록 반환")
+    })
+    @GetMapping("/suggest")
+    public BaseResponse<List<MinutesSuggestResult>> suggestTitles(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer size) {
+        log.debug("회의록 제목 자동완성 요청: prefix={}, size={}", prefix, size);
+        List<MinutesSuggestResult> results = minutesSearchService.suggest(prefix, size);
         return new BaseResponse<>(results);
     }
 
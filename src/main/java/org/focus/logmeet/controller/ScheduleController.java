@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.focus.logmeet.common.response.BaseResponse;
 import org.focus.logmeet.controller.dto.schedule.*;
+import org.focus.logmeet.service.IdempotencyService;
 import org.focus.logmeet.service.ScheduleService;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,16 +26,23 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.SUCC
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final IdempotencyService idempotencyService;
 
     @Operation(summary = "새 스케줄 생성", description = "새로운 스케줄을 생성합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "스케줄이 성공적으로 생성됨",
-                    content = @Content(schema = @Schema(implementation = ScheduleCreateResponse.class)))
+                    content = @Content(schema = @Schema(implementation = ScheduleCreateResponse.class))),
+            @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 아직 처리 중"),
+            @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청을 보냄")
     })
     @PostMapping("/new")
-    public BaseResponse<ScheduleCreateResponse> createSchedule(@RequestBody ScheduleCreateRequest request) {
+    public BaseResponse<ScheduleCreateResponse> createSchedule(
+            @Parameter(description = "재시도 시 같은 값을 보내면 스케줄을 다시 생성하지 않고 첫 요청의 결과를 반환")
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody ScheduleCreateRequest request) {
         log.info("스케줄 생성 요청: {}", request.getScheduleContent());
-        ScheduleCreateResponse response = scheduleService.createSchedule(request);
+        ScheduleCreateResponse response = idempotencyService.execute(idempotencyKey, "schedule.create", request,
+                () -> scheduleService.createSchedule(request));
         return new BaseResponse<>(response);
     }
 
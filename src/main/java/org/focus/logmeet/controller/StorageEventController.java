@@ -0,0 +1,35 @@
+package org.focus.logmeet.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.response.BaseResponse;
+import org.focus.logmeet.controller.dto.storage.StorageEventNotification;
+import org.focus.logmeet.controller.dto.storage.StorageEventResult;
+import org.focus.logmeet.service.StorageEventService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/storage-events")
+public class StorageEventController {
+
+    private final StorageEventService storageEventService;
+
+    @Operation(summary = "스토리지 객체 생성 이벤트 수신", description = "오브젝트 스토리지의 업로드 완료 알림을 받아 임시 회의록을 생성하고 텍스트 변환을 시작합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "생성된 임시 회의록 ID와 건너뛴 이벤트 수 반환"),
+            @ApiResponse(responseCode = "401", description = "알림 토큰 불일치")
+    })
+    @PostMapping
+    public BaseResponse<StorageEventResult> receive(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody StorageEventNotification notification) {
+        log.info("스토리지 이벤트 수신: records={}", notification.getRecords() == null ? 0 : notification.getRecords().size());
+        return new BaseResponse<>(storageEventService.handle(authorization, notification));
+    }
+}
@@ -0,0 +1,15 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AiJobStatusResponse {
+    private Long jobId;
+    private String kind; // VOICE, PICTURE, MULTI_PICTURE, SUMMARY
+    private String state; // QUEUED, RUNNING
+    private Integer position; // 예상 실행 순번 (1부터, 실행 중이면 0)
+    private Double estimatedSeconds;
+    private Long waitedSeconds;
+}
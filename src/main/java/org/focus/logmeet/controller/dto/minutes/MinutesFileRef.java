@@ -0,0 +1,13 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 회의록 정리 작업용 경량 조회 결과 (엔티티 로딩 없이 ID, 프로젝트, 파일 경로만 조회)
+@Getter
+@AllArgsConstructor
+public class MinutesFileRef {
+    private Long minutesId;
+    private Long projectId;
+    private String filePath;
+}
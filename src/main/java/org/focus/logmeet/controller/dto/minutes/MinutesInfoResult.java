@@ -5,6 +5,7 @@ import lombok.Getter;
 import org.focus.logmeet.domain.enums.MinutesType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @AllArgsConstructor
@@ -18,4 +19,5 @@ public class MinutesInfoResult {
     private String summary;
     private MinutesType minutesType;
     private LocalDateTime createdAt;
+    private List<String> pageFilePaths;  // MULTI_PICTURE 회의록의 이미지 경로 (페이지 순서)
 }
@@ -0,0 +1,16 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MinutesMultiPictureUploadRequest {
+    @Schema(description = "업로드한 사진 path 목록 (페이지 순서)", example = "[\"https://kr.object.ncloudstorage.com/logmeet/minutes_photo/page1.jpg\", \"https://kr.object.ncloudstorage.com/logmeet/minutes_photo/page2.jpg\"]")
+    private List<String> paths;
+}
@@ -0,0 +1,20 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadCompleteRequest {
+    @Schema(description = "업로드 시작 시 발급된 파일 path", example = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_meeting.mp3")
+    private String filePath;
+    @Schema(description = "업로드 시작 시 발급된 uploadId")
+    private String uploadId;
+    @Schema(description = "업로드한 파트의 번호와 ETag 목록. 생략하면 서버에 업로드된 파트 전체로 완료")
+    private List<MultipartUploadPart> parts;
+}
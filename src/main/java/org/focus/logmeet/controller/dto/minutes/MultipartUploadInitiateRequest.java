@@ -0,0 +1,17 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.focus.logmeet.domain.enums.MinutesType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadInitiateRequest {
+    @Schema(description = "업로드할 파일 이름", example = "meeting.mp3")
+    private String fileName;
+    @Schema(description = "파일 타입", example = "VOICE")
+    private MinutesType fileType;
+}
@@ -0,0 +1,11 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MultipartUploadInitiateResponse {
+    private String uploadId;
+    private String filePath;
+}
@@ -0,0 +1,18 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadPart {
+    @Schema(description = "파트 번호 (1부터 시작)", example = "1")
+    private Integer partNumber;
+    @Schema(description = "파트 업로드 응답의 ETag 헤더 값", example = "\"9b2cf535f27731c974343645a3985328\"")
+    private String etag;
+    @Schema(description = "업로드된 파트 크기(byte). 조회 응답에서만 사용")
+    private Long size;
+}
@@ -0,0 +1,11 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MultipartUploadPartUrl {
+    private Integer partNumber;
+    private String url;
+}
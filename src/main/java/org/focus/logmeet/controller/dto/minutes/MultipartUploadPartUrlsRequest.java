@@ -0,0 +1,20 @@
+package org.focus.logmeet.controller.dto.minutes;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadPartUrlsRequest {
+    @Schema(description = "업로드 시작 시 발급된 파일 path", example = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_meeting.mp3")
+    private String filePath;
+    @Schema(description = "업로드 시작 시 발급된 uploadId")
+    private String uploadId;
+    @Schema(description = "URL을 발급할 파트 번호 목록 (재개 시 남은 파트만 요청)", example = "[1, 2, 3]")
+    private List<Integer> partNumbers;
+}
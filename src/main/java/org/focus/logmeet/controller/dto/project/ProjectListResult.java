@@ -17,4 +17,10 @@ public class ProjectListResult {
     private ProjectColor projectColor;
     private Integer numOfMember;
     private LocalDateTime createdAt;
+
+    // JPQL 프로젝션용 생성자 (COUNT 결과는 Long)
+    public ProjectListResult(Long projectId, String projectName, Role role, Boolean bookmark,
+                             ProjectColor projectColor, Long numOfMember, LocalDateTime createdAt) {
+        this(projectId, projectName, role, bookmark, projectColor, Math.toIntExact(numOfMember), createdAt);
+    }
 }
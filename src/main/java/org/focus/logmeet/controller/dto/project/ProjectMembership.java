@@ -0,0 +1,16 @@
+package org.focus.logmeet.controller.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.focus.logmeet.domain.enums.ProjectColor;
+import org.focus.logmeet.domain.enums.Role;
+
+@Getter
+@AllArgsConstructor
+public class ProjectMembership {
+    private Long userProjectId;
+    private Long userId;
+    private Long projectId;
+    private Role role;
+    private ProjectColor color;
+}
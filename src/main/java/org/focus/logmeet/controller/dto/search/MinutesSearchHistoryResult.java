@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class MinutesSearchHistoryResult {
+    private Long historyId;
     private LocalDateTime searchDate;
     private Long minutesId;
     private String title;
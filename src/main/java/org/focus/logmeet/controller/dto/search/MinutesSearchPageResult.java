@@ -0,0 +1,19 @@
+package org.focus.logmeet.controller.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MinutesSearchPageResult {
+    private List<MinutesSearchResult> results;
+    private long totalHits;
+    private List<Object> nextSearchAfter;
+    private boolean hasNext;
+
+    public static MinutesSearchPageResult empty() {
+        return new MinutesSearchPageResult(List.of(), 0, null, false);
+    }
+}
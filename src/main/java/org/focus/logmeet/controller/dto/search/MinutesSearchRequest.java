@@ -1,12 +1,33 @@
 package org.focus.logmeet.controller.dto.search;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.focus.logmeet.domain.enums.SearchSortType;
+
+import java.util.List;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class MinutesSearchRequest {
+    @Schema(description = "검색어", example = "주간 회의")
     private String query;
+
+    @Schema(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+    private Integer size;
+
+    @Schema(description = "이전 페이지 응답의 nextSearchAfter 값 (첫 페이지는 생략)")
+    private List<Object> searchAfter;
+
+    @Schema(description = "최소 관련도 점수", example = "0.5")
+    private Float minScore;
+
+    @Schema(description = "정렬 기준 (RELEVANCE, LATEST, OLDEST)", example = "RELEVANCE")
+    private SearchSortType sort;
+
+    public MinutesSearchRequest(String query) {
+        this.query = query;
+    }
 }
@@ -13,4 +13,5 @@ public class MinutesSearchResult {
     private String title;
     private String projectName;
     private String contentSnippet;
+    private Float score;
 }
@@ -0,0 +1,11 @@
+package org.focus.logmeet.controller.dto.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MinutesSuggestResult {
+    private Long minutesId;
+    private String title;
+}
@@ -0,0 +1,56 @@
+package org.focus.logmeet.controller.dto.storage;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// S3 이벤트 알림 형식 ({"Records": [{"eventName": "ObjectCreated:Put", "s3": {"bucket": {...}, "object": {...}}}]})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class StorageEventNotification {
+    @JsonProperty("Records")
+    private List<Record> records;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Record {
+        private String eventName;
+        private S3Entity s3;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class S3Entity {
+        private Bucket bucket;
+        private StoredObject object;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Bucket {
+        private String name;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class StoredObject {
+        private String key;  // URL 인코딩된 객체 키
+        private Long size;
+        @JsonProperty("eTag")
+        private String eTag;
+    }
+}
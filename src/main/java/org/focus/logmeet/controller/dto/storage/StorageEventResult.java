@@ -0,0 +1,13 @@
+package org.focus.logmeet.controller.dto.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StorageEventResult {
+    private List<Long> createdMinutesIds;  // 새로 생성된 임시 회의록 ID
+    private int skipped;  // 대상이 아니거나 이미 처리된 이벤트 수
+}
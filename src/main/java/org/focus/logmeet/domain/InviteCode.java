@@ -8,6 +8,11 @@ import org.focus.logmeet.domain.util.BaseTimeEntity;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_invite_code_code", columnNames = "code"),
+        indexes = {
+                @Index(name = "idx_invite_code_project_expiration", columnList = "project_id, expiration_date"),
+                @Index(name = "idx_invite_code_expiration", columnList = "expiration_date")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +28,7 @@ public class InviteCode extends BaseTimeEntity {
     @JoinColumn(name = "project_id")
     private Project project;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String code;
 
     @Column(nullable = false)
@@ -7,8 +7,20 @@ import org.focus.logmeet.domain.enums.MinutesType;
 import org.focus.logmeet.domain.enums.Status;
 import org.focus.logmeet.domain.util.BaseTimeEntity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_minutes_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_minutes_content_hash", columnList = "content_hash"),
+        @Index(name = "uk_minutes_file_path_key", columnList = "file_path_key", unique = true)
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -36,9 +48,30 @@ public class Minutes extends BaseTimeEntity {
     @Column(length = 2000)
     private String filePath;
 
+    // 업로드 파일 하나로 만든 회의록(VOICE, PICTURE)의 filePath SHA-256. 같은 파일의 회의록이 두 개 생기지 않도록 유일 인덱스를 건다
+    // (filePath 는 길이 2000 이라 직접 유일 인덱스를 걸 수 없다)
+    @Column(name = "file_path_key", length = 64)
+    private String filePathKey;
+
+    // MULTI_PICTURE 회의록의 이미지 경로 (페이지 순서). filePath 에는 첫 페이지 경로가 들어간다
+    @ElementCollection
+    @CollectionTable(name = "minutes_page", joinColumns = @JoinColumn(name = "minutes_id"))
+    @OrderColumn(name = "page_index")
+    @Column(name = "file_path", length = 2000)
+    @Builder.Default
+    private List<String> pageFilePaths = new ArrayList<>();
+
     @Column(length = 2000)
     private String summary;
 
+    // 업로드 파일 지문 (etag:<스토리지 ETag>). 같은 파일의 변환 결과 재사용에 사용
+    @Column(length = 100)
+    private String contentHash;
+
+    // 파일을 업로드한 사용자 ID (프로젝트가 정해지기 전 임시 회의록의 소유자)
+    @Column(name = "uploader_id")
+    private Long uploaderId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -46,4 +79,22 @@ public class Minutes extends BaseTimeEntity {
 
     @Enumerated(EnumType.STRING)
     private MinutesType type;
+
+    @PrePersist
+    @PreUpdate
+    void updateFilePathKey() {
+        filePathKey = type == MinutesType.VOICE || type == MinutesType.PICTURE ? filePathKeyOf(filePath) : null;
+    }
+
+    public static String filePathKeyOf(String filePath) {
+        if (filePath == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(filePath.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -3,12 +3,16 @@ package org.focus.logmeet.domain;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.*;
-import org.focus.logmeet.controller.dto.search.SearchHistoryResult;
 import org.focus.logmeet.domain.util.BaseTimeEntity;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+// 유저별 최근 검색 기록 링: (user_id, minutes_id) 당 한 행만 두고 touchedAt을 갱신한다
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_history_user_minutes", columnNames = {"user_id", "minutes_id"}),
+        indexes = @Index(name = "idx_search_history_user_touched", columnList = "user_id, touched_at")
+)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -21,11 +25,14 @@ public class MinutesSearchHistory extends BaseTimeEntity {
     private Long id;
 
     @JsonBackReference
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "minutes_id")
     private Minutes minutes;
+
+    @Column(name = "touched_at")
+    private LocalDateTime touchedAt;
 }
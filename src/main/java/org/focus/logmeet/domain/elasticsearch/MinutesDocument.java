@@ -2,11 +2,12 @@ package org.focus.logmeet.domain.elasticsearch;
 
 import jakarta.persistence.Id;
 import lombok.*;
-import org.springframework.data.elasticsearch.annotations.Document;
-import org.springframework.data.elasticsearch.annotations.Field;
-import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.focus.logmeet.domain.Minutes;
+import org.springframework.data.elasticsearch.annotations.*;
 
-@Document(indexName = "minutes")
+// 제목 자동완성(title.suggest) 분석기 추가로 인덱스를 새로 생성 (기동 시 indexAllMinutes로 재색인)
+@Document(indexName = "minutes_v2")
+@Setting(settingPath = "elasticsearch/minutes-settings.json")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,9 +17,26 @@ public class MinutesDocument {
     @Id
     private Long id;
 
-    @Field(type = FieldType.Text, analyzer = "nori", searchAnalyzer = "nori")
+    @Field(type = FieldType.Long)
+    private Long projectId;
+
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "nori", searchAnalyzer = "nori"),
+            otherFields = {
+                    @InnerField(suffix = "suggest", type = FieldType.Text, analyzer = "nori_edge_ngram", searchAnalyzer = "nori")
+            }
+    )
     private String title;
 
     @Field(type = FieldType.Text, analyzer = "nori", searchAnalyzer = "nori")
     private String content;
+
+    public static MinutesDocument from(Minutes minutes) {
+        return MinutesDocument.builder()
+                .id(minutes.getId())
+                .projectId(minutes.getProject() != null ? minutes.getProject().getId() : null)
+                .title(minutes.getName())
+                .content(minutes.getClearContent())
+                .build();
+    }
 }
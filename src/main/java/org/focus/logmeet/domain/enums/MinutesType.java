@@ -3,5 +3,6 @@ package org.focus.logmeet.domain.enums;
 public enum MinutesType {
     MANUAL,
     PICTURE,
+    MULTI_PICTURE,
     VOICE
 }
@@ -0,0 +1,7 @@
+package org.focus.logmeet.domain.enums;
+
+public enum SearchSortType {
+    RELEVANCE,
+    LATEST,
+    OLDEST
+}
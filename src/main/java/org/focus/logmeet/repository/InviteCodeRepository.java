@@ -2,17 +2,29 @@ package org.focus.logmeet.repository;
 
 import org.focus.logmeet.domain.InviteCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface InviteCodeRepository extends JpaRepository<InviteCode, Long> {
-    boolean existsByCode(String code);
     Optional<InviteCode> findByCodeAndExpirationDateAfter(String code, LocalDateTime dateTime);
     @Query("SELECT ic FROM InviteCode ic WHERE ic.project.id = :projectId AND ic.expirationDate > :currentTime")
     Optional<InviteCode> findValidCodeByProjectId(@Param("projectId") Long projectId, @Param("currentTime") LocalDateTime currentTime);
+
+    // 청크 단위 삭제: 호출마다 별도 트랜잭션으로 최대 limit건만 삭제해 락 점유 시간을 짧게 유지
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM invite_code WHERE expiration_date < :cutoff ORDER BY expiration_date LIMIT :limit",
+            nativeQuery = true)
+    int deleteExpiredBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM InviteCode ic WHERE ic.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
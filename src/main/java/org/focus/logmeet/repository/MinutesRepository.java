@@ -1,21 +1,75 @@
 package org.focus.logmeet.repository;
 
+import org.focus.logmeet.controller.dto.minutes.MinutesFileRef;
 import org.focus.logmeet.domain.Minutes;
+import org.focus.logmeet.domain.enums.MinutesType;
 import org.focus.logmeet.domain.enums.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface MinutesRepository extends JpaRepository<Minutes, Long> {
-    @Query("SELECT m FROM Minutes m WHERE m.status = :status AND m.createdAt <= :timeLimit")
-    List<Minutes> findOldTemporaryMinutes(@Param("status") Status status, @Param("timeLimit") LocalDateTime timeLimit);
+    // 본문이 저장된 행은 본문이 저장된 시점(updatedAt)부터, 본문이 아직 없는 행(업로드 이벤트로 만들어져 변환 대기 중)은
+    // 변환이 끝날 수 있는 충분한 시간(pendingTimeLimit)이 지나야 정리 대상이 된다
+    @Query("SELECT new org.focus.logmeet.controller.dto.minutes.MinutesFileRef(m.id, p.id, m.filePath) " +
+            "FROM Minutes m LEFT JOIN m.project p " +
+            "WHERE m.status = :status AND ((m.content IS NOT NULL AND m.updatedAt <= :timeLimit) " +
+            "OR (m.content IS NULL AND m.createdAt <= :pendingTimeLimit)) ORDER BY m.id")
+    List<MinutesFileRef> findOldTemporaryMinutes(@Param("status") Status status, @Param("timeLimit") LocalDateTime timeLimit,
+                                                 @Param("pendingTimeLimit") LocalDateTime pendingTimeLimit, Pageable pageable);
+
+    @Query("SELECT new org.focus.logmeet.controller.dto.minutes.MinutesFileRef(m.id, m.project.id, m.filePath) " +
+            "FROM Minutes m WHERE m.project.id = :projectId ORDER BY m.id")
+    List<MinutesFileRef> findFileRefsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // 조회 후 삭제 전에 확정(TEMP→ACTIVE)된 회의록을 제외하려고, 삭제 트랜잭션 안에서 아직 정리 대상인 행만 잠가서 다시 고른다
+    @Query(value = "SELECT minutes_id FROM minutes WHERE minutes_id IN (:ids) AND status = :#{#status.name()} " +
+            "AND ((content IS NOT NULL AND updated_at <= :timeLimit) OR (content IS NULL AND created_at <= :pendingTimeLimit)) " +
+            "FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockOldTemporaryMinutesIds(@Param("ids") List<Long> ids, @Param("status") Status status,
+                                          @Param("timeLimit") LocalDateTime timeLimit,
+                                          @Param("pendingTimeLimit") LocalDateTime pendingTimeLimit);
+
+    // 엔티티를 로딩하지 않는 일괄 삭제 (MinutesRepositoryAspect를 거치지 않으므로 검색 인덱스는 호출 측에서 정리)
+    @Modifying
+    @Query("DELETE FROM Minutes m WHERE m.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("SELECT p FROM Minutes m JOIN m.pageFilePaths p WHERE m.id IN :ids")
+    List<String> findPageFilePathsByIdIn(@Param("ids") List<Long> ids);
+
+    // 회의록 벌크 삭제 전에 이미지 경로(minutes_page) 행을 먼저 삭제
+    @Modifying
+    @Query(value = "DELETE FROM minutes_page WHERE minutes_id IN (:ids)", nativeQuery = true)
+    int deletePagesByMinutesIdIn(@Param("ids") List<Long> ids);
 
     List<Minutes> findAllByProjectId(Long projectId);
 
-    @Query("SELECT m FROM Minutes m JOIN m.project p JOIN p.userProjects up WHERE up.user.id = :userId")
-    List<Minutes> findAllByUserProjects_UserId(@Param("userId") Long userId);
+    boolean existsByFilePathKey(String filePathKey);
+
+    // 사용자가 업로드했거나 속한 프로젝트의 회의록에서만 같은 지문의 변환 결과를 찾는다
+    @Query("SELECT m.content FROM Minutes m " +
+            "WHERE m.contentHash = :contentHash AND m.type = :type AND m.content IS NOT NULL " +
+            "AND (m.uploaderId = :userId OR m.project.id IN " +
+            "(SELECT up.project.id FROM UserProject up WHERE up.user.id = :userId)) ORDER BY m.id DESC")
+    List<String> findProcessedContentByHash(@Param("contentHash") String contentHash, @Param("type") MinutesType type,
+                                            @Param("userId") Long userId, Pageable pageable);
+
+    Optional<Minutes> findByFilePathKey(String filePathKey);
+
+    // 주어진 파일 경로 키(Minutes.filePathKeyOf) 중 아직 회의록 본문 파일로 참조되는 경로 (file_path_key 유니크 인덱스 사용)
+    @Query("SELECT m.filePath FROM Minutes m WHERE m.filePathKey IN :filePathKeys")
+    List<String> findReferencedFilePathsByKeys(@Param("filePathKeys") List<String> filePathKeys);
+
+    // 주어진 파일 경로 중 아직 여러 장 사진 회의록의 페이지 이미지로 참조되는 경로
+    @Query("SELECT p FROM Minutes m JOIN m.pageFilePaths p WHERE p IN :filePaths")
+    List<String> findReferencedPageFilePaths(@Param("filePaths") List<String> filePaths);
 
 }
@@ -1,16 +1,46 @@
 package org.focus.logmeet.repository;
 
-import jakarta.transaction.Transactional;
+import org.focus.logmeet.controller.dto.search.MinutesSearchHistoryResult;
 import org.focus.logmeet.domain.MinutesSearchHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface MinutesSearchHistoryRepository extends JpaRepository<MinutesSearchHistory, Long> {
-    List<MinutesSearchHistory> findByUserIdOrderByCreatedAtDesc(Long userId);
 
-    List<MinutesSearchHistory> findByUserIdOrderByCreatedAtAsc(Long userId);
-    boolean existsByUserIdAndMinutesId(Long userId, Long minutesId);
-    @Transactional
-    void deleteByUserIdAndMinutesId(Long userId, Long minutesId);
+    // 새 행이면 1, 기존 행의 touched_at만 갱신했으면 2를 반환 (MySQL affected rows 규칙)
+    @Modifying
+    @Query(value = "INSERT INTO minutes_search_history (user_id, minutes_id, created_at, updated_at, touched_at) " +
+            "VALUES (:userId, :minutesId, :now, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE touched_at = VALUES(touched_at), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("minutesId") Long minutesId, @Param("now") LocalDateTime now);
+
+    // 최근 keep개를 제외한 나머지 삭제 (MySQL은 같은 테이블 서브쿼리에 파생 테이블이 필요)
+    @Modifying
+    @Query(value = "DELETE FROM minutes_search_history WHERE user_id = :userId AND id NOT IN (" +
+            "SELECT id FROM (SELECT id FROM minutes_search_history WHERE user_id = :userId " +
+            "ORDER BY COALESCE(touched_at, created_at) DESC, id DESC LIMIT :keep) recent)",
+            nativeQuery = true)
+    int trimToRecent(@Param("userId") Long userId, @Param("keep") int keep);
+
+    @Query("SELECT new org.focus.logmeet.controller.dto.search.MinutesSearchHistoryResult(" +
+            "h.id, COALESCE(h.touchedAt, h.createdAt), m.id, m.name, p.name) " +
+            "FROM MinutesSearchHistory h JOIN h.minutes m LEFT JOIN m.project p " +
+            "WHERE h.user.id = :userId " +
+            "ORDER BY COALESCE(h.touchedAt, h.createdAt) DESC, h.id DESC")
+    List<MinutesSearchHistoryResult> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MinutesSearchHistory h WHERE h.id = :historyId AND h.user.id = :userId")
+    int deleteByIdAndUserId(@Param("historyId") Long historyId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM MinutesSearchHistory h WHERE h.minutes.id IN :minutesIds")
+    int deleteAllByMinutesIdIn(@Param("minutesIds") List<Long> minutesIds);
 }
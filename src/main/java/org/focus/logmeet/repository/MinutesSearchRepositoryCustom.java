@@ -0,0 +1,16 @@
+package org.focus.logmeet.repository;
+
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.util.List;
+
+public interface MinutesSearchRepositoryCustom {
+    // search_after 커서 기반 페이지 검색 (점수 포함)
+    SearchHits<MinutesDocument> searchPage(String query, List<Long> projectIds, int size,
+                                           List<Object> searchAfter, Float minScore, SearchSortType sort);
+
+    // title.suggest(edge-ngram) 필드 기반 제목 자동완성
+    List<MinutesDocument> suggestTitles(String prefix, List<Long> projectIds, int size);
+}
@@ -0,0 +1,77 @@
+package org.focus.logmeet.repository;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import lombok.RequiredArgsConstructor;
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MinutesSearchRepositoryCustomImpl implements MinutesSearchRepositoryCustom {
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public SearchHits<MinutesDocument> searchPage(String query, List<Long> projectIds, int size,
+                                                  List<Object> searchAfter, Float minScore, SearchSortType sort) {
+        List<FieldValue> projectIdValues = toFieldValues(projectIds);
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .filter(f -> f.terms(t -> t.field("projectId").terms(v -> v.value(projectIdValues))))
+                        .should(s -> s.matchPhrase(mp -> mp.field("content").query(query).analyzer("nori")))
+                        .should(s -> s.matchPhrase(mp -> mp.field("title").query(query).analyzer("nori")))
+                        .minimumShouldMatch("1")))
+                .withPageable(PageRequest.of(0, size))
+                .withTrackScores(true);
+
+        // search_after는 유일한 정렬 키가 필요하므로 항상 id를 tie-breaker로 둔다
+        switch (sort) {
+            case RELEVANCE -> builder
+                    .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                    .withSort(s -> s.field(f -> f.field("id").order(SortOrder.Asc)));
+            case LATEST -> builder.withSort(s -> s.field(f -> f.field("id").order(SortOrder.Desc)));
+            case OLDEST -> builder.withSort(s -> s.field(f -> f.field("id").order(SortOrder.Asc)));
+        }
+
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            builder.withSearchAfter(searchAfter);
+        }
+        if (minScore != null) {
+            builder.withMinScore(minScore);
+        }
+
+        return elasticsearchOperations.search(builder.build(), MinutesDocument.class);
+    }
+
+    @Override
+    public List<MinutesDocument> suggestTitles(String prefix, List<Long> projectIds, int size) {
+        List<FieldValue> projectIdValues = toFieldValues(projectIds);
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .filter(f -> f.terms(t -> t.field("projectId").terms(v -> v.value(projectIdValues))))
+                        .must(m -> m.match(mt -> mt.field("title.suggest").query(prefix).operator(Operator.And)))))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes("id", "projectId", "title").build())
+                .withPageable(PageRequest.of(0, size))
+                .withTrackTotalHits(false)
+                .build();
+
+        return elasticsearchOperations.search(query, MinutesDocument.class).stream()
+                .map(SearchHit::getContent)
+                .toList();
+    }
+
+    private List<FieldValue> toFieldValues(List<Long> ids) {
+        return ids.stream().map(id -> FieldValue.of(id.longValue())).toList();
+    }
+}
@@ -1,7 +1,21 @@
 package org.focus.logmeet.repository;
 
 import org.focus.logmeet.domain.Project;
+import org.focus.logmeet.domain.enums.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    @Query("SELECT p.id FROM Project p WHERE p.status = :status ORDER BY p.id")
+    List<Long> findIdsByStatus(@Param("status") Status status, Pageable pageable);
+
+    // 하위 데이터 정리가 끝난 프로젝트 행만 삭제 (컬렉션 cascade를 거치지 않는 벌크 삭제)
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :projectId AND p.status = :status")
+    int deleteByIdAndStatus(@Param("projectId") Long projectId, @Param("status") Status status);
 }
@@ -2,6 +2,7 @@ package org.focus.logmeet.repository;
 
 import org.focus.logmeet.domain.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -23,4 +24,7 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     @Query("SELECT s FROM Schedule s WHERE s.project.id IN (SELECT up.project.id FROM UserProject up WHERE up.user.id = :userId) AND DATE(s.scheduleDate) = :date")
     List<Schedule> findByUserIdAndDate(@Param("userId") Long userId, @Param("date") LocalDate date);
 
+    @Modifying
+    @Query("DELETE FROM Schedule s WHERE s.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
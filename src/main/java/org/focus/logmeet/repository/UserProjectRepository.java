@@ -1,9 +1,16 @@
 package org.focus.logmeet.repository;
 
+import org.focus.logmeet.controller.dto.project.ProjectListResult;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
+import org.focus.logmeet.controller.dto.project.UserProjectDto;
 import org.focus.logmeet.domain.Project;
 import org.focus.logmeet.domain.User;
 import org.focus.logmeet.domain.UserProject;
+import org.focus.logmeet.domain.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +18,46 @@ import java.util.Optional;
 public interface UserProjectRepository extends JpaRepository<UserProject, Long> {
     Optional<UserProject> findByUserAndProject(User user, Project project);
     Optional<UserProject> findByUserIdAndProject(Long userId, Project project);
+    Optional<UserProject> findByUserIdAndProjectId(Long userId, Long projectId);
+    Optional<UserProject> findFirstByProjectIdAndRole(Long projectId, Role role);
 
     List<UserProject> findAllByUser(User user);
     boolean existsByUserAndProject(User user, Project project);
+    boolean existsByUserIdAndProjectId(Long userId, Long projectId);
+
+    @Query("SELECT up.project.id FROM UserProject up WHERE up.user.id = :userId ORDER BY up.project.id")
+    List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new org.focus.logmeet.controller.dto.project.ProjectListResult(" +
+            "p.id, p.name, up.role, up.bookmark, up.color, COUNT(member), p.createdAt) " +
+            "FROM UserProject up JOIN up.project p JOIN p.userProjects member " +
+            "WHERE up.user.id = :userId " +
+            "GROUP BY up.id, p.id, p.name, up.role, up.bookmark, up.color, p.createdAt " +
+            "ORDER BY up.id")
+    List<ProjectListResult> findProjectListByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new org.focus.logmeet.controller.dto.project.ProjectListResult(" +
+            "p.id, p.name, up.role, up.bookmark, up.color, COUNT(member), p.createdAt) " +
+            "FROM UserProject up JOIN up.project p JOIN p.userProjects member " +
+            "WHERE up.user.id = :userId AND up.bookmark = true " +
+            "GROUP BY up.id, p.id, p.name, up.role, up.bookmark, up.color, p.createdAt " +
+            "ORDER BY up.id")
+    List<ProjectListResult> findBookmarkedProjectListByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new org.focus.logmeet.controller.dto.project.UserProjectDto(" +
+            "up.id, u.id, u.name, up.role, up.bookmark, up.color) " +
+            "FROM UserProject up JOIN up.user u " +
+            "WHERE up.project.id = :projectId " +
+            "ORDER BY up.id")
+    List<UserProjectDto> findMemberDtosByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT new org.focus.logmeet.controller.dto.project.ProjectMembership(" +
+            "up.id, up.user.id, up.project.id, up.role, up.color) " +
+            "FROM UserProject up " +
+            "WHERE up.user.id = :userId AND up.project.id = :projectId")
+    Optional<ProjectMembership> findMembership(@Param("userId") Long userId, @Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM UserProject up WHERE up.project.id = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
 }
@@ -0,0 +1,58 @@
+package org.focus.logmeet.repository.search;
+
+import lombok.RequiredArgsConstructor;
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.focus.logmeet.repository.MinutesSearchRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Profile("!local-search")
+@RequiredArgsConstructor
+public class ElasticsearchMinutesSearchEngine implements MinutesSearchEngine {
+    private final MinutesSearchRepository minutesSearchRepository;
+
+    @Override
+    public void save(MinutesDocument document) {
+        minutesSearchRepository.save(document);
+    }
+
+    @Override
+    public void saveAll(List<MinutesDocument> documents) {
+        minutesSearchRepository.saveAll(documents);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        minutesSearchRepository.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        minutesSearchRepository.deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllByProjectId(Long projectId) {
+        minutesSearchRepository.deleteByProjectId(projectId);
+    }
+
+    @Override
+    public MinutesSearchHits searchPage(String query, List<Long> projectIds, int size,
+                                        List<Object> searchAfter, Float minScore, SearchSortType sort) {
+        SearchHits<MinutesDocument> searchHits = minutesSearchRepository.searchPage(query, projectIds, size, searchAfter, minScore, sort);
+        List<MinutesSearchHit> hits = searchHits.getSearchHits().stream()
+                .map(hit -> new MinutesSearchHit(hit.getContent(), hit.getScore(), hit.getSortValues()))
+                .toList();
+        return new MinutesSearchHits(hits, searchHits.getTotalHits());
+    }
+
+    @Override
+    public List<MinutesDocument> suggestTitles(String prefix, List<Long> projectIds, int size) {
+        return minutesSearchRepository.suggestTitles(prefix, projectIds, size);
+    }
+}
@@ -0,0 +1,271 @@
+package org.focus.logmeet.repository.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Elasticsearch 없이 동작하는 프로세스 내 역색인 검색 엔진 (local-search 프로필).
+ * n-gram 역색인으로 후보를 좁힌 뒤 정규화된 본문에서 구문 일치를 확인하므로 ES의 match_phrase와 같은 결과 집합을 돌려준다.
+ * 개발/CI 및 소규모 배포용이며 노드 간에 공유되지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("local-search")
+public class InMemoryMinutesSearchEngine implements MinutesSearchEngine {
+    private static final float TITLE_WEIGHT = 2.0f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<String, Set<Long>> titlePostings = new HashMap<>();
+
+    @Override
+    public void save(MinutesDocument document) {
+        lock.writeLock().lock();
+        try {
+            index(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(List<MinutesDocument> newDocuments) {
+        lock.writeLock().lock();
+        try {
+            newDocuments.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("로컬 검색 인덱스 갱신: {}개 문서", newDocuments.size());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        deleteAllById(List.of(id));
+    }
+
+    @Override
+    public void deleteAllById(List<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAllByProjectId(Long projectId) {
+        lock.writeLock().lock();
+        try {
+            List<Long> ids = documents.values().stream()
+                    .filter(indexed -> projectId.equals(indexed.projectId))
+                    .map(indexed -> indexed.document.getId())
+                    .toList();
+            ids.forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public MinutesSearchHits searchPage(String query, List<Long> projectIds, int size,
+                                        List<Object> searchAfter, Float minScore, SearchSortType sort) {
+        String phrase = KoreanNgramTokenizer.normalize(query);
+        Set<String> queryTokens = KoreanNgramTokenizer.queryTokens(query);
+        if (phrase.isEmpty() || queryTokens.isEmpty()) {
+            return new MinutesSearchHits(List.of(), 0);
+        }
+        Set<Long> projectFilter = new HashSet<>(projectIds);
+
+        List<ScoredDocument> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : intersect(postings, queryTokens)) {
+                IndexedDocument indexed = documents.get(id);
+                if (!projectFilter.contains(indexed.projectId)) {
+                    continue;
+                }
+                float score = score(indexed, phrase);
+                if (score <= 0 || (minScore != null && score < minScore)) {
+                    continue;
+                }
+                matches.add(new ScoredDocument(indexed.document, score));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort((a, b) -> compare(sort, a.score, a.id(), b.score, b.id()));
+
+        ScoredDocument cursor = toCursor(sort, searchAfter);
+        List<MinutesSearchHit> page = matches.stream()
+                .filter(match -> cursor == null || compare(sort, match.score, match.id(), cursor.score, cursor.id()) > 0)
+                .limit(size)
+                .map(match -> new MinutesSearchHit(match.document, match.score, sortValues(sort, match)))
+                .toList();
+
+        return new MinutesSearchHits(page, matches.size());
+    }
+
+    @Override
+    public List<MinutesDocument> suggestTitles(String prefix, List<Long> projectIds, int size) {
+        List<String> prefixWords = KoreanNgramTokenizer.words(prefix);
+        if (prefixWords.isEmpty()) {
+            return List.of();
+        }
+        Set<String> prefixTokens = new HashSet<>();
+        prefixWords.forEach(word -> prefixTokens.add(word.substring(0, Math.min(2, word.length()))));
+        Set<Long> projectFilter = new HashSet<>(projectIds);
+
+        lock.readLock().lock();
+        try {
+            return intersect(titlePostings, prefixTokens).stream()
+                    .map(documents::get)
+                    .filter(indexed -> projectFilter.contains(indexed.projectId))
+                    .filter(indexed -> prefixWords.stream().allMatch(word ->
+                            indexed.titleWords.stream().anyMatch(titleWord -> titleWord.startsWith(word))))
+                    .sorted(Comparator.comparingInt((IndexedDocument indexed) -> indexed.normalizedTitle.length())
+                            .thenComparing(indexed -> indexed.document.getId(), Comparator.reverseOrder()))
+                    .limit(size)
+                    .map(indexed -> indexed.document)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(MinutesDocument document) {
+        remove(document.getId());
+        IndexedDocument indexed = new IndexedDocument(document);
+        documents.put(document.getId(), indexed);
+        indexed.tokens.forEach(token -> postings.computeIfAbsent(token, k -> new HashSet<>()).add(document.getId()));
+        indexed.titleTokens.forEach(token -> titlePostings.computeIfAbsent(token, k -> new HashSet<>()).add(document.getId()));
+    }
+
+    private void remove(Long id) {
+        IndexedDocument removed = documents.remove(id);
+        if (removed == null) {
+            return;
+        }
+        removePostings(postings, removed.tokens, id);
+        removePostings(titlePostings, removed.titleTokens, id);
+    }
+
+    private static void removePostings(Map<String, Set<Long>> index, Set<String> tokens, Long id) {
+        for (String token : tokens) {
+            Set<Long> ids = index.get(token);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    index.remove(token);
+                }
+            }
+        }
+    }
+
+    // 가장 짧은 posting list부터 교집합을 구한다
+    private static Set<Long> intersect(Map<String, Set<Long>> index, Set<String> tokens) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String token : tokens) {
+            Set<Long> ids = index.get(token);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static float score(IndexedDocument indexed, String phrase) {
+        int titleHits = countOccurrences(indexed.normalizedTitle, phrase);
+        int contentHits = countOccurrences(indexed.normalizedContent, phrase);
+        float score = 0;
+        if (titleHits > 0) {
+            score += TITLE_WEIGHT * (1 + (float) Math.log(titleHits));
+        }
+        if (contentHits > 0) {
+            score += 1 + (float) Math.log(contentHits);
+        }
+        return score;
+    }
+
+    private static int countOccurrences(String text, String phrase) {
+        int count = 0;
+        int index = text.indexOf(phrase);
+        while (index != -1) {
+            count++;
+            index = text.indexOf(phrase, index + phrase.length());
+        }
+        return count;
+    }
+
+    private static int compare(SearchSortType sort, float score1, long id1, float score2, long id2) {
+        return switch (sort) {
+            case RELEVANCE -> {
+                int byScore = Float.compare(score2, score1);
+                yield byScore != 0 ? byScore : Long.compare(id1, id2);
+            }
+            case LATEST -> Long.compare(id2, id1);
+            case OLDEST -> Long.compare(id1, id2);
+        };
+    }
+
+    private static List<Object> sortValues(SearchSortType sort, ScoredDocument match) {
+        return sort == SearchSortType.RELEVANCE ? List.of(match.score, match.id()) : List.of(match.id());
+    }
+
+    // JSON으로 왕복한 커서 값은 Integer/Double 등으로 들어오므로 Number로 해석한다
+    private static ScoredDocument toCursor(SearchSortType sort, List<Object> searchAfter) {
+        if (searchAfter == null || searchAfter.isEmpty()) {
+            return null;
+        }
+        if (sort == SearchSortType.RELEVANCE) {
+            float score = ((Number) searchAfter.get(0)).floatValue();
+            long id = searchAfter.size() > 1 ? ((Number) searchAfter.get(1)).longValue() : Long.MIN_VALUE;
+            return new ScoredDocument(MinutesDocument.builder().id(id).build(), score);
+        }
+        long id = ((Number) searchAfter.get(0)).longValue();
+        return new ScoredDocument(MinutesDocument.builder().id(id).build(), 0);
+    }
+
+    private static final class IndexedDocument {
+        private final MinutesDocument document;
+        private final Long projectId;
+        private final String normalizedTitle;
+        private final String normalizedContent;
+        private final List<String> titleWords;
+        private final Set<String> titleTokens;
+        private final Set<String> tokens;
+
+        private IndexedDocument(MinutesDocument document) {
+            this.document = document;
+            this.projectId = document.getProjectId();
+            this.normalizedTitle = KoreanNgramTokenizer.normalize(document.getTitle());
+            this.normalizedContent = KoreanNgramTokenizer.normalize(document.getContent());
+            this.titleWords = KoreanNgramTokenizer.words(document.getTitle());
+            this.titleTokens = KoreanNgramTokenizer.tokens(document.getTitle());
+            this.tokens = new HashSet<>(titleTokens);
+            this.tokens.addAll(KoreanNgramTokenizer.tokens(document.getContent()));
+        }
+    }
+
+    private record ScoredDocument(MinutesDocument document, float score) {
+        private long id() {
+            return document.getId();
+        }
+    }
+}
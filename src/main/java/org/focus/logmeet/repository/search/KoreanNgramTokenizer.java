@@ -0,0 +1,61 @@
+package org.focus.logmeet.repository.search;
+
+import java.util.*;
+
+/**
+ * 프로세스 내 검색용 토크나이저.
+ * 형태소 분석 없이 단어별 1-gram, 2-gram을 만들어 한글 조사/어미가 붙은 어절도 부분 일치로 찾을 수 있게 한다.
+ */
+public final class KoreanNgramTokenizer {
+    private KoreanNgramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+
+    public static List<String> words(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public static Set<String> tokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 2 <= word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어는 가장 선택도가 높은 토큰만 사용 (2글자 이상 단어는 2-gram, 1글자 단어는 1-gram)
+    public static Set<String> queryTokens(String query) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : words(query)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+}
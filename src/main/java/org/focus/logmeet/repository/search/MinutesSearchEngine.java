@@ -0,0 +1,28 @@
+package org.focus.logmeet.repository.search;
+
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+
+import java.util.List;
+
+/**
+ * 회의록 전문 검색 엔진.
+ * 기본은 Elasticsearch({@link ElasticsearchMinutesSearchEngine})이며,
+ * local-search 프로필에서는 프로세스 내 인덱스({@link InMemoryMinutesSearchEngine})를 사용한다.
+ */
+public interface MinutesSearchEngine {
+    void save(MinutesDocument document);
+
+    void saveAll(List<MinutesDocument> documents);
+
+    void deleteById(Long id);
+
+    void deleteAllById(List<Long> ids);
+
+    void deleteAllByProjectId(Long projectId);
+
+    MinutesSearchHits searchPage(String query, List<Long> projectIds, int size,
+                                 List<Object> searchAfter, Float minScore, SearchSortType sort);
+
+    List<MinutesDocument> suggestTitles(String prefix, List<Long> projectIds, int size);
+}
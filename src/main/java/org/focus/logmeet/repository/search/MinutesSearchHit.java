@@ -0,0 +1,15 @@
+package org.focus.logmeet.repository.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MinutesSearchHit {
+    private MinutesDocument document;
+    private float score;
+    private List<Object> sortValues;
+}
@@ -0,0 +1,13 @@
+package org.focus.logmeet.repository.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MinutesSearchHits {
+    private List<MinutesSearchHit> hits;
+    private long totalHits;
+}
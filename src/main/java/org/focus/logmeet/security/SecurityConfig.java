@@ -1,9 +1,11 @@
 package org.focus.logmeet.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.focus.logmeet.security.jwt.JwtAuthFilter;
 import org.focus.logmeet.security.jwt.JwtProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -23,10 +25,14 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public JwtAuthFilter jwtAuthFilter() {
         log.info("JwtAuthFilter Bean 생성");
-        return new JwtAuthFilter(jwtProvider);
+        return new JwtAuthFilter(jwtProvider, managementPort);
     }
 
     @Bean
@@ -40,7 +46,13 @@ public class SecurityConfig {
         http.csrf(CsrfConfigurer::disable).sessionManagement(sessionManagement -> sessionManagement
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        // 비동기 응답(DeferredResult) 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**", "/swagger-ui/**", "v3/**").permitAll()
+                        // Actuator 는 외부에 노출하지 않는 관리 포트에서만 제공 (서비스 포트에는 매핑되지 않고 인증이 필요)
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        // 스토리지 알림은 JWT 대신 공유 토큰으로 검증 (StorageEventService)
+                        .requestMatchers("/storage-events").permitAll()
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthFilter(), UsernamePasswordAuthenticationFilter.class);
 
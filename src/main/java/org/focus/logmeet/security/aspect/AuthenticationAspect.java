@@ -2,9 +2,9 @@ package org.focus.logmeet.security.aspect;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.focus.logmeet.common.exception.BaseException;
 import org.focus.logmeet.domain.User;
 import org.focus.logmeet.repository.UserRepository;
@@ -22,9 +22,26 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
 public class AuthenticationAspect {
     private final UserRepository userRepository;
 
-    @Before("@annotation(org.focus.logmeet.security.annotation.CurrentUser)")
-    public void injectCurrentUser() {
+    // 호출 구간 동안만 현재 사용자를 바인딩하고, 종료 시 이전 값으로 되돌린다.
+    // 중첩된 @CurrentUser 호출이 바깥 호출의 사용자를 지우지 않고, 가상 스레드가 값을 남긴 채 끝나지 않도록 함
+    @Around("@annotation(org.focus.logmeet.security.annotation.CurrentUser)")
+    public Object bindCurrentUser(ProceedingJoinPoint joinPoint) throws Throwable {
+        User previous = CurrentUserHolder.get();
+        if (previous != null) {
+            log.debug("이미 바인딩된 사용자 재사용: userId={}", previous.getId());
+            return joinPoint.proceed();
+        }
+
+        CurrentUserHolder.set(resolveCurrentUser());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            log.debug("CurrentUserHolder clear 호출");
+            CurrentUserHolder.clear();
+        }
+    }
 
+    private User resolveCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         log.debug("Authentication 객체: {}", authentication);
 
@@ -34,18 +51,11 @@ public class AuthenticationAspect {
             Long userId = userDetails.getId();
             User currentUser = userRepository.findById(userId)
                     .orElseThrow(() -> new BaseException(USER_NOT_FOUND));
-            CurrentUserHolder.set(currentUser);
             log.info("현재 인증된 사용자: {} (ID: {})", currentUser.getName(), currentUser.getId());
-        } else {
-            log.error("인증되지 않은 접근 시도: {}", authentication);
-
-            throw new BaseException(USER_NOT_AUTHENTICATED);
+            return currentUser;
         }
-    }
 
-    @After("@annotation(org.focus.logmeet.security.annotation.CurrentUser)")
-    public void clearCurrentUser() {
-        log.debug("CurrentUserHolder clear 호출");
-        CurrentUserHolder.clear();
+        log.error("인증되지 않은 접근 시도: {}", authentication);
+        throw new BaseException(USER_NOT_AUTHENTICATED);
     }
 }
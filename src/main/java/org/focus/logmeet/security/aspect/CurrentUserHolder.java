@@ -2,6 +2,8 @@ package org.focus.logmeet.security.aspect;
 
 import org.focus.logmeet.domain.User;
 
+// AuthenticationAspect 가 @CurrentUser 호출 구간에서만 set/clear 한다.
+// 요청 스레드(플랫폼/가상)에 묶이므로 다른 실행기로 넘긴 작업에서는 조회되지 않는다.
 public class CurrentUserHolder {
     private CurrentUserHolder() {
     }
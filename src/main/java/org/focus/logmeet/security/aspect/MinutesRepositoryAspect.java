@@ -4,9 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
+import org.focus.logmeet.common.cache.SearchResultCache;
 import org.focus.logmeet.domain.Minutes;
 import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
-import org.focus.logmeet.repository.MinutesSearchRepository;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
 import org.springframework.stereotype.Component;
 
 @Aspect
@@ -14,24 +15,31 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 @Slf4j
 public class MinutesRepositoryAspect {
-    private final MinutesSearchRepository minutesSearchRepository;
+    private final MinutesSearchEngine minutesSearchEngine;
+    private final SearchResultCache searchResultCache;
 
     @AfterReturning(value = "execution(* org.focus.logmeet.repository.MinutesRepository.save(..))", returning = "minutes")
     public void afterSave(Minutes minutes) {
-        log.info("Elasticsearch에 인덱싱 시작: {}", minutes.getId());
-        MinutesDocument document = MinutesDocument.builder()
-                .id(minutes.getId())
-                .title(minutes.getName())
-                .content(minutes.getClearContent())
-                .build();
-        minutesSearchRepository.save(document);
-        log.info("Elasticsearch에 인덱싱 완료: {}", minutes.getId());
+        log.info("검색 인덱싱 시작: {}", minutes.getId());
+        MinutesDocument document = MinutesDocument.from(minutes);
+        minutesSearchEngine.save(document);
+        invalidateSearchCache(document.getProjectId());
+        log.info("검색 인덱싱 완료: {}", minutes.getId());
     }
 
     @AfterReturning("execution(* org.focus.logmeet.repository.MinutesRepository.delete(..)) && args(minutes)")
     public void afterDelete(Minutes minutes) {
-        log.info("Elasticsearch에서 삭제 시작: {}", minutes.getId());
-        minutesSearchRepository.deleteById(minutes.getId());
-        log.info("Elasticsearch에서 삭제 완료: {}", minutes.getId());
+        log.info("검색 인덱스에서 삭제 시작: {}", minutes.getId());
+        minutesSearchEngine.deleteById(minutes.getId());
+        if (minutes.getProject() != null) {
+            invalidateSearchCache(minutes.getProject().getId());
+        }
+        log.info("검색 인덱스에서 삭제 완료: {}", minutes.getId());
+    }
+
+    private void invalidateSearchCache(Long projectId) {
+        if (projectId != null) {
+            searchResultCache.invalidateProject(projectId);
+        }
     }
 }
@@ -25,6 +25,8 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
+    // 관리 포트(Actuator)로 들어온 요청은 JWT 없이 통과시킨다 (SecurityConfig 에서 관리 포트 요청을 허용)
+    private final int managementPort;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
@@ -84,10 +86,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (request.getLocalPort() == managementPort) {
+            return true;
+        }
         String path = request.getRequestURI();
         return new AntPathMatcher().match("/auth/**", path) ||
                 new AntPathMatcher().match("/swagger-ui/**", path) ||
-                new AntPathMatcher().match("/v3/**", path);
+                new AntPathMatcher().match("/v3/**", path) ||
+                new AntPathMatcher().match("/storage-events", path);
     }
 
     public void setAuthentication(String email) {
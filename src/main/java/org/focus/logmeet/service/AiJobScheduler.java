@@ -0,0 +1,394 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.minutes.AiJobStatusResponse;
+import org.focus.logmeet.domain.Project;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.focus.logmeet.security.user.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_AI_JOB_QUEUE_FULL;
+
+/**
+ * Flask(STT/OCR/요약) 작업 스케줄러. 작업을 테넌트(프로젝트, 프로젝트가 정해지기 전의 업로드는 요청한 사용자)별 대기열에 넣고
+ * 테넌트를 번갈아 가며 실행해 한 테넌트의 대량 업로드가 다른 테넌트의 작업을 막지 않게 한다.
+ * 같은 테넌트 안에서는 예상 처리 시간이 짧은 작업부터 실행하되, 기다린 시간만큼 우선순위를 올려 긴 작업이 계속 밀리지 않게 한다.
+ * 전체 및 테넌트별 동시 실행 작업 수를 제한한다. 대기열은 노드별로 관리된다.
+ * 요청한 사용자가 응답을 기다리지 않는 작업(업로드 이벤트)은 대기열이 가득 차면 버리지 않고 잠시 뒤 다시 등록한다.
+ */
+@Slf4j
+@Component
+public class AiJobScheduler {
+
+    private static final String QUEUED = "QUEUED";
+    private static final String RUNNING = "RUNNING";
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    private final int maxConcurrentJobs;
+    private final int tenantMaxConcurrentJobs;
+    private final int tenantMaxQueuedJobs;
+    private final double agingFactor;
+    private final double voiceSecondsPerMb;
+    private final double voiceDefaultSeconds;
+    private final double pictureSecondsPerPage;
+    private final double summarySecondsPer1000Chars;
+    private final int submitMaxRetries;
+    private final Executor retryExecutor;
+    private final LongSupplier nanoTime;
+    private final Timer waitTimer;
+    private final Counter droppedCounter;
+
+    // 아래 상태는 모두 this 로 동기화
+    private final Map<String, Tenant> tenants = new HashMap<>();
+    private final Deque<Tenant> rotation = new ArrayDeque<>(); // 대기 작업이 있는 테넌트 (다음 차례 순)
+    private final Set<Job<?>> runningJobs = new HashSet<>();
+    private final AtomicLong jobIds = new AtomicLong();
+
+    @Autowired
+    public AiJobScheduler(MeterRegistry meterRegistry,
+                          @Value("${ai.scheduler.max-concurrent-jobs:8}") int maxConcurrentJobs,
+                          @Value("${ai.scheduler.tenant-max-concurrent-jobs:2}") int tenantMaxConcurrentJobs,
+                          @Value("${ai.scheduler.tenant-max-queued-jobs:200}") int tenantMaxQueuedJobs,
+                          @Value("${ai.scheduler.aging-factor:1.0}") double agingFactor,
+                          @Value("${ai.scheduler.estimate.voice-seconds-per-mb:30}") double voiceSecondsPerMb,
+                          @Value("${ai.scheduler.estimate.voice-default-seconds:300}") double voiceDefaultSeconds,
+                          @Value("${ai.scheduler.estimate.picture-seconds-per-page:5}") double pictureSecondsPerPage,
+                          @Value("${ai.scheduler.estimate.summary-seconds-per-1000-chars:3}") double summarySecondsPer1000Chars,
+                          @Value("${ai.scheduler.submit-retry-delay-seconds:30}") long submitRetryDelaySeconds,
+                          @Value("${ai.scheduler.submit-max-retries:20}") int submitMaxRetries) {
+        this(meterRegistry, maxConcurrentJobs, tenantMaxConcurrentJobs, tenantMaxQueuedJobs, agingFactor,
+                voiceSecondsPerMb, voiceDefaultSeconds, pictureSecondsPerPage, summarySecondsPer1000Chars, submitMaxRetries,
+                CompletableFuture.delayedExecutor(submitRetryDelaySeconds, TimeUnit.SECONDS), System::nanoTime);
+    }
+
+    AiJobScheduler(MeterRegistry meterRegistry, int maxConcurrentJobs, int tenantMaxConcurrentJobs, int tenantMaxQueuedJobs,
+                   double agingFactor, double voiceSecondsPerMb, double voiceDefaultSeconds, double pictureSecondsPerPage,
+                   double summarySecondsPer1000Chars, int submitMaxRetries, Executor retryExecutor, LongSupplier nanoTime) {
+        this.maxConcurrentJobs = Math.max(1, maxConcurrentJobs);
+        this.tenantMaxConcurrentJobs = Math.max(1, tenantMaxConcurrentJobs);
+        this.tenantMaxQueuedJobs = Math.max(1, tenantMaxQueuedJobs);
+        this.agingFactor = agingFactor;
+        this.voiceSecondsPerMb = voiceSecondsPerMb;
+        this.voiceDefaultSeconds = voiceDefaultSeconds;
+        this.pictureSecondsPerPage = pictureSecondsPerPage;
+        this.summarySecondsPer1000Chars = summarySecondsPer1000Chars;
+        this.submitMaxRetries = Math.max(0, submitMaxRetries);
+        this.retryExecutor = retryExecutor;
+        this.nanoTime = nanoTime;
+        this.waitTimer = Timer.builder("ai.jobs.wait").register(meterRegistry);
+        this.droppedCounter = Counter.builder("ai.jobs.dropped").register(meterRegistry);
+        Gauge.builder("ai.jobs.queued", this, AiJobScheduler::queuedCount).register(meterRegistry);
+        Gauge.builder("ai.jobs.running", this, AiJobScheduler::runningCount).register(meterRegistry);
+    }
+
+    // 프로젝트가 정해진 작업은 프로젝트 단위로, 아직 정해지지 않은 업로드는 요청한 사용자 단위로 묶는다
+    public static String tenantOf(Project project) {
+        if (project != null) {
+            return "project:" + project.getId();
+        }
+        Long userId = currentUserId();
+        return userId != null ? "user:" + userId : "anonymous";
+    }
+
+    // 업로드 이벤트 작업은 객체 키에 기록된 업로더 단위로 묶는다 (업로더를 알 수 없는 이전 형식의 키만 하나로 묶인다)
+    public static String tenantOfUploader(Long uploaderId) {
+        return uploaderId != null ? "user:" + uploaderId : "anonymous";
+    }
+
+    // 파일 변환 예상 처리 시간(초). 음성은 파일 크기에 비례하고 크기를 모르면 기본값, 사진은 페이지 수에 비례
+    public double estimateExtractionSeconds(MinutesType type, Long sizeBytes, int pages) {
+        return switch (type) {
+            case VOICE -> sizeBytes != null ? sizeBytes / BYTES_PER_MB * voiceSecondsPerMb : voiceDefaultSeconds;
+            case PICTURE, MULTI_PICTURE -> Math.max(1, pages) * pictureSecondsPerPage;
+            case MANUAL -> 0;
+        };
+    }
+
+    public double estimateSummarySeconds(int textLength) {
+        return textLength / 1000.0 * summarySecondsPer1000Chars;
+    }
+
+    // 작업을 대기열에 넣고 차례가 되면 task 를 실행한다. 반환된 future 를 cancel 하면 대기 중인 작업은 대기열에서 빠지고
+    // 실행 중인 작업은 task 가 반환한 future 까지 취소된다
+    public <T> CompletableFuture<T> submit(String tenantKey, String kind, double estimatedSeconds,
+                                           Supplier<CompletableFuture<T>> task) {
+        return submit(tenantKey, currentUserId(), kind, estimatedSeconds, task);
+    }
+
+    // 요청 스레드가 아닌 곳에서 등록하는 작업은 작업 목록 조회에 보일 사용자(ownerId)를 직접 지정한다
+    public <T> CompletableFuture<T> submit(String tenantKey, Long ownerId, String kind, double estimatedSeconds,
+                                           Supplier<CompletableFuture<T>> task) {
+        Job<T> job;
+        synchronized (this) {
+            Tenant tenant = tenants.computeIfAbsent(tenantKey, Tenant::new);
+            if (tenant.queued.size() >= tenantMaxQueuedJobs) {
+                log.warn("AI 작업 대기열 초과: tenant={}, queued={}", tenantKey, tenant.queued.size());
+                throw new BaseException(MINUTES_AI_JOB_QUEUE_FULL);
+            }
+            job = new Job<>(jobIds.incrementAndGet(), tenant, kind, ownerId, estimatedSeconds, nanoTime.getAsLong(), task);
+            if (tenant.queued.isEmpty()) {
+                rotation.addLast(tenant);
+            }
+            tenant.queued.add(job);
+        }
+        log.info("AI 작업 등록: jobId={}, tenant={}, kind={}, estimatedSeconds={}", job.id, tenantKey, kind, estimatedSeconds);
+        job.result.whenComplete((value, e) -> {
+            if (job.result.isCancelled()) {
+                cancel(job);
+            }
+        });
+        dispatch();
+        return job.result;
+    }
+
+    // 대기열이 가득 차면 예외 대신 잠시 뒤 다시 등록한다. 재시도 횟수를 넘기면 대기열 초과 예외로 끝나고 ai.jobs.dropped 로 집계된다
+    // 반환된 future 를 cancel 하면 재시도를 멈추고, 이미 등록된 작업은 submit 과 같이 취소된다
+    public <T> CompletableFuture<T> submitWithRetry(String tenantKey, Long ownerId, String kind, double estimatedSeconds,
+                                                    Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        trySubmit(result, 0, tenantKey, ownerId, kind, estimatedSeconds, task);
+        return result;
+    }
+
+    private <T> void trySubmit(CompletableFuture<T> result, int attempt, String tenantKey, Long ownerId, String kind,
+                               double estimatedSeconds, Supplier<CompletableFuture<T>> task) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<T> job;
+        try {
+            job = submit(tenantKey, ownerId, kind, estimatedSeconds, task);
+        } catch (BaseException e) {
+            if (attempt >= submitMaxRetries) {
+                droppedCounter.increment();
+                log.error("AI 작업 대기열 초과로 작업 등록 포기: tenant={}, kind={}, attempts={}", tenantKey, kind, attempt + 1);
+                result.completeExceptionally(e);
+                return;
+            }
+            log.warn("AI 작업 대기열 초과, 잠시 뒤 다시 등록: tenant={}, kind={}, attempt={}", tenantKey, kind, attempt + 1);
+            retryExecutor.execute(() -> trySubmit(result, attempt + 1, tenantKey, ownerId, kind, estimatedSeconds, task));
+            return;
+        }
+        FlaskGateway.linkCancellation(job, result);
+        job.whenComplete((value, e) -> {
+            if (e != null) {
+                result.completeExceptionally(FlaskGateway.unwrap(e));
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    // 사용자가 요청한 대기/실행 중 작업과 예상 실행 순번
+    public synchronized List<AiJobStatusResponse> getJobs(Long userId) {
+        long now = nanoTime.getAsLong();
+        Map<Job<?>, Integer> positions = queuePositions(now);
+        List<AiJobStatusResponse> jobs = new ArrayList<>();
+        for (Job<?> job : runningJobs) {
+            if (Objects.equals(job.ownerId, userId)) {
+                jobs.add(job.toStatus(RUNNING, 0, now));
+            }
+        }
+        positions.forEach((job, position) -> {
+            if (Objects.equals(job.ownerId, userId)) {
+                jobs.add(job.toStatus(QUEUED, position, now));
+            }
+        });
+        jobs.sort(Comparator.comparing(AiJobStatusResponse::getPosition).thenComparing(AiJobStatusResponse::getJobId));
+        return jobs;
+    }
+
+    private void dispatch() {
+        List<Job<?>> ready = new ArrayList<>();
+        synchronized (this) {
+            while (runningJobs.size() < maxConcurrentJobs) {
+                Job<?> next = pollNext(nanoTime.getAsLong());
+                if (next == null) {
+                    break;
+                }
+                runningJobs.add(next);
+                next.tenant.running++;
+                ready.add(next);
+            }
+        }
+        for (Job<?> job : ready) {
+            start(job);
+        }
+    }
+
+    // 차례가 된 테넌트부터 동시 실행 한도에 걸리지 않은 첫 테넌트의 작업을 꺼내고, 그 테넌트는 맨 뒤로 보낸다
+    private Job<?> pollNext(long now) {
+        for (int i = 0; i < rotation.size(); i++) {
+            Tenant tenant = rotation.pollFirst();
+            if (tenant.running >= tenantMaxConcurrentJobs) {
+                rotation.addLast(tenant);
+                continue;
+            }
+            Job<?> job = tenant.queued.stream().min(priority(now)).orElseThrow();
+            tenant.queued.remove(job);
+            if (!tenant.queued.isEmpty()) {
+                rotation.addLast(tenant);
+            }
+            return job;
+        }
+        return null;
+    }
+
+    // 예상 처리 시간이 짧을수록, 오래 기다렸을수록 먼저 실행. 같으면 먼저 들어온 작업 우선
+    private Comparator<Job<?>> priority(long now) {
+        return Comparator.<Job<?>>comparingDouble(job -> job.estimatedSeconds - agingFactor * job.waitedSeconds(now))
+                .thenComparingLong(job -> job.id);
+    }
+
+    private <T> void start(Job<T> job) {
+        waitTimer.record(nanoTime.getAsLong() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+        log.info("AI 작업 시작: jobId={}, tenant={}, kind={}", job.id, job.tenant.key, job.kind);
+        CompletableFuture<T> work;
+        try {
+            work = job.task.get();
+        } catch (RuntimeException e) {
+            finish(job);
+            job.result.completeExceptionally(e);
+            return;
+        }
+        job.work = work;
+        if (job.result.isCancelled()) {
+            work.cancel(true);
+        }
+        work.whenComplete((value, e) -> {
+            finish(job);
+            if (e != null) {
+                job.result.completeExceptionally(FlaskGateway.unwrap(e));
+            } else {
+                job.result.complete(value);
+            }
+        });
+    }
+
+    private void finish(Job<?> job) {
+        synchronized (this) {
+            if (!runningJobs.remove(job)) {
+                return;
+            }
+            job.tenant.running--;
+            removeIfIdle(job.tenant);
+        }
+        dispatch();
+    }
+
+    private void cancel(Job<?> job) {
+        synchronized (this) {
+            Tenant tenant = job.tenant;
+            if (tenant.queued.remove(job)) {
+                log.info("대기 중인 AI 작업 취소: jobId={}, tenant={}", job.id, tenant.key);
+                if (tenant.queued.isEmpty()) {
+                    rotation.remove(tenant);
+                }
+                removeIfIdle(tenant);
+                return;
+            }
+        }
+        CompletableFuture<?> work = job.work;
+        if (work != null) {
+            work.cancel(true);
+        }
+    }
+
+    private void removeIfIdle(Tenant tenant) {
+        if (tenant.queued.isEmpty() && tenant.running == 0) {
+            tenants.remove(tenant.key);
+        }
+    }
+
+    // 동시 실행 한도를 고려하지 않고 지금 대기열 그대로 번갈아 꺼낼 때의 순번
+    private Map<Job<?>, Integer> queuePositions(long now) {
+        List<Iterator<Job<?>>> orders = rotation.stream()
+                .map(tenant -> tenant.queued.stream().sorted(priority(now)).toList().iterator())
+                .toList();
+        Map<Job<?>, Integer> positions = new LinkedHashMap<>();
+        int position = 0;
+        boolean remaining = true;
+        while (remaining) {
+            remaining = false;
+            for (Iterator<Job<?>> order : orders) {
+                if (order.hasNext()) {
+                    positions.put(order.next(), ++position);
+                    remaining = true;
+                }
+            }
+        }
+        return positions;
+    }
+
+    private synchronized int queuedCount() {
+        return rotation.stream().mapToInt(tenant -> tenant.queued.size()).sum();
+    }
+
+    private synchronized int runningCount() {
+        return runningJobs.size();
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails
+                ? userDetails.getId() : null;
+    }
+
+    private static final class Tenant {
+        private final String key;
+        private final List<Job<?>> queued = new ArrayList<>();
+        private int running;
+
+        private Tenant(String key) {
+            this.key = key;
+        }
+    }
+
+    private static final class Job<T> {
+        private final long id;
+        private final Tenant tenant;
+        private final String kind;
+        private final Long ownerId;
+        private final double estimatedSeconds;
+        private final long enqueuedAt;
+        private final Supplier<CompletableFuture<T>> task;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile CompletableFuture<T> work;
+
+        private Job(long id, Tenant tenant, String kind, Long ownerId, double estimatedSeconds, long enqueuedAt,
+                    Supplier<CompletableFuture<T>> task) {
+            this.id = id;
+            this.tenant = tenant;
+            this.kind = kind;
+            this.ownerId = ownerId;
+            this.estimatedSeconds = estimatedSeconds;
+            this.enqueuedAt = enqueuedAt;
+            this.task = task;
+        }
+
+        private double waitedSeconds(long now) {
+            return (now - enqueuedAt) / 1_000_000_000.0;
+        }
+
+        private AiJobStatusResponse toStatus(String state, int position, long now) {
+            return new AiJobStatusResponse(id, kind, state, position, estimatedSeconds, (long) waitedSeconds(now));
+        }
+    }
+}
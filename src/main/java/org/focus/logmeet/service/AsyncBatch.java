@@ -0,0 +1,148 @@
+package org.focus.logmeet.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Flask 비동기 호출 조합 도구. 모든 조합 결과는 cancel 시 진행 중인 하위 요청까지 취소한다.
+ * (CompletableFuture 의 후속 단계는 기본적으로 취소를 상위로 전파하지 않음)
+ */
+@Slf4j
+final class AsyncBatch {
+
+    private AsyncBatch() {
+    }
+
+    // 항목마다 task 를 실행하되 동시에 진행 중인 요청은 parallelism 개 이하로 유지. 결과는 입력 순서를 따른다.
+    // 하나라도 실패하면 나머지 진행 중인 요청을 취소하고 원인 예외로 완료
+    static <T, R> CompletableFuture<List<R>> mapBounded(List<T> items, int parallelism,
+                                                        Function<T, CompletableFuture<R>> task) {
+        return new BoundedRun<>(items, Math.max(1, parallelism), task).start();
+    }
+
+    // 실패 시 maxRetries 번까지 backoffMs * 시도 횟수 만큼 기다렸다가 다시 호출
+    static <R> CompletableFuture<R> retrying(Supplier<CompletableFuture<R>> call, int maxRetries, long backoffMs) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<R>> current = new AtomicReference<>();
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled() && current.get() != null) {
+                current.get().cancel(true);
+            }
+        });
+        attempt(call, maxRetries, backoffMs, 0, result, current);
+        return result;
+    }
+
+    private static <R> void attempt(Supplier<CompletableFuture<R>> call, int maxRetries, long backoffMs, int attemptCount,
+                                    CompletableFuture<R> result, AtomicReference<CompletableFuture<R>> current) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<R> request = call.get();
+        current.set(request);
+        request.whenComplete((value, e) -> {
+            if (e == null) {
+                result.complete(value);
+            } else if (attemptCount < maxRetries && !result.isDone()) {
+                log.warn("Flask 요청 실패, 재시도: attempt={}, cause={}", attemptCount + 1, FlaskGateway.unwrap(e).toString());
+                CompletableFuture.runAsync(() -> attempt(call, maxRetries, backoffMs, attemptCount + 1, result, current),
+                        CompletableFuture.delayedExecutor(backoffMs * (attemptCount + 1), TimeUnit.MILLISECONDS));
+            } else {
+                result.completeExceptionally(FlaskGateway.unwrap(e));
+            }
+        });
+    }
+
+    // first 완료 후 next 를 이어서 실행. 어느 단계에서 cancel 되어도 그 시점에 진행 중인 단계를 취소
+    static <T, R> CompletableFuture<R> compose(CompletableFuture<T> first, Function<T, CompletableFuture<R>> next) {
+        AtomicReference<CompletableFuture<?>> current = new AtomicReference<>(first);
+        CompletableFuture<R> result = first.thenCompose(value -> {
+            CompletableFuture<R> stage = next.apply(value);
+            current.set(stage);
+            return stage;
+        });
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                current.get().cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private static final class BoundedRun<T, R> {
+        private final List<T> items;
+        private final int parallelism;
+        private final Function<T, CompletableFuture<R>> task;
+        private final Object[] results;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final Set<CompletableFuture<R>> inFlight = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<List<R>> done = new CompletableFuture<>();
+
+        private BoundedRun(List<T> items, int parallelism, Function<T, CompletableFuture<R>> task) {
+            this.items = items;
+            this.parallelism = parallelism;
+            this.task = task;
+            this.results = new Object[items.size()];
+            this.remaining = new AtomicInteger(items.size());
+        }
+
+        private CompletableFuture<List<R>> start() {
+            if (items.isEmpty()) {
+                done.complete(List.of());
+                return done;
+            }
+            // 실패하거나 취소되면 진행 중인 나머지 요청을 모두 중단
+            done.whenComplete((values, e) -> {
+                if (e != null) {
+                    inFlight.forEach(future -> future.cancel(true));
+                }
+            });
+            for (int i = 0; i < Math.min(parallelism, items.size()); i++) {
+                launchNext();
+            }
+            return done;
+        }
+
+        private void launchNext() {
+            int index = nextIndex.getAndIncrement();
+            if (index >= items.size() || done.isDone()) {
+                return;
+            }
+            CompletableFuture<R> request = task.apply(items.get(index));
+            inFlight.add(request);
+            request.whenComplete((value, e) -> {
+                inFlight.remove(request);
+                if (done.isDone()) {
+                    return;
+                }
+                if (e != null) {
+                    done.completeExceptionally(FlaskGateway.unwrap(e));
+                    return;
+                }
+                results[index] = value;
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(collect());
+                } else {
+                    launchNext();
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<R> collect() {
+            return new ArrayList<>(Arrays.asList((R[]) results));
+        }
+    }
+}
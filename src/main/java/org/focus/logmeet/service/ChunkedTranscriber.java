@@ -0,0 +1,86 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 긴 녹음을 시간 구간으로 나눠 병렬로 변환한 뒤 병합한다.
+ * 동시에 진행되는 구간 요청 수를 제한하고, 실패한 구간만 재시도한다. 요청 대기 중 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Component
+public class ChunkedTranscriber {
+
+    private final FlaskGateway flaskGateway;
+    private final TranscriptMerger transcriptMerger;
+    private final boolean enabled;
+    private final double thresholdSeconds;
+    private final double chunkSeconds;
+    private final double overlapSeconds;
+    private final int parallelism;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    public ChunkedTranscriber(FlaskGateway flaskGateway,
+                              ObjectMapper objectMapper,
+                              @Value("${minutes.transcription.chunked.enabled:false}") boolean enabled,
+                              @Value("${minutes.transcription.chunked.threshold-seconds:1200}") double thresholdSeconds,
+                              @Value("${minutes.transcription.chunked.chunk-seconds:600}") double chunkSeconds,
+                              @Value("${minutes.transcription.chunked.overlap-seconds:15}") double overlapSeconds,
+                              @Value("${minutes.transcription.chunked.parallelism:4}") int parallelism,
+                              @Value("${minutes.transcription.chunked.max-retries:2}") int maxRetries,
+                              @Value("${minutes.transcription.chunked.retry-backoff-ms:2000}") long retryBackoffMs) {
+        this.flaskGateway = flaskGateway;
+        this.transcriptMerger = new TranscriptMerger(objectMapper, 1.0);
+        this.enabled = enabled;
+        this.thresholdSeconds = thresholdSeconds;
+        this.chunkSeconds = chunkSeconds;
+        this.overlapSeconds = overlapSeconds;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    // 음성 파일 텍스트 변환 (Flask /process_audio 응답과 같은 {"segments": [...]} 형식 반환)
+    public CompletableFuture<String> transcribe(String filePath) {
+        if (!enabled) {
+            return flaskGateway.processAudio(filePath);
+        }
+
+        return AsyncBatch.compose(flaskGateway.probeAudioDuration(filePath), seconds -> {
+            if (seconds <= thresholdSeconds) {
+                return flaskGateway.processAudio(filePath);
+            }
+            List<TranscriptMerger.Chunk> windows = windows(seconds);
+            log.info("구간 분할 변환 시작: filePath={}, durationSeconds={}, chunks={}", filePath, seconds, windows.size());
+            CompletableFuture<List<String>> contents = AsyncBatch.mapBounded(windows, parallelism, window -> AsyncBatch.retrying(
+                    () -> flaskGateway.processAudioChunk(filePath, window.startSeconds(), window.endSeconds()),
+                    maxRetries, retryBackoffMs));
+            return FlaskGateway.linkCancellation(contents, contents.thenApply(results -> merge(windows, results)));
+        });
+    }
+
+    // 인접 구간이 overlapSeconds 만큼 겹치도록 나눈다 (경계의 발화 누락 방지 및 화자 라벨 대응용)
+    List<TranscriptMerger.Chunk> windows(double durationSeconds) {
+        List<TranscriptMerger.Chunk> windows = new ArrayList<>();
+        for (double start = 0; start < durationSeconds; start += chunkSeconds) {
+            windows.add(new TranscriptMerger.Chunk(start, Math.min(durationSeconds, start + chunkSeconds + overlapSeconds), null));
+        }
+        return windows;
+    }
+
+    private String merge(List<TranscriptMerger.Chunk> windows, List<String> contents) {
+        List<TranscriptMerger.Chunk> chunks = new ArrayList<>(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            TranscriptMerger.Chunk window = windows.get(i);
+            chunks.add(new TranscriptMerger.Chunk(window.startSeconds(), window.endSeconds(), contents.get(i)));
+        }
+        return transcriptMerger.merge(chunks);
+    }
+}
@@ -0,0 +1,79 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 지문으로 이전에 변환한 결과를 찾아 Flask 재호출 없이 재사용한다.
+ * 지문은 스토리지가 계산한 객체의 ETag 만 사용하고(클라이언트가 보낸 해시는 검증할 수 없어 사용하지 않음),
+ * 요청한 사용자가 업로드했거나 속한 프로젝트의 회의록에서만 찾는다.
+ * 재사용 여부는 minutes.content.dedup{result=hit|miss} 카운터와 hit.ratio 게이지로 보고한다.
+ */
+@Slf4j
+@Component
+public class ContentDeduplicator {
+
+    private final MinutesRepository minutesRepository;
+    private final S3Service s3Service;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ContentDeduplicator(MinutesRepository minutesRepository, S3Service s3Service, MeterRegistry meterRegistry) {
+        this.minutesRepository = minutesRepository;
+        this.s3Service = s3Service;
+        this.hits = Counter.builder("minutes.content.dedup").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("minutes.content.dedup").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("minutes.content.dedup.hit.ratio", this, ContentDeduplicator::hitRatio).register(meterRegistry);
+    }
+
+    // 지문을 구할 수 없으면 null (중복 확인 없이 변환)
+    public String fingerprint(String filePath) {
+        String objectKey = s3Service.toObjectKey(filePath);
+        if (objectKey == null) {
+            return null;
+        }
+        try {
+            return etagFingerprint(s3Service.getETag(objectKey));
+        } catch (RuntimeException e) {
+            log.warn("ETag 조회 실패, 중복 확인 생략: filePath={}", filePath, e);
+            return null;
+        }
+    }
+
+    static String etagFingerprint(String eTag) {
+        if (eTag == null || eTag.isBlank()) {
+            return null;
+        }
+        return "etag:" + eTag.replace("\"", "").strip().toLowerCase(Locale.ROOT);
+    }
+
+    // userId 가 없으면(업로더를 알 수 없는 업로드) 재사용하지 않는다
+    public Optional<String> findProcessedContent(String fingerprint, MinutesType type, Long userId) {
+        if (fingerprint == null || userId == null || type == MinutesType.MANUAL) {
+            return Optional.empty();
+        }
+        List<String> contents = minutesRepository.findProcessedContentByHash(fingerprint, type, userId, PageRequest.of(0, 1));
+        if (contents.isEmpty()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        log.info("이전 변환 결과 재사용: fingerprint={}, type={}", fingerprint, type);
+        return Optional.of(contents.get(0));
+    }
+
+    double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+}
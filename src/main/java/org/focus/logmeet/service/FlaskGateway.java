@@ -0,0 +1,158 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.minutes.MinutesSummarizeResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_TEXT_SUMMARY_API_CALL_FAILED;
+
+/**
+ * Flask(STT/OCR/요약) 서버 비동기 클라이언트.
+ * 응답을 기다리는 동안 스레드를 점유하지 않으며, 반환된 future 를 cancel 하면 진행 중인 HTTP 교환도 중단된다.
+ */
+@Slf4j
+@Component
+public class FlaskGateway {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String flaskServerUrl;
+    private final Duration requestTimeout;
+
+    @Autowired
+    public FlaskGateway(ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        @Value("${flask.server.url}") String flaskServerUrl,
+                        @Value("${flask.client.connect-timeout-ms:5000}") long connectTimeoutMs,
+                        @Value("${flask.client.request-timeout-ms:300000}") long requestTimeoutMs) {
+        this(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .build(),
+                objectMapper, meterRegistry, flaskServerUrl, Duration.ofMillis(requestTimeoutMs));
+    }
+
+    FlaskGateway(HttpClient httpClient, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                 String flaskServerUrl, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.flaskServerUrl = flaskServerUrl;
+        this.requestTimeout = requestTimeout;
+    }
+
+    // 음성 파일 텍스트 변환 (원본 JSON 문자열 반환)
+    public CompletableFuture<String> processAudio(String filePath) {
+        return post("/process_audio", Map.of("filePath", filePath));
+    }
+
+    // 녹음 파일의 [startSeconds, endSeconds) 구간만 텍스트 변환 (세그먼트 시각은 구간 시작 기준)
+    public CompletableFuture<String> processAudioChunk(String filePath, double startSeconds, double endSeconds) {
+        return post("/process_audio", Map.of("filePath", filePath, "startSeconds", startSeconds, "endSeconds", endSeconds));
+    }
+
+    // 녹음 길이(초) 조회
+    public CompletableFuture<Double> probeAudioDuration(String filePath) {
+        CompletableFuture<String> response = post("/audio_duration", Map.of("filePath", filePath));
+        return linkCancellation(response, response.thenApply(body -> readValue(body, AudioDuration.class).durationSeconds()));
+    }
+
+    // 사진 파일 텍스트 변환 (원본 JSON 문자열 반환)
+    public CompletableFuture<String> processImage(String filePath) {
+        return post("/process_image", Map.of("filePath", filePath));
+    }
+
+    public CompletableFuture<MinutesSummarizeResult> summarize(String text) {
+        CompletableFuture<String> response = post("/summarize_text", Map.of("text", text));
+        return linkCancellation(response, response.thenApply(body -> readValue(body, MinutesSummarizeResult.class)));
+    }
+
+    private CompletableFuture<String> post(String path, Map<String, ?> body) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(flaskServerUrl + path))
+                    .timeout(requestTimeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        log.info("Flask 요청 전송: path={}", path);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<HttpResponse<String>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        exchange.whenComplete((response, ex) -> sample.stop(requestTimer(path, response, ex)));
+
+        return linkCancellation(exchange, exchange.thenApply(response -> {
+            if (response.statusCode() / 100 != 2) {
+                log.error("Flask 응답 실패: path={}, status={}", path, response.statusCode());
+                throw new BaseException(MINUTES_TEXT_SUMMARY_API_CALL_FAILED);
+            }
+            log.info("Flask 응답 수신: path={}", path);
+            return response.body();
+        }));
+    }
+
+    // thenApply/handle 로 만든 후속 future 는 cancel 이 상위로 전파되지 않으므로, 취소 시 상위 교환까지 직접 중단한다
+    static <T> CompletableFuture<T> linkCancellation(CompletableFuture<?> upstream, CompletableFuture<T> downstream) {
+        downstream.whenComplete((result, ex) -> {
+            if (downstream.isCancelled()) {
+                upstream.cancel(true);
+            }
+        });
+        return downstream;
+    }
+
+    // 후속 단계에서 전달되는 CompletionException 을 벗겨 원인 예외를 얻는다
+    public static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private <T> T readValue(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // RestTemplate 사용 시와 같은 이름/태그로 기록해 기존 대시보드를 그대로 사용
+    private Timer requestTimer(String path, HttpResponse<String> response, Throwable ex) {
+        String status = response != null ? String.valueOf(response.statusCode()) : "CLIENT_ERROR";
+        String outcome = response == null ? "UNKNOWN" : response.statusCode() / 100 == 2 ? "SUCCESS" : "SERVER_ERROR";
+        return Timer.builder("http.client.requests")
+                .tag("client.name", "flask")
+                .tag("method", "POST")
+                .tag("uri", path)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .register(meterRegistry);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record AudioDuration(double durationSeconds) {
+    }
+}
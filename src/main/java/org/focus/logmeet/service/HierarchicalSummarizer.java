@@ -0,0 +1,127 @@
+package org.focus.logmeet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.controller.dto.minutes.MinutesSummarizeResult;
+import org.focus.logmeet.controller.dto.schedule.ScheduleDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * 요약 모델 컨텍스트를 넘는 회의록을 map-reduce 방식으로 요약한다.
+ * 본문을 토큰 한도 이하의 구간으로 나눠 병렬로 요약(map)한 뒤, 구간 요약을 이어 붙여 다시 요약(reduce)한다.
+ * 이어 붙인 요약이 여전히 한도를 넘으면 같은 과정을 한 단계 더 반복한다.
+ */
+@Slf4j
+@Component
+public class HierarchicalSummarizer {
+
+    private final FlaskGateway flaskGateway;
+    private final int sectionMaxTokens;
+    private final double charsPerToken;
+    private final int parallelism;
+    private final int maxDepth;
+
+    public HierarchicalSummarizer(FlaskGateway flaskGateway,
+                                  @Value("${minutes.summary.section-max-tokens:3000}") int sectionMaxTokens,
+                                  @Value("${minutes.summary.chars-per-token:2.0}") double charsPerToken,
+                                  @Value("${minutes.summary.parallelism:4}") int parallelism,
+                                  @Value("${minutes.summary.max-depth:3}") int maxDepth) {
+        this.flaskGateway = flaskGateway;
+        this.sectionMaxTokens = sectionMaxTokens;
+        this.charsPerToken = charsPerToken;
+        this.parallelism = parallelism;
+        this.maxDepth = maxDepth;
+    }
+
+    public CompletableFuture<MinutesSummarizeResult> summarize(String text) {
+        return summarize(text, 0);
+    }
+
+    private CompletableFuture<MinutesSummarizeResult> summarize(String text, int depth) {
+        if (estimateTokens(text) <= sectionMaxTokens || depth >= maxDepth) {
+            return flaskGateway.summarize(text);
+        }
+
+        List<String> sections = split(text);
+        log.info("구간 요약 시작: depth={}, sections={}", depth, sections.size());
+        CompletableFuture<List<MinutesSummarizeResult>> partials =
+                AsyncBatch.mapBounded(sections, parallelism, flaskGateway::summarize);
+
+        return AsyncBatch.compose(partials, results -> {
+            String combined = results.stream()
+                    .map(MinutesSummarizeResult::getSummarizedText)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining("\n"));
+            List<ScheduleDto> sectionSchedules = results.stream()
+                    .map(MinutesSummarizeResult::getSchedules)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .toList();
+
+            CompletableFuture<MinutesSummarizeResult> reduced = summarize(combined, depth + 1);
+            return FlaskGateway.linkCancellation(reduced, reduced.thenApply(result -> {
+                List<ScheduleDto> schedules = new ArrayList<>(sectionSchedules);
+                if (result.getSchedules() != null) {
+                    schedules.addAll(result.getSchedules());
+                }
+                return new MinutesSummarizeResult(result.getSummarizedText(), deduplicate(schedules));
+            }));
+        });
+    }
+
+    int estimateTokens(String text) {
+        return (int) Math.ceil(text.length() / charsPerToken);
+    }
+
+    // 줄(발화) 단위로 묶어 구간을 만들고, 한 줄이 한도를 넘으면 글자 수 기준으로 자른다
+    List<String> split(String text) {
+        int maxChars = Math.max(1, (int) (sectionMaxTokens * charsPerToken));
+        List<String> sections = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        for (String line : text.split("\n")) {
+            for (int offset = 0; offset == 0 || offset < line.length(); offset += maxChars) {
+                String piece = line.substring(offset, Math.min(line.length(), offset + maxChars));
+                if (current.length() > 0 && current.length() + 1 + piece.length() > maxChars) {
+                    sections.add(current.toString());
+                    current.setLength(0);
+                }
+                if (current.length() > 0) {
+                    current.append('\n');
+                }
+                current.append(piece);
+            }
+        }
+        if (!current.toString().isBlank()) {
+            sections.add(current.toString());
+        }
+        return sections;
+    }
+
+    // 구간마다 같은 일정이 중복 추출될 수 있으므로 날짜와 내용이 같은 일정은 처음 것만 남긴다
+    static List<ScheduleDto> deduplicate(List<ScheduleDto> schedules) {
+        Map<String, ScheduleDto> unique = new LinkedHashMap<>();
+        for (ScheduleDto schedule : schedules) {
+            unique.putIfAbsent(scheduleKey(schedule), schedule);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private static String scheduleKey(ScheduleDto schedule) {
+        String date = Objects.toString(schedule.getExtractedScheduleDate(), "").strip();
+        try {
+            date = LocalDateTime.parse(date).toString();
+        } catch (DateTimeParseException e) {
+            // 형식이 잘못된 날짜는 저장 시점에 오류로 처리되므로 원문 그대로 비교
+        }
+        String content = Objects.toString(schedule.getExtractedScheduleContent(), "")
+                .strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return date + "|" + content;
+    }
+}
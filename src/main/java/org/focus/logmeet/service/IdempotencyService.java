@@ -0,0 +1,153 @@
+package org.focus.logmeet.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.security.user.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 처리. (사용자, 작업, 키) 별로 최근 요청의 결과를 크기와 TTL 이 제한된 저장소에 보관하고,
+ * 같은 키로 다시 온 요청은 작업을 다시 실행하지 않고 저장된 결과를 돌려준다. 첫 요청이 아직 처리 중이면 그 결과를 기다린다.
+ * 실패한 요청은 보관하지 않으므로 같은 키로 재시도할 수 있다. 노드 간 공유되지 않는다.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> cache;
+    private final Duration waitTimeout;
+
+    public IdempotencyService(MeterRegistry meterRegistry,
+                              @Value("${idempotency.max-keys:10000}") long maxKeys,
+                              @Value("${idempotency.ttl-minutes:60}") long ttlMinutes,
+                              @Value("${idempotency.wait-timeout-seconds:30}") long waitTimeoutSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "idempotency");
+    }
+
+    // 동기 작업. 처리 중인 첫 요청이 있으면 waitTimeout 동안 결과를 기다린다
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, String operation, Object request, Supplier<T> action) {
+        String cacheKey = cacheKey(key, operation);
+        if (cacheKey == null) {
+            return action.get();
+        }
+
+        Entry entry = new Entry(request, new CompletableFuture<>());
+        Entry existing = cache.asMap().putIfAbsent(cacheKey, entry);
+        if (existing != null) {
+            checkSameRequest(existing, request);
+            log.info("중복 요청, 저장된 결과 사용: operation={}", operation);
+            return (T) await(existing.result());
+        }
+
+        try {
+            T value = action.get();
+            entry.result().complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            forget(cacheKey, entry, e);
+            throw e;
+        }
+    }
+
+    // 비동기 작업. 중복 요청은 스레드를 점유하지 않고 첫 요청의 결과를 기다린다.
+    // 반환된 future 를 취소(클라이언트 연결 종료 등)해도 공유 작업은 계속 진행되어 재시도 요청이 결과를 받을 수 있다
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(String key, String operation, Object request, Supplier<CompletableFuture<T>> action) {
+        String cacheKey = cacheKey(key, operation);
+        if (cacheKey == null) {
+            return action.get();
+        }
+
+        Entry entry = new Entry(request, new CompletableFuture<>());
+        Entry existing = cache.asMap().putIfAbsent(cacheKey, entry);
+        if (existing != null) {
+            checkSameRequest(existing, request);
+            log.info("중복 요청, 첫 요청의 결과 대기: operation={}", operation);
+            return (CompletableFuture<T>) existing.result().copy();
+        }
+
+        CompletableFuture<T> work;
+        try {
+            work = action.get();
+        } catch (RuntimeException e) {
+            forget(cacheKey, entry, e);
+            throw e;
+        }
+        work.whenComplete((value, e) -> {
+            if (e != null) {
+                forget(cacheKey, entry, FlaskGateway.unwrap(e));
+            } else {
+                entry.result().complete(value);
+            }
+        });
+        return (CompletableFuture<T>) entry.result().copy();
+    }
+
+    private String cacheKey(String key, String operation) {
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new BaseException(INVALID_INPUT_VALUE, "Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        // 사용자 이름은 중복될 수 있으므로 사용자 ID 로 구분
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails
+                ? String.valueOf(userDetails.getId()) : "anonymous";
+        return principal + "\n" + operation + "\n" + key;
+    }
+
+    private static void checkSameRequest(Entry existing, Object request) {
+        if (!Objects.equals(existing.request(), request)) {
+            throw new BaseException(IDEMPOTENCY_KEY_REUSED);
+        }
+    }
+
+    // 실패한 결과는 기다리던 중복 요청에만 전달하고 저장소에서는 제거
+    private void forget(String cacheKey, Entry entry, Throwable cause) {
+        cache.asMap().remove(cacheKey, entry);
+        entry.result().completeExceptionally(cause);
+    }
+
+    private Object await(CompletableFuture<Object> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new BaseException(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private record Entry(Object request, CompletableFuture<Object> result) {
+    }
+}
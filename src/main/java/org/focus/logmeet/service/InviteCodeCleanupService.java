@@ -0,0 +1,66 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.repository.InviteCodeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 초대 코드 정리 작업.
+ * 청크마다 별도 트랜잭션으로 삭제하므로 여러 노드에서 동시에 실행되어도 같은 행을 중복 삭제하지 않고,
+ * 한 번의 실행은 max-chunks 청크로 제한된다.
+ */
+@Slf4j
+@Service
+public class InviteCodeCleanupService {
+    private final InviteCodeRepository inviteCodeRepository;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final Counter deletedCounter;
+    private final Timer cleanupTimer;
+
+    public InviteCodeCleanupService(InviteCodeRepository inviteCodeRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${invite-code.cleanup.chunk-size:1000}") int chunkSize,
+                                    @Value("${invite-code.cleanup.max-chunks:100}") int maxChunks) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.deletedCounter = Counter.builder("invite-code.cleanup.deleted")
+                .description("정리 작업으로 삭제된 만료 초대 코드 수")
+                .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("invite-code.cleanup")
+                .description("만료 초대 코드 정리 작업 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${invite-code.cleanup.cron:0 30 3 * * ?}")
+    public void cleanUpExpiredInviteCodes() {
+        cleanupTimer.record(() -> purgeExpiredBefore(LocalDateTime.now()));
+    }
+
+    long purgeExpiredBefore(LocalDateTime cutoff) {
+        log.info("만료된 초대 코드 정리 작업 시작: cutoff={}", cutoff);
+        long total = 0;
+        int chunks = 0;
+        int deleted;
+        do {
+            deleted = inviteCodeRepository.deleteExpiredBefore(cutoff, chunkSize);
+            deletedCounter.increment(deleted);
+            total += deleted;
+            chunks++;
+        } while (deleted == chunkSize && chunks < maxChunks);
+
+        if (deleted == chunkSize) {
+            log.info("청크 한도 도달, 남은 초대 코드는 다음 실행에서 정리: chunks={}", chunks);
+        }
+        log.info("만료된 초대 코드 정리 작업 완료: deleted={}, chunks={}", total, chunks);
+        return total;
+    }
+}
@@ -0,0 +1,51 @@
+package org.focus.logmeet.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.cache.MembershipCache;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.config.PrimaryReader;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
+import org.focus.logmeet.repository.ProjectRepository;
+import org.focus.logmeet.repository.UserProjectRepository;
+import org.springframework.stereotype.Service;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MembershipService {
+    private final UserProjectRepository userProjectRepository;
+    private final ProjectRepository projectRepository;
+    private final MembershipCache membershipCache;
+    private final PrimaryReader primaryReader;
+
+    public ProjectMembership getMembership(Long userId, Long projectId) {
+        if (projectId == null) {
+            throw new BaseException(USER_NOT_IN_PROJECT);
+        }
+
+        // 참여/추방 직후 무효화된 캐시를 레플리카의 지난 데이터로 다시 채우지 않도록 프라이머리에서 조회
+        ProjectMembership membership = membershipCache.get(userId, projectId,
+                () -> primaryReader.read(() -> userProjectRepository.findMembership(userId, projectId).orElse(null)));
+        if (membership != null) {
+            return membership;
+        }
+
+        // 멤버가 아닐 때만 프로젝트 존재 여부를 확인해 오류를 구분
+        if (!projectRepository.existsById(projectId)) {
+            throw new BaseException(PROJECT_NOT_FOUND);
+        }
+        log.info("프로젝트 멤버가 아닌 사용자의 접근: userId={}, projectId={}", userId, projectId);
+        throw new BaseException(USER_NOT_IN_PROJECT);
+    }
+
+    public void evict(Long userId, Long projectId) {
+        membershipCache.evict(userId, projectId);
+    }
+
+    public void evictProject(Long projectId) {
+        membershipCache.evictProject(projectId);
+    }
+}
@@ -0,0 +1,100 @@
+package org.focus.logmeet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.controller.dto.minutes.MinutesFileRef;
+import org.focus.logmeet.domain.Minutes;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.focus.logmeet.repository.MinutesSearchHistoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.focus.logmeet.domain.enums.Status.TEMP;
+
+/**
+ * 회의록 일괄 삭제기. 엔티티를 로딩하지 않고 검색 기록, 이미지 경로, 회의록을 한 트랜잭션에서 벌크 삭제한 뒤,
+ * 커밋이 끝나면 업로드된 파일(여러 장 사진 회의록의 모든 이미지 포함) 중 남은 회의록이 참조하지 않는 파일을 S3에서 일괄 삭제한다. 검색 인덱스 정리는 호출 측에서 담당한다.
+ */
+@Slf4j
+@Component
+public class MinutesBulkDeleter {
+    private final MinutesRepository minutesRepository;
+    private final MinutesSearchHistoryRepository minutesSearchHistoryRepository;
+    private final S3Service s3Service;
+    private final TransactionTemplate transactionTemplate;
+
+    public MinutesBulkDeleter(MinutesRepository minutesRepository,
+                              MinutesSearchHistoryRepository minutesSearchHistoryRepository,
+                              S3Service s3Service,
+                              PlatformTransactionManager transactionManager) {
+        this.minutesRepository = minutesRepository;
+        this.minutesSearchHistoryRepository = minutesSearchHistoryRepository;
+        this.s3Service = s3Service;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Result delete(List<MinutesFileRef> refs) {
+        return delete(refs, ids -> ids);
+    }
+
+    // 정리 대상으로 조회한 뒤 확정되었거나 새로 갱신된 회의록은 삭제하지 않는다 (잠근 채로 다시 고른 행만 삭제)
+    public Result deleteTemporary(List<MinutesFileRef> refs, LocalDateTime timeLimit, LocalDateTime pendingTimeLimit) {
+        return delete(refs, ids -> minutesRepository.lockOldTemporaryMinutesIds(ids, TEMP, timeLimit, pendingTimeLimit));
+    }
+
+    private Result delete(List<MinutesFileRef> refs, UnaryOperator<List<Long>> lockDeletable) {
+        List<Long> requested = refs.stream().map(MinutesFileRef::getMinutesId).toList();
+
+        List<Long> ids = new ArrayList<>();
+        List<String> filePaths = new ArrayList<>();
+        Integer deleted = transactionTemplate.execute(status -> {
+            Set<Long> deletable = new HashSet<>(lockDeletable.apply(requested));
+            ids.addAll(requested.stream().filter(deletable::contains).toList());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            List<String> candidates = Stream.concat(refs.stream()
+                                    .filter(ref -> deletable.contains(ref.getMinutesId()))
+                                    .map(MinutesFileRef::getFilePath),
+                            minutesRepository.findPageFilePathsByIdIn(ids).stream())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+            minutesSearchHistoryRepository.deleteAllByMinutesIdIn(ids);
+            minutesRepository.deletePagesByMinutesIdIn(ids);
+            int count = minutesRepository.deleteAllByIdIn(ids);
+            filePaths.addAll(unreferenced(candidates));
+            return count;
+        });
+
+        int filesDeleted = filePaths.isEmpty() ? 0 : s3Service.deleteObjects(filePaths);
+
+        return new Result(deleted == null ? 0 : deleted, ids, filePaths.size(), filesDeleted);
+    }
+
+    // 삭제 후에도 다른 회의록이 참조하는 파일은 S3에서 지우지 않는다 (예: 같은 사진으로 만든 여러 장 사진 회의록)
+    private List<String> unreferenced(List<String> filePaths) {
+        if (filePaths.isEmpty()) {
+            return filePaths;
+        }
+        List<String> filePathKeys = filePaths.stream().map(Minutes::filePathKeyOf).toList();
+        Set<String> referenced = new HashSet<>(minutesRepository.findReferencedFilePathsByKeys(filePathKeys));
+        referenced.addAll(minutesRepository.findReferencedPageFilePaths(filePaths));
+        if (!referenced.isEmpty()) {
+            log.info("다른 회의록이 참조하는 파일은 삭제하지 않음: files={}", referenced.size());
+        }
+        return filePaths.stream().filter(filePath -> !referenced.contains(filePath)).toList();
+    }
+
+    // deletedIds: 실제로 삭제된 회의록 ID (검색 문서, 캐시 정리는 이 ID 기준으로 한다)
+    public record Result(int deleted, List<Long> deletedIds, int files, int filesDeleted) {
+        public int filesFailed() {
+            return files - filesDeleted;
+        }
+    }
+}
@@ -3,21 +3,37 @@ package org.focus.logmeet.service;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.cache.SearchHistoryCache;
+import org.focus.logmeet.common.cache.SearchResultCache;
 import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.config.PrimaryReader;
 import org.focus.logmeet.controller.dto.search.MinutesSearchHistoryResult;
+import org.focus.logmeet.controller.dto.search.MinutesSearchPageResult;
+import org.focus.logmeet.controller.dto.search.MinutesSearchRequest;
 import org.focus.logmeet.controller.dto.search.MinutesSearchResult;
+import org.focus.logmeet.controller.dto.search.MinutesSuggestResult;
 import org.focus.logmeet.domain.Minutes;
-import org.focus.logmeet.domain.MinutesSearchHistory;
 import org.focus.logmeet.domain.User;
 import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
 import org.focus.logmeet.repository.MinutesRepository;
 import org.focus.logmeet.repository.MinutesSearchHistoryRepository;
-import org.focus.logmeet.repository.MinutesSearchRepository;
+import org.focus.logmeet.repository.UserProjectRepository;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.focus.logmeet.repository.search.MinutesSearchHit;
+import org.focus.logmeet.repository.search.MinutesSearchHits;
 import org.focus.logmeet.security.annotation.CurrentUser;
 import org.focus.logmeet.security.aspect.CurrentUserHolder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
 
@@ -25,47 +41,110 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
 @Service
 @RequiredArgsConstructor
 public class MinutesSearchService {
-    private final MinutesSearchRepository minutesSearchRepository;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SUGGEST_SIZE = 5;
+    private static final int MAX_SUGGEST_SIZE = 10;
+    private static final int MAX_SEARCH_HISTORY = 10;
+
+    private final MinutesSearchEngine minutesSearchEngine;
     private final MinutesSearchHistoryRepository minutesSearchHistoryRepository;
     private final MinutesRepository minutesRepository;
+    private final UserProjectRepository userProjectRepository;
+    private final SearchResultCache searchResultCache;
+    private final SearchHistoryCache searchHistoryCache;
+    private final PrimaryReader primaryReader;
 
 
+    @Transactional(readOnly = true)
     @CurrentUser
-    public List<MinutesSearchResult> search(String query) {
+    public MinutesSearchPageResult search(MinutesSearchRequest request) {
         User currentUser = CurrentUserHolder.get();
         if (currentUser == null) {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        String sanitizedQuery = sanitizeQuery(query);
+        String sanitizedQuery = sanitizeQuery(request.getQuery());
+        int size = resolvePageSize(request.getSize());
+        SearchSortType sort = request.getSort() != null ? request.getSort() : SearchSortType.RELEVANCE;
+
+        List<Long> accessibleProjectIds = accessibleProjectIds(currentUser.getId());
+
+        if (accessibleProjectIds.isEmpty()) {
+            log.info("유저 {}는 접근 가능한 프로젝트가 없습니다.", currentUser.getId());
+            return MinutesSearchPageResult.empty();
+        }
+
+        SearchResultCache.Key cacheKey = new SearchResultCache.Key(currentUser.getId(), sanitizedQuery,
+                accessibleProjectIds, size, request.getSearchAfter(), request.getMinScore(), sort);
+
+        return searchResultCache.get(cacheKey, () -> primaryReader.read(() ->
+                searchPage(sanitizedQuery, accessibleProjectIds, size, request.getSearchAfter(), request.getMinScore(), sort)));
+    }
+
+    // 검색 범위(권한)와 캐시에 담을 결과는 레플리카 지연으로 탈퇴/삭제 전 상태가 보이지 않도록 프라이머리에서 조회
+    private List<Long> accessibleProjectIds(Long userId) {
+        return primaryReader.read(() -> userProjectRepository.findProjectIdsByUserId(userId));
+    }
 
-        List<Long> accessibleMinutesIds = minutesRepository.findAllByUserProjects_UserId(currentUser.getId())
-                .stream()
-                .map(Minutes::getId)
+    private MinutesSearchPageResult searchPage(String sanitizedQuery, List<Long> projectIds, int size,
+                                               List<Object> searchAfter, Float minScore, SearchSortType sort) {
+        MinutesSearchHits searchHits = minutesSearchEngine.searchPage(
+                sanitizedQuery, projectIds, size, searchAfter, minScore, sort
+        );
+        List<MinutesSearchHit> hits = searchHits.getHits();
+
+        List<Long> documentIds = hits.stream().map(hit -> hit.getDocument().getId()).toList();
+        Map<Long, Minutes> minutesById = minutesRepository.findAllById(documentIds).stream()
+                .collect(Collectors.toMap(Minutes::getId, Function.identity()));
+
+        // 검색 엔진의 정렬 순서를 그대로 유지
+        List<MinutesSearchResult> results = hits.stream()
+                .filter(hit -> minutesById.containsKey(hit.getDocument().getId()))
+                .map(hit -> {
+                    Minutes minutes = minutesById.get(hit.getDocument().getId());
+                    return MinutesSearchResult.builder()
+                            .id(minutes.getId())
+                            .title(minutes.getName())
+                            .projectName(minutes.getProject().getName())
+                            .contentSnippet(extractSnippet(minutes.getClearContent(), sanitizedQuery))
+                            .score(hit.getScore())
+                            .build();
+                })
                 .toList();
 
-        if (accessibleMinutesIds.isEmpty()) {
-            log.info("유저 {}는 접근 가능한 회의록이 없습니다.", currentUser.getId());
+        boolean hasNext = hits.size() == size;
+        List<Object> nextSearchAfter = hasNext ? hits.get(hits.size() - 1).getSortValues() : null;
+
+        return new MinutesSearchPageResult(results, searchHits.getTotalHits(), nextSearchAfter, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    @CurrentUser
+    public List<MinutesSuggestResult> suggest(String prefix, Integer size) {
+        User currentUser = CurrentUserHolder.get();
+        if (currentUser == null) {
+            throw new BaseException(USER_NOT_AUTHENTICATED);
+        }
+
+        String sanitizedPrefix = sanitizeQuery(prefix);
+        if (sanitizedPrefix.isEmpty()) {
             return List.of();
         }
 
-        List<MinutesDocument> searchResults = minutesSearchRepository.searchByQuery(
-                sanitizedQuery, accessibleMinutesIds
-        );
+        List<Long> accessibleProjectIds = accessibleProjectIds(currentUser.getId());
+        if (accessibleProjectIds.isEmpty()) {
+            return List.of();
+        }
 
-        List<Long> documentIds = searchResults.stream().map(MinutesDocument::getId).toList();
-        List<Minutes> minutesList = minutesRepository.findAllById(documentIds);
+        int suggestSize = (size == null || size <= 0) ? DEFAULT_SUGGEST_SIZE : Math.min(size, MAX_SUGGEST_SIZE);
 
-        return minutesList.stream()
-                .map(minutes -> MinutesSearchResult.builder()
-                        .id(minutes.getId())
-                        .title(minutes.getName())
-                        .projectName(minutes.getProject().getName())
-                        .contentSnippet(extractSnippet(minutes.getClearContent(), sanitizedQuery))
-                        .build())
+        return minutesSearchEngine.suggestTitles(sanitizedPrefix, accessibleProjectIds, suggestSize).stream()
+                .map(document -> new MinutesSuggestResult(document.getId(), document.getTitle()))
                 .toList();
     }
 
+    @Transactional
     @CurrentUser
     public void saveSearchHistory(Long minutesId) {
         User currentUser = CurrentUserHolder.get();
@@ -73,31 +152,27 @@ public class MinutesSearchService {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        boolean alreadyExists = minutesSearchHistoryRepository.existsByUserIdAndMinutesId(currentUser.getId(), minutesId);
-        if (alreadyExists) {
-            log.info("기존 검색 기록 갱신: userId={}, minutesId={}", currentUser.getId(), minutesId);
-            minutesSearchHistoryRepository.deleteByUserIdAndMinutesId(currentUser.getId(), minutesId);
+        int affected;
+        try {
+            affected = minutesSearchHistoryRepository.upsert(currentUser.getId(), minutesId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // minutes_id 외래 키 위반: 존재하지 않는 회의록
+            throw new BaseException(MINUTES_NOT_FOUND);
         }
 
-        List<MinutesSearchHistory> userHistories = minutesSearchHistoryRepository.findByUserIdOrderByCreatedAtAsc(currentUser.getId());
-        if (userHistories.size() >= 10) {
-            MinutesSearchHistory oldestHistory = userHistories.get(0);
-            minutesSearchHistoryRepository.delete(oldestHistory);
-            log.info("가장 오래된 검색 기록 삭제: historyId={}", oldestHistory.getId());
+        // 새 기록이 추가된 경우에만 링 크기를 넘는 오래된 기록을 정리
+        if (affected == 1) {
+            int trimmed = minutesSearchHistoryRepository.trimToRecent(currentUser.getId(), MAX_SEARCH_HISTORY);
+            if (trimmed > 0) {
+                log.info("오래된 검색 기록 삭제: userId={}, count={}", currentUser.getId(), trimmed);
+            }
         }
 
-        Minutes minutes = minutesRepository.findById(minutesId)
-                .orElseThrow(() -> new BaseException(MINUTES_NOT_FOUND));
-
-        MinutesSearchHistory searchHistory = MinutesSearchHistory.builder()
-                .user(currentUser)
-                .minutes(minutes)
-                .build();
-
-        minutesSearchHistoryRepository.save(searchHistory);
+        searchHistoryCache.invalidate(currentUser.getId());
         log.info("검색 기록 저장 완료: userId={}, minutesId={}", currentUser.getId(), minutesId);
     }
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<MinutesSearchHistoryResult> getUserSearchHistory() {
         User currentUser = CurrentUserHolder.get();
@@ -105,18 +180,11 @@ public class MinutesSearchService {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        List<MinutesSearchHistory> histories = minutesSearchHistoryRepository.findByUserIdOrderByCreatedAtDesc(currentUser.getId());
-
-        return histories.stream()
-                .map(history -> MinutesSearchHistoryResult.builder()
-                        .searchDate(history.getCreatedAt())
-                        .minutesId(history.getMinutes().getId())
-                        .title(history.getMinutes().getName())
-                        .projectName(history.getMinutes().getProject().getName())
-                        .build())
-                .toList();
+        return searchHistoryCache.get(currentUser.getId(), () ->
+                minutesSearchHistoryRepository.findRecentByUserId(currentUser.getId(), PageRequest.of(0, MAX_SEARCH_HISTORY)));
     }
 
+    @Transactional
     @CurrentUser
     public void deleteSearchHistory(Long historyId) {
         User currentUser = CurrentUserHolder.get();
@@ -124,20 +192,21 @@ public class MinutesSearchService {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        MinutesSearchHistory history = minutesSearchHistoryRepository.findById(historyId)
-                .orElseThrow(() -> new BaseException(SEARCH_HISTORY_NOT_FOUND));
-
-        if (!history.getUser().getId().equals(currentUser.getId())) {
+        int deleted = minutesSearchHistoryRepository.deleteByIdAndUserId(historyId, currentUser.getId());
+        if (deleted == 0) {
+            if (!minutesSearchHistoryRepository.existsById(historyId)) {
+                throw new BaseException(SEARCH_HISTORY_NOT_FOUND);
+            }
             throw new BaseException(NOT_USER_HISTORY);
         }
 
-        minutesSearchHistoryRepository.delete(history);
+        searchHistoryCache.invalidate(currentUser.getId());
         log.info("검색 기록 삭제 완료: historyId={}, userId={}", historyId, currentUser.getId());
     }
 
 
 
-    private String extractSnippet(String content, String query) {
+    static String extractSnippet(String content, String query) {
         if (content == null || query == null) {
             return content;
         }
@@ -156,15 +225,23 @@ public class MinutesSearchService {
     public void indexAllMinutes() {
         List<Minutes> allMinutes = minutesRepository.findAll();
         List<MinutesDocument> documents = allMinutes.stream()
-                .map(minutes -> MinutesDocument.builder()
-                        .id(minutes.getId())
-                        .title(minutes.getName())
-                        .content(minutes.getClearContent())
-                        .build())
+                .map(MinutesDocument::from)
                 .toList();
 
-        minutesSearchRepository.saveAll(documents);
-        log.info("Elasticsearch 인덱싱 완료: 총 " + documents.size() + "개 문서");
+        // 검색 엔진 장애로 애플리케이션 기동이 실패하지 않도록 한다
+        try {
+            minutesSearchEngine.saveAll(documents);
+            log.info("검색 인덱싱 완료: 총 {}개 문서", documents.size());
+        } catch (RuntimeException e) {
+            log.error("검색 인덱싱 실패: {}", e.getMessage());
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     private String sanitizeQuery(String query) {
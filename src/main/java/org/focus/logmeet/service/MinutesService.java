@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.focus.logmeet.common.exception.BaseException;
 import org.focus.logmeet.controller.dto.minutes.*;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
 import org.focus.logmeet.controller.dto.schedule.ScheduleDto;
 import org.focus.logmeet.domain.*;
 import org.focus.logmeet.domain.enums.MinutesType;
@@ -16,18 +17,18 @@ import org.focus.logmeet.repository.ScheduleRepository;
 import org.focus.logmeet.repository.UserProjectRepository;
 import org.focus.logmeet.security.annotation.CurrentUser;
 import org.focus.logmeet.security.aspect.CurrentUserHolder;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
@@ -41,34 +42,50 @@ import static org.focus.logmeet.domain.enums.Status.TEMP;
 @RequiredArgsConstructor
 public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복 최소화 필요
 
+    // 멀티파트 파트 번호 범위와 한 번에 발급하는 파트 URL 수 제한 (S3 API 제한)
+    private static final int MAX_PART_NUMBER = 10000;
+    private static final int MAX_PART_URLS_PER_REQUEST = 1000;
+    private static final List<String> UPLOAD_DIRECTORIES = List.of("minutes_voice/", "minutes_photo/", "minutes_multi_photo/");
+
     private final S3Service s3Service;
     private final MinutesRepository minutesRepository;
     private final ProjectRepository projectRepository;
     private final UserProjectRepository userProjectRepository;
+    private final MembershipService membershipService;
     private final ScheduleRepository scheduleRepository;
-    private final RestTemplate restTemplate;
+    private final FlaskGateway flaskGateway;
+    private final ChunkedTranscriber chunkedTranscriber;
+    private final HierarchicalSummarizer hierarchicalSummarizer;
+    private final MultiPageRecognizer multiPageRecognizer;
+    private final ContentDeduplicator contentDeduplicator;
+    private final AiJobScheduler aiJobScheduler;
+    private final PlatformTransactionManager transactionManager;
 
-    @Value("${flask.server.url}")
-    private String flaskServerUrl;
+    // 파일 경로별 진행 중인 변환. 업로드 이벤트와 클라이언트의 생성 요청이 같은 파일을 두 번 변환하지 않도록 공유한다
+    private final Map<String, CompletableFuture<String>> extractions = new ConcurrentHashMap<>();
 
-    // 일정 시간이 지난 임시 회의록을 삭제하는 스케줄러를 추가
-    @Scheduled(fixedRate = 1800000)
-    @Transactional
-    public void deleteOldTemporaryMinutes() {
-        LocalDateTime thirtyMinutesAgo = LocalDateTime.now().minusMinutes(30);
-        List<Minutes> oldTemporaryMinutes = minutesRepository.findOldTemporaryMinutes(TEMP, thirtyMinutesAgo);
-        for (Minutes minutes : oldTemporaryMinutes) {
-            log.info("삭제할 임시 회의록: minutesId={}, createdAt={}", minutes.getId(), minutes.getCreatedAt());
-            minutesRepository.delete(minutes);
+    @CurrentUser
+    public PreSignedUrlResponse generatePreSignedUrl(String fileName, MinutesType fileType) {
+        UploadTarget target = uploadTarget(fileName, fileType, currentUserId());
+
+        String preSignedUrl = s3Service.generatePreSignedUrl(target.directory(), target.fileName(), target.contentType());
+
+        return new PreSignedUrlResponse(preSignedUrl, target.filePath());
+    }
+
+    private record UploadTarget(String directory, String fileName, String contentType, String filePath) {
+        String objectKey() {
+            return directory + "/" + fileName;
         }
     }
 
-    public PreSignedUrlResponse generatePreSignedUrl(String fileName, MinutesType fileType) {
+    // 객체 키는 <디렉터리>/<업로더 ID>/<UUID>_<파일명>. 업로드 이벤트에서도 업로더를 알 수 있도록 키에 포함한다
+    private UploadTarget uploadTarget(String fileName, MinutesType fileType, Long uploaderId) {
         String directory;
         String contentType;
 
         // 고유한 파일명 생성
-        String uniqueFileName = UUID.randomUUID() + "_" + fileName;
+        String uniqueFileName = uploaderId + "/" + UUID.randomUUID() + "_" + fileName;
 
         if (fileType == MinutesType.VOICE) {
             directory = "minutes_voice";
@@ -76,110 +93,392 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
         } else if (fileType == MinutesType.PICTURE) {
             directory = "minutes_photo";
             contentType = "image/jpeg";
+        } else if (fileType == MinutesType.MULTI_PICTURE) {
+            // 페이지 이미지는 업로드 이벤트로 단일 사진 회의록이 생성되지 않도록 별도 디렉터리에 저장
+            directory = "minutes_multi_photo";
+            contentType = "image/jpeg";
         } else {
             throw new BaseException(MINUTES_UNSUPPORTED_TYPE);
         }
 
-        String bucketBaseUrl = "https://kr.object.ncloudstorage.com/logmeet";
-        String filePath = bucketBaseUrl + "/" + directory + "/" + uniqueFileName;
+        return new UploadTarget(directory, uniqueFileName, contentType, s3Service.toFilePath(directory + "/" + uniqueFileName));
+    }
+
+    // 단일 파일 회의록의 타입은 경로 문자열이 아니라 객체 키의 디렉터리로 정한다 (여러 장 사진 페이지 디렉터리와 그 외는 null)
+    static MinutesType uploadTypeOf(String objectKey) {
+        if (objectKey == null) {
+            return null;
+        }
+        if (objectKey.startsWith("minutes_voice/")) {
+            return VOICE;
+        }
+        if (objectKey.startsWith("minutes_photo/")) {
+            return PICTURE;
+        }
+        return null;
+    }
+
+    // 객체 키에 포함된 업로더 ID. 업로더 ID 가 없는 이전 형식의 키이면 null
+    static Long uploaderIdOf(String objectKey) {
+        if (objectKey == null) {
+            return null;
+        }
+        for (String directory : UPLOAD_DIRECTORIES) {
+            int end = objectKey.indexOf('/', directory.length());
+            if (objectKey.startsWith(directory) && end > directory.length()) {
+                try {
+                    return Long.valueOf(objectKey.substring(directory.length(), end));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Long currentUserId() {
+        User currentUser = CurrentUserHolder.get();
+        if (currentUser == null) {
+            throw new BaseException(USER_NOT_AUTHENTICATED);
+        }
+        return currentUser.getId();
+    }
+
+    // 다른 사용자가 업로드한 파일로는 회의록을 만들 수 없다 (이전 형식의 키는 업로더를 알 수 없어 허용)
+    private void checkUploader(String filePath, Long userId) {
+        Long uploaderId = uploaderIdOf(s3Service.toObjectKey(filePath));
+        if (uploaderId != null && !uploaderId.equals(userId)) {
+            log.warn("다른 사용자가 업로드한 파일로 회의록 생성 시도: filePath={}, userId={}", filePath, userId);
+            throw new BaseException(FORBIDDEN);
+        }
+    }
+
+    // 대용량 파일 멀티파트 업로드 시작. 클라이언트는 발급된 filePath 와 uploadId 로 파트 URL 발급, 완료, 취소를 요청한다
+    @CurrentUser
+    public MultipartUploadInitiateResponse initiateMultipartUpload(String fileName, MinutesType fileType) {
+        UploadTarget target = uploadTarget(fileName, fileType, currentUserId());
+        String uploadId = s3Service.initiateMultipartUpload(target.objectKey(), target.contentType());
+        log.info("멀티파트 업로드 시작: filePath={}, uploadId={}", target.filePath(), uploadId);
+        return new MultipartUploadInitiateResponse(uploadId, target.filePath());
+    }
+
+    // 파트별 업로드 URL 일괄 발급. 클라이언트는 파트를 동시에 올리고, 끊긴 뒤에는 남은 파트만 다시 요청할 수 있다
+    public List<MultipartUploadPartUrl> generatePartUploadUrls(String filePath, String uploadId, List<Integer> partNumbers) {
+        String objectKey = multipartObjectKey(filePath, uploadId);
+        if (partNumbers == null || partNumbers.isEmpty() || partNumbers.size() > MAX_PART_URLS_PER_REQUEST
+                || partNumbers.stream().anyMatch(n -> n == null || n < 1 || n > MAX_PART_NUMBER)) {
+            throw new BaseException(S3_MULTIPART_PART_INVALID);
+        }
+
+        List<String> urls = s3Service.generatePartUploadUrls(objectKey, uploadId, partNumbers);
+        List<MultipartUploadPartUrl> partUrls = new ArrayList<>(partNumbers.size());
+        for (int i = 0; i < partNumbers.size(); i++) {
+            partUrls.add(new MultipartUploadPartUrl(partNumbers.get(i), urls.get(i)));
+        }
+        return partUrls;
+    }
+
+    // 업로드 재개 시 이미 올라간 파트 확인용
+    public List<MultipartUploadPart> getUploadedParts(String filePath, String uploadId) {
+        return s3Service.listUploadedParts(multipartObjectKey(filePath, uploadId), uploadId);
+    }
+
+    // 파트 목록을 생략하면 스토리지에 업로드된 파트 전체로 완료 (ETag 헤더를 읽을 수 없는 클라이언트용)
+    public String completeMultipartUpload(String filePath, String uploadId, List<MultipartUploadPart> parts) {
+        String objectKey = multipartObjectKey(filePath, uploadId);
+        List<MultipartUploadPart> completedParts = parts == null || parts.isEmpty()
+                ? s3Service.listUploadedParts(objectKey, uploadId)
+                : parts;
+
+        Set<Integer> partNumbers = new HashSet<>();
+        boolean invalid = completedParts.isEmpty() || completedParts.stream().anyMatch(part -> part.getPartNumber() == null
+                || part.getEtag() == null || part.getEtag().isBlank() || !partNumbers.add(part.getPartNumber()));
+        if (invalid) {
+            throw new BaseException(S3_MULTIPART_PART_INVALID);
+        }
+
+        s3Service.completeMultipartUpload(objectKey, uploadId, completedParts.stream()
+                .sorted(Comparator.comparing(MultipartUploadPart::getPartNumber))
+                .toList());
+        log.info("멀티파트 업로드 완료: filePath={}, parts={}", filePath, completedParts.size());
+        return filePath;
+    }
 
-        String preSignedUrl = s3Service.generatePreSignedUrl(directory, uniqueFileName, contentType);
+    public void abortMultipartUpload(String filePath, String uploadId) {
+        s3Service.abortMultipartUpload(multipartObjectKey(filePath, uploadId), uploadId);
+        log.info("멀티파트 업로드 취소: filePath={}, uploadId={}", filePath, uploadId);
+    }
 
-        return new PreSignedUrlResponse(preSignedUrl, filePath);
+    // 회의록 업로드 디렉터리 밖의 객체는 멀티파트 요청 대상으로 허용하지 않는다
+    private String multipartObjectKey(String filePath, String uploadId) {
+        if (uploadId == null || uploadId.isBlank()) {
+            throw new BaseException(S3_MULTIPART_UPLOAD_NOT_FOUND);
+        }
+        String objectKey = s3Service.toObjectKey(filePath);
+        if (objectKey == null || UPLOAD_DIRECTORIES.stream().noneMatch(objectKey::startsWith)) {
+            throw new BaseException(MINUTES_UNSUPPORTED_TYPE);
+        }
+        return objectKey;
+    }
+
+    // 여러 장 사진 회의록용 Pre-signed URL 일괄 발급 (요청한 파일 순서 = 페이지 순서)
+    @CurrentUser
+    public List<PreSignedUrlResponse> generatePreSignedUrls(List<String> fileNames) {
+        multiPageRecognizer.checkPageCount(fileNames.size());
+        return fileNames.stream()
+                .map(fileName -> generatePreSignedUrl(fileName, MULTI_PICTURE))
+                .toList();
     }
     
-    // 파일 업로드 후 임시 회의록 생성
-    @Transactional
-    public MinutesFileUploadResponse createMinutes(String filePath) {
+    // 파일 업로드 후 임시 회의록 생성. Flask 변환을 기다리는 동안 요청 스레드를 점유하지 않는다
+    // 업로드 이벤트가 같은 파일로 이미 만든 회의록이 있으면 새로 만들지 않고 그 회의록을 사용하며, 진행 중인 변환이 있으면 함께 기다린다
+    // 요청한 사용자가 접근할 수 있는 회의록 중 같은 파일(스토리지 ETag 일치)을 이미 변환한 적이 있으면 Flask 를 호출하지 않고 결과를 재사용
+    // 변환은 AI 작업 스케줄러를 거쳐 요청한 사용자 단위로 다른 사용자의 작업과 번갈아 실행된다
+    @CurrentUser
+    public CompletableFuture<MinutesFileUploadResponse> createMinutes(String filePath) {
         log.info("파일 path로 임시 회의록 생성 시도: filePath={}", filePath);
+        Long userId = currentUserId();
+        checkUploader(filePath, userId);
 
-        Minutes minutes = new Minutes();
-        MinutesType fileType;
-        if (filePath.contains("minutes_voice")) {
-            fileType = VOICE;
-        } else if (filePath.contains("minutes_photo")) {
-            fileType = PICTURE;
-        } else {
-            fileType = MANUAL;
+        MinutesType fileType = uploadTypeOf(s3Service.toObjectKey(filePath));
+        if (fileType == null) {
+            log.warn("회의록 업로드 디렉터리가 아닌 파일로 회의록 생성 시도: filePath={}", filePath);
+            throw new BaseException(MINUTES_UNSUPPORTED_TYPE);
         }
-        minutes.setType(fileType);
-        minutes.setStatus(TEMP);  // 임시 상태로 설정
-        minutes.setFilePath(filePath);
 
-        String content = switch (fileType) {
-            case VOICE -> processVoice(filePath, minutes);
-            case PICTURE -> processPicture(filePath, minutes);
-            case MANUAL -> "";
-        };
+        Optional<Minutes> uploaded = minutesRepository.findByFilePathKey(Minutes.filePathKeyOf(filePath));
+        if (uploaded.isPresent() && uploaded.get().getContent() != null) {
+            Minutes minutes = uploaded.get();
+            log.info("업로드 이벤트로 생성된 회의록 사용: minutesId={}", minutes.getId());
+            return CompletableFuture.completedFuture(
+                    new MinutesFileUploadResponse(minutes.getId(), minutes.getFilePath(), minutes.getType()));
+        }
 
-        if (content != null) {
-            String clearContent = extractClearContent(content, fileType);
-            minutes.setClearContent(clearContent);
+        String fingerprint = contentDeduplicator.fingerprint(filePath);
+        CompletableFuture<String> content = contentDeduplicator.findProcessedContent(fingerprint, fileType, userId)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> extractOnce(filePath, () -> scheduleExtraction(AiJobScheduler.tenantOf(null), filePath, fileType)));
+        return FlaskGateway.linkCancellation(content, content.handle((text, e) -> {
+            if (e != null) {
+                log.error("파일 텍스트 처리 중 오류 발생: filePath={}", filePath, FlaskGateway.unwrap(e));
+                throw new BaseException(MINUTES_FLASK_SERVER_COMMUNICATION_ERROR);
+            }
+            if (uploaded.isPresent()) {
+                return fillUploadedMinutes(filePath, fileType, text);
+            }
+            return saveTemporaryMinutes(filePath, fileType, text, List.of(), fingerprint, userId);
+        }));
+    }
+
+    // 같은 파일의 변환이 진행 중이면 새로 요청하지 않고 그 결과를 함께 기다린다
+    // 변환을 시작한 쪽이 취소하면 진행 중인 호출도 취소되고, 함께 기다리던 쪽은 실패로 끝난다
+    private CompletableFuture<String> extractOnce(String filePath, Supplier<CompletableFuture<String>> schedule) {
+        CompletableFuture<String> shared = new CompletableFuture<>();
+        CompletableFuture<String> inFlight = extractions.putIfAbsent(filePath, shared);
+        if (inFlight != null) {
+            log.info("진행 중인 같은 파일의 변환 결과를 기다림: filePath={}", filePath);
+            return inFlight.copy();
         }
+        CompletableFuture<String> extraction;
+        try {
+            extraction = schedule.get();
+        } catch (RuntimeException e) {
+            extractions.remove(filePath, shared);
+            shared.completeExceptionally(e);
+            throw e;
+        }
+        extraction.whenComplete((text, e) -> {
+            extractions.remove(filePath, shared);
+            if (e != null) {
+                shared.completeExceptionally(e);
+            } else {
+                shared.complete(text);
+            }
+        });
+        return extraction;
+    }
 
-        log.info("임시 회의록 저장 시도: fileType={}", fileType);
-        // 임시 회의록 저장
-        minutesRepository.save(minutes);
-        log.info("임시 회의록 저장 완료: minutesId={}, fileType={}", minutes.getId(), fileType);
+    private CompletableFuture<String> scheduleExtraction(String tenant, String filePath, MinutesType fileType) {
+        double estimatedSeconds = estimateExtractionSeconds(filePath, fileType);
+        return aiJobScheduler.submit(tenant, fileType.name(), estimatedSeconds, () -> extractContent(filePath, fileType));
+    }
 
-        return new MinutesFileUploadResponse(minutes.getId(), minutes.getFilePath(), minutes.getType());
+    // 업로드 이벤트 작업은 업로더 단위 테넌트로 등록하고, 대기열이 가득 차면 버리지 않고 다시 등록한다
+    private CompletableFuture<String> scheduleUploadExtraction(Long uploaderId, String filePath, MinutesType fileType) {
+        double estimatedSeconds = estimateExtractionSeconds(filePath, fileType);
+        return aiJobScheduler.submitWithRetry(AiJobScheduler.tenantOfUploader(uploaderId), uploaderId, fileType.name(),
+                estimatedSeconds, () -> extractContent(filePath, fileType));
     }
 
-    // 음성 파일을 Flask 서버에 텍스트 변환 요청 처리
-    protected String processVoice(String filePath, Minutes minutes) {
+    private double estimateExtractionSeconds(String filePath, MinutesType fileType) {
+        Long sizeBytes = fileType == VOICE ? fileSize(filePath) : null;
+        return aiJobScheduler.estimateExtractionSeconds(fileType, sizeBytes, 1);
+    }
+
+    // 크기를 알 수 없으면 null (예상 처리 시간은 유형별 기본값 사용)
+    private Long fileSize(String filePath) {
+        String objectKey = s3Service.toObjectKey(filePath);
+        if (objectKey == null) {
+            return null;
+        }
         try {
-            String audioProcessingUrl = flaskServerUrl + "/process_audio";
-            String content = processFileToText(filePath, audioProcessingUrl);  // 텍스트 변환 요청
-            minutes.setContent(content);
-            return content;
-        } catch (Exception e) {
-            log.error("음성 파일 텍스트 처리 중 오류 발생", e);
-            throw new BaseException(MINUTES_FLASK_SERVER_COMMUNICATION_ERROR);
+            return s3Service.getContentLength(objectKey);
+        } catch (RuntimeException e) {
+            log.warn("파일 크기 조회 실패, 기본 예상 처리 시간 사용: filePath={}", filePath, e);
+            return null;
         }
     }
 
-    // 사진 파일을 Flask 서버에 이미지 텍스트 변환 요청
-    protected String processPicture(String filePath, Minutes minutes) {
+    private CompletableFuture<String> extractContent(String filePath, MinutesType fileType) {
+        return switch (fileType) {
+            case VOICE -> chunkedTranscriber.transcribe(filePath);
+            case PICTURE -> flaskGateway.processImage(filePath);
+            case MULTI_PICTURE -> multiPageRecognizer.recognize(List.of(filePath));
+            case MANUAL -> CompletableFuture.completedFuture("");
+        };
+    }
+
+    // 스토리지 업로드 이벤트로 임시 회의록을 먼저 저장하고 변환은 이어서 비동기로 진행 (클라이언트의 생성 요청 불필요)
+    // 같은 파일의 회의록이 이미 있으면(이벤트 재전달, 클라이언트의 생성 요청) 새로 만들지 않고 빈 값을 반환. 동시에 만들어지면 유일 인덱스가 막는다
+    // 업로더의 회의록 중 같은 지문의 변환 결과가 있으면 바로 채운다
+    public Optional<Long> startMinutesFromUpload(String filePath, MinutesType fileType, String fingerprint, Long uploaderId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Minutes created;
         try {
-            String imageProcessingUrl = flaskServerUrl + "/process_image";
-            String content = processFileToText(filePath, imageProcessingUrl); // 이미지 텍스트 변환 요청
-            minutes.setContent(content);
-            return content;
-        } catch (Exception e) {
-            log.error("사진 파일 업로드 또는 텍스트 처리 중 오류 발생", e);
-            throw new BaseException(MINUTES_FLASK_SERVER_COMMUNICATION_ERROR);
+            created = transactionTemplate.execute(status -> {
+                if (minutesRepository.existsByFilePathKey(Minutes.filePathKeyOf(filePath))) {
+                    return null;
+                }
+                Minutes minutes = new Minutes();
+                minutes.setType(fileType);
+                minutes.setStatus(TEMP);
+                minutes.setFilePath(filePath);
+                minutes.setContentHash(fingerprint);
+                minutes.setUploaderId(uploaderId);
+                contentDeduplicator.findProcessedContent(fingerprint, fileType, uploaderId)
+                        .ifPresent(content -> applyContent(minutes, fileType, content));
+                minutesRepository.save(minutes);
+                return minutes;
+            });
+        } catch (DataIntegrityViolationException e) {
+            created = null;
+        }
+        if (created == null) {
+            log.info("같은 파일의 회의록이 이미 있어 업로드 이벤트를 건너뜀: filePath={}", filePath);
+            return Optional.empty();
         }
+        Long minutesId = created.getId();
+        log.info("업로드 이벤트로 임시 회의록 생성: minutesId={}, fileType={}", minutesId, fileType);
+        if (created.getContent() != null) {
+            return Optional.of(minutesId);
+        }
+
+        // 대기열이 가득 차 끝내 등록하지 못하면 본문 없는 임시 회의록으로 남고, 클라이언트의 생성 요청이 변환을 다시 시작한다
+        CompletableFuture<String> extraction = extractOnce(filePath, () -> scheduleUploadExtraction(uploaderId, filePath, fileType));
+        extraction.whenComplete((content, e) -> {
+            if (e != null) {
+                log.error("업로드 파일 텍스트 처리 중 오류 발생: minutesId={}, filePath={}", minutesId, filePath, FlaskGateway.unwrap(e));
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> minutesRepository.findById(minutesId).ifPresent(minutes -> {
+                    applyContent(minutes, fileType, content);
+                    minutesRepository.save(minutes);
+                }));
+                log.info("업로드 파일 텍스트 처리 완료: minutesId={}", minutesId);
+            } catch (RuntimeException saveError) {
+                log.error("업로드 파일 텍스트 저장 중 오류 발생: minutesId={}", minutesId, saveError);
+            }
+        });
+        return Optional.of(minutesId);
     }
 
-    // 파일을 Flask 서버에 전송하여 텍스트 변환하는 공통 메서드
-    protected String processFileToText(String filePath, String flaskUrl) {
-        log.info("파일 텍스트 변환 시도: filePath={}, url={}", filePath, flaskUrl); //TODO: 일정 시간 초과 및 파일 크기에 따라 종료
+    // 업로드 이벤트로 생성된 임시 회의록을 파일 경로로 조회 (클라이언트가 회의록 정보를 입력할 때 사용)
+    @Transactional(readOnly = true)
+    public MinutesFileUploadResponse getUploadedMinutes(String filePath) {
+        Minutes minutes = minutesRepository.findByFilePathKey(Minutes.filePathKeyOf(filePath))
+                .orElseThrow(() -> new BaseException(MINUTES_NOT_FOUND));
+        return new MinutesFileUploadResponse(minutes.getId(), minutes.getFilePath(), minutes.getType());
+    }
 
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+    // 여러 장의 이미지로 임시 회의록 생성. 모든 이미지를 병렬로 변환해 페이지 순서대로 하나의 본문으로 합친다
+    @CurrentUser
+    public CompletableFuture<MinutesFileUploadResponse> createMultiPictureMinutes(List<String> filePaths) {
+        log.info("여러 장 이미지로 임시 회의록 생성 시도: pages={}", filePaths.size());
+        Long userId = currentUserId();
+        multiPageRecognizer.checkPageCount(filePaths.size());
+        if (filePaths.stream().anyMatch(filePath -> filePath == null
+                || !(filePath.contains("minutes_multi_photo") || filePath.contains("minutes_photo")))) {
+            throw new BaseException(MINUTES_UNSUPPORTED_TYPE);
+        }
+        filePaths.forEach(filePath -> checkUploader(filePath, userId));
+
+        double estimatedSeconds = aiJobScheduler.estimateExtractionSeconds(MULTI_PICTURE, null, filePaths.size());
+        CompletableFuture<String> content = aiJobScheduler.submit(AiJobScheduler.tenantOf(null), MULTI_PICTURE.name(),
+                estimatedSeconds, () -> multiPageRecognizer.recognize(filePaths));
+        return FlaskGateway.linkCancellation(content, content.handle((text, e) -> {
+            if (e != null) {
+                log.error("여러 장 이미지 텍스트 처리 중 오류 발생: pages={}", filePaths.size(), FlaskGateway.unwrap(e));
+                throw new BaseException(MINUTES_FLASK_SERVER_COMMUNICATION_ERROR);
+            }
+            return saveTemporaryMinutes(filePaths.get(0), MULTI_PICTURE, text, filePaths, null, userId);
+        }));
+    }
 
-            HashMap<String, String> requestBody = new HashMap<>();
-            requestBody.put("filePath", filePath);
+    private MinutesFileUploadResponse saveTemporaryMinutes(String filePath, MinutesType fileType, String content,
+                                                           List<String> pageFilePaths, String contentHash, Long uploaderId) {
+        Minutes minutes = new Minutes();
+        minutes.setType(fileType);
+        minutes.setStatus(TEMP);  // 임시 상태로 설정
+        minutes.setFilePath(filePath);
+        minutes.setPageFilePaths(new ArrayList<>(pageFilePaths));
+        minutes.setContentHash(contentHash);
+        minutes.setUploaderId(uploaderId);
+        applyContent(minutes, fileType, content);
 
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
+        log.info("임시 회의록 저장 시도: fileType={}", fileType);
+        // 임시 회의록 저장
+        try {
+            minutesRepository.save(minutes);
+        } catch (DataIntegrityViolationException e) {
+            if (fileType != VOICE && fileType != PICTURE) {
+                throw e;
+            }
+            // 변환을 기다리는 동안 업로드 이벤트가 같은 파일의 회의록을 먼저 만든 경우
+            return fillUploadedMinutes(filePath, fileType, content);
+        }
+        log.info("임시 회의록 저장 완료: minutesId={}, fileType={}", minutes.getId(), fileType);
 
-            URI uri = UriComponentsBuilder.fromHttpUrl(flaskUrl)
-                    .build().toUri();
+        return new MinutesFileUploadResponse(minutes.getId(), minutes.getFilePath(), minutes.getType());
+    }
 
-            ResponseEntity<String> response = restTemplate.postForEntity(uri, requestEntity, String.class);
-            log.info("파일 텍스트 변환 성공: filePath={}", filePath);
-            return Objects.requireNonNull(response.getBody());
+    // 업로드 이벤트가 만든 같은 파일의 회의록에 본문이 아직 없으면 채운다
+    private MinutesFileUploadResponse fillUploadedMinutes(String filePath, MinutesType fileType, String content) {
+        Minutes minutes = new TransactionTemplate(transactionManager).execute(status -> {
+            Minutes uploaded = minutesRepository.findByFilePathKey(Minutes.filePathKeyOf(filePath))
+                    .orElseThrow(() -> new BaseException(MINUTES_NOT_FOUND));
+            if (uploaded.getContent() == null) {
+                applyContent(uploaded, fileType, content);
+                minutesRepository.save(uploaded);
+            }
+            return uploaded;
+        });
+        log.info("업로드 이벤트로 생성된 회의록에 본문 저장: minutesId={}", minutes.getId());
+        return new MinutesFileUploadResponse(minutes.getId(), minutes.getFilePath(), minutes.getType());
+    }
 
-        } catch (Exception e) {
-            log.error("파일 텍스트 변환 중 오류 발생", e);
-            throw new BaseException(MINUTES_TEXT_SUMMARY_API_CALL_FAILED);
+    private static void applyContent(Minutes minutes, MinutesType fileType, String content) {
+        if (fileType != MANUAL) {
+            minutes.setContent(content);
+        }
+        if (content != null) {
+            minutes.setClearContent(extractClearContent(content, fileType));
         }
     }
 
-    @Transactional
+    // 권한 검증은 요청 스레드에서 수행하고, 요약 응답을 받은 뒤 요약/일정을 한 트랜잭션으로 저장
     @CurrentUser
-    public MinutesSummarizeResult summarizeText(Long minutesId) {
+    public CompletableFuture<MinutesSummarizeResult> summarizeText(Long minutesId) {
         log.info("텍스트 요약 시도: minutesId={}", minutesId);
         User currentUser = CurrentUserHolder.get();
         if (currentUser == null) {
@@ -191,76 +490,75 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
 
 
         Project project = minutes.getProject();
-        if (userProjectRepository.findByUserAndProject(currentUser, project).isEmpty()) {
-            throw new BaseException(USER_NOT_IN_PROJECT);
+        membershipService.getMembership(currentUser.getId(), project != null ? project.getId() : null);
+
+        // 음성 회의록의 content 는 Flask 원본 JSON 이므로 화자별로 정리된 본문을 우선 요약
+        String extractedText = minutes.getClearContent() != null && !minutes.getClearContent().isBlank()
+                ? minutes.getClearContent() : minutes.getContent();
+        // 변환이 아직 끝나지 않았거나 내용이 없는 회의록은 작업 대기열에 넣지 않는다
+        if (extractedText == null || extractedText.isBlank()) {
+            log.info("요약할 내용이 없는 회의록: minutesId={}", minutesId);
+            throw new BaseException(MINUTES_CONTENT_EMPTY);
         }
+        double estimatedSeconds = aiJobScheduler.estimateSummarySeconds(extractedText.length());
+        CompletableFuture<MinutesSummarizeResult> summary = aiJobScheduler.submit(AiJobScheduler.tenantOf(project), "SUMMARY",
+                estimatedSeconds, () -> hierarchicalSummarizer.summarize(extractedText));
+        return FlaskGateway.linkCancellation(summary, summary.handle((responseBody, e) -> {
+            if (e != null) {
+                Throwable cause = FlaskGateway.unwrap(e);
+                if (cause instanceof BaseException baseException) {
+                    throw baseException;
+                }
+                log.error("텍스트 요약 중 오류 발생", cause);
+                throw new BaseException(MINUTES_TEXT_SUMMARY_ERROR);
+            }
+            return new TransactionTemplate(transactionManager).execute(status -> applySummary(minutes, responseBody));
+        }));
+    }
 
-        String extractedText = minutes.getContent();
-        try {
-            String textSummarizationUrl = flaskServerUrl + "/summarize_text";
-            URI uri = UriComponentsBuilder.fromHttpUrl(textSummarizationUrl)
-                    .build().toUri();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-
-            Map<String, String> requestBody = new HashMap<>();
-            requestBody.put("text", extractedText);
-
-            HttpEntity<Map<String, String>> requestEntity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<MinutesSummarizeResult> response = restTemplate.postForEntity(
-                    uri,
-                    requestEntity,
-                    MinutesSummarizeResult.class
-            );
+    // 현재 사용자가 요청한 AI 작업(변환/요약)의 대기 순번과 상태
+    @CurrentUser
+    public List<AiJobStatusResponse> getAiJobs() {
+        User currentUser = CurrentUserHolder.get();
+        if (currentUser == null) {
+            throw new BaseException(USER_NOT_AUTHENTICATED);
+        }
+        return aiJobScheduler.getJobs(currentUser.getId());
+    }
 
-            // 응답 본문 확인을 위한 디버깅
-            log.info("응답 본문: {}", response.getBody());
+    private MinutesSummarizeResult applySummary(Minutes minutes, MinutesSummarizeResult responseBody) {
+        // 응답 본문 확인을 위한 디버깅
+        log.info("응답 본문: {}", responseBody);
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                MinutesSummarizeResult responseBody = response.getBody();
+        if (responseBody == null || responseBody.getSummarizedText() == null) {
+            log.error("요약 API 응답에 'summary'가 없음: {}", responseBody);
+            throw new BaseException(MINUTES_TEXT_SUMMARY_MISSING);
+        }
 
-                if (responseBody != null && responseBody.getSummarizedText() != null) {
-                    log.info("요약 API 호출 성공: 요약된 텍스트={}", responseBody.getSummarizedText());
-                    minutes.setSummary(responseBody.getSummarizedText());
-                    minutesRepository.save(minutes);
+        log.info("요약 API 호출 성공: 요약된 텍스트={}", responseBody.getSummarizedText());
+        minutes.setSummary(responseBody.getSummarizedText());
+        minutesRepository.save(minutes);
 
-                    List<ScheduleDto> schedules = responseBody.getSchedules();
-                    if (schedules != null && !schedules.isEmpty()) {
-                        for (ScheduleDto scheduleDto : schedules) {
-                            try {
-                                LocalDateTime scheduleDate = LocalDateTime.parse(scheduleDto.getExtractedScheduleDate());
-
-                                Schedule schedule = Schedule.builder()
-                                        .project(minutes.getProject())
-                                        .scheduleDate(scheduleDate)
-                                        .content(scheduleDto.getExtractedScheduleContent())
-                                        .status(ACTIVE)
-                                        .build();
-                                scheduleRepository.save(schedule);
-                            } catch (DateTimeParseException e) {
-                                log.error("잘못된 날짜 형식: {}", scheduleDto.getExtractedScheduleDate(), e);
-                                throw new BaseException(SCHEDULE_DATE_FORMAT_INVALID);
-                            }
-                        }
-                    }
-                    return responseBody;
-                } else {
-                    log.error("요약 API 응답에 'summary'가 없음: {}", responseBody);
-                    throw new BaseException(MINUTES_TEXT_SUMMARY_MISSING);
+        List<ScheduleDto> schedules = responseBody.getSchedules();
+        if (schedules != null && !schedules.isEmpty()) {
+            for (ScheduleDto scheduleDto : schedules) {
+                try {
+                    LocalDateTime scheduleDate = LocalDateTime.parse(scheduleDto.getExtractedScheduleDate());
+
+                    Schedule schedule = Schedule.builder()
+                            .project(minutes.getProject())
+                            .scheduleDate(scheduleDate)
+                            .content(scheduleDto.getExtractedScheduleContent())
+                            .status(ACTIVE)
+                            .build();
+                    scheduleRepository.save(schedule);
+                } catch (DateTimeParseException e) {
+                    log.error("잘못된 날짜 형식: {}", scheduleDto.getExtractedScheduleDate(), e);
+                    throw new BaseException(SCHEDULE_DATE_FORMAT_INVALID);
                 }
-            } else {
-                log.error("요약 API 호출 실패: 상태 코드={}", response.getStatusCode());
-                throw new BaseException(MINUTES_TEXT_SUMMARY_API_CALL_FAILED);
             }
-
-        } catch (BaseException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("텍스트 요약 중 오류 발생", e);
-            throw new BaseException(MINUTES_TEXT_SUMMARY_ERROR);
         }
+        return responseBody;
     }
 
     // 회의록 정보 업데이트
@@ -274,23 +572,20 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
+        // 멤버십(캐시)으로 참여 여부와 프로젝트 존재를 확인한 뒤, 연관관계에는 조회 없이 참조만 연결
+        membershipService.getMembership(currentUser.getId(), projectId);
+        Project project = projectRepository.getReferenceById(projectId);
+
         Minutes minutes = minutesRepository.findById(minutesId)
                 .orElseThrow(() -> new BaseException(MINUTES_NOT_FOUND));
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-
-        if (userProjectRepository.findByUserAndProject(currentUser, project).isEmpty()) {
-            throw new BaseException(USER_NOT_IN_PROJECT);
-        }
-
         minutes.setName(minutesName);
         minutes.setProject(project);
         minutes.setStatus(ACTIVE);  // ACTIVE 상태로 변경
 
         minutesRepository.save(minutes);
 
-        return new MinutesCreateResponse(minutes.getId(), project.getId());
+        return new MinutesCreateResponse(minutes.getId(), projectId);
     }
 
     // 수동 입력된 회의록을 저장
@@ -303,12 +598,8 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-
-        if (userProjectRepository.findByUserAndProject(currentUser, project).isEmpty()) {
-            throw new BaseException(USER_NOT_IN_PROJECT);
-        }
+        membershipService.getMembership(currentUser.getId(), projectId);
+        Project project = projectRepository.getReferenceById(projectId);
 
         Minutes minutes = new Minutes();
         minutes.setProject(project);
@@ -321,10 +612,11 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
 
         log.info("직접 회의록 생성 성공: minutesName={}", minutesName);
 
-        return new MinutesCreateResponse(minutes.getId(), minutes.getProject().getId());
+        return new MinutesCreateResponse(minutes.getId(), projectId);
     }
 
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public MinutesInfoResult getMinutes(Long minutesId) {
         log.info("회의록 정보 조회: minutesId={}", minutesId);
@@ -337,9 +629,7 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
                 .orElseThrow(() -> new BaseException(MINUTES_NOT_FOUND));
 
         Project project = minutes.getProject();
-        if (userProjectRepository.findByUserAndProject(currentUser, project).isEmpty()) {
-            throw new BaseException(USER_NOT_IN_PROJECT);
-        }
+        membershipService.getMembership(currentUser.getId(), project != null ? project.getId() : null);
 
         return new MinutesInfoResult(
                 minutes.getId(),
@@ -350,11 +640,12 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
                 minutes.getFilePath(),
                 minutes.getSummary(),
                 minutes.getType(),
-                minutes.getCreatedAt()
+                minutes.getCreatedAt(),
+                List.copyOf(minutes.getPageFilePaths())
         );
     }
 
-    private String extractClearContent(String content, MinutesType type) {
+    static String extractClearContent(String content, MinutesType type) {
         try {
             ObjectMapper objectMapper = new ObjectMapper();
             JsonNode rootNode = objectMapper.readTree(content);
@@ -387,8 +678,8 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
     }
 
 
-    @Transactional
-    @CurrentUser //TODO: @Transactional(readOnly = true) 왜 필요?
+    @Transactional(readOnly = true)
+    @CurrentUser
     public List<MinutesListResult> getMinutesList() {
         User currentUser = CurrentUserHolder.get();
 
@@ -422,17 +713,17 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<MinutesListResult> getProjectMinutes(Long projectId) {
         log.info("프로젝트에 속한 회의록 조회 시도: projectId={}", projectId);
         User currentUser = CurrentUserHolder.get();
-        List<Minutes> minutesList = minutesRepository.findAllByProjectId(projectId);
-
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
+        if (currentUser == null) {
+            throw new BaseException(USER_NOT_AUTHENTICATED);
+        }
 
-        UserProject memberProject = userProjectRepository.findByUserAndProject(currentUser, project)
-                .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
+        ProjectMembership memberProject = membershipService.getMembership(currentUser.getId(), projectId);
+        List<Minutes> minutesList = minutesRepository.findAllByProjectId(projectId);
 
         if (minutesList.isEmpty()) {
             log.info("프로젝트에 회의록이 없음: projectId={}", projectId);
@@ -465,14 +756,10 @@ public class MinutesService { //TODO: 현재 유저 정보 검증 로직 중복
         if (currentUser == null) {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-
-        UserProject leaderProject = userProjectRepository.findByUserAndProject(currentUser, project)
-                .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
+        ProjectMembership leaderProject = membershipService.getMembership(currentUser.getId(), projectId);
 
         if (!leaderProject.getRole().equals(LEADER)) {
-            log.info("권한이 없는 삭제 시도: projectId={}, userId={}", minutesId, leaderProject.getUser().getId());
+            log.info("권한이 없는 삭제 시도: projectId={}, userId={}", minutesId, leaderProject.getUserId());
             throw new BaseException(USER_NOT_LEADER);
         }
 
@@ -0,0 +1,88 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_INVALID_JSON_FORMAT;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_PAGE_COUNT_INVALID;
+
+/**
+ * 여러 장의 이미지(화이트보드 사진 등)를 병렬로 OCR 한 뒤 페이지 순서대로 이어 붙인다.
+ * 동시에 진행되는 /process_image 요청 수를 제한하고, 실패한 페이지만 재시도한다.
+ */
+@Slf4j
+@Component
+public class MultiPageRecognizer {
+
+    private static final String PAGE_SEPARATOR = "\n\n";
+
+    private final FlaskGateway flaskGateway;
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final int parallelism;
+    private final int maxRetries;
+    private final long retryBackoffMs;
+
+    public MultiPageRecognizer(FlaskGateway flaskGateway,
+                               ObjectMapper objectMapper,
+                               @Value("${minutes.multi-picture.max-pages:30}") int maxPages,
+                               @Value("${minutes.multi-picture.parallelism:4}") int parallelism,
+                               @Value("${minutes.multi-picture.max-retries:1}") int maxRetries,
+                               @Value("${minutes.multi-picture.retry-backoff-ms:1000}") long retryBackoffMs) {
+        this.flaskGateway = flaskGateway;
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMs = retryBackoffMs;
+    }
+
+    public void checkPageCount(int pageCount) {
+        if (pageCount < 1 || pageCount > maxPages) {
+            throw new BaseException(MINUTES_PAGE_COUNT_INVALID);
+        }
+    }
+
+    // 페이지별 Flask 응답을 {"text": 페이지 순서대로 이어 붙인 본문, "pages": [페이지별 원본 응답]} 형식으로 반환
+    public CompletableFuture<String> recognize(List<String> filePaths) {
+        checkPageCount(filePaths.size());
+        log.info("여러 장 이미지 텍스트 변환 시작: pages={}", filePaths.size());
+
+        CompletableFuture<List<String>> pages = AsyncBatch.mapBounded(filePaths, parallelism,
+                filePath -> AsyncBatch.retrying(() -> flaskGateway.processImage(filePath), maxRetries, retryBackoffMs));
+        return FlaskGateway.linkCancellation(pages, pages.thenApply(this::combine));
+    }
+
+    private String combine(List<String> pages) {
+        ArrayNode pageNodes = objectMapper.createArrayNode();
+        StringBuilder text = new StringBuilder();
+        try {
+            for (String page : pages) {
+                pageNodes.add(objectMapper.readTree(page));
+                String pageText = MinutesService.extractClearContent(page, MinutesType.PICTURE);
+                if (!pageText.isBlank()) {
+                    if (text.length() > 0) {
+                        text.append(PAGE_SEPARATOR);
+                    }
+                    text.append(pageText.strip());
+                }
+            }
+            ObjectNode root = objectMapper.createObjectNode();
+            root.put("text", text.toString());
+            root.set("pages", pageNodes);
+            return objectMapper.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new BaseException(MINUTES_INVALID_JSON_FORMAT);
+        }
+    }
+}
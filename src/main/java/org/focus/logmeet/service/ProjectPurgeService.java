@@ -0,0 +1,172 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.cache.SearchResultCache;
+import org.focus.logmeet.controller.dto.minutes.MinutesFileRef;
+import org.focus.logmeet.repository.*;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.focus.logmeet.domain.enums.Status.DELETED;
+
+/**
+ * 삭제 표시(DELETED)된 프로젝트의 하위 데이터 정리 작업.
+ * 검색 문서는 프로젝트 단위 delete-by-query 한 번으로, 회의록과 업로드 파일은 {@link MinutesBulkDeleter}로 배치 삭제하고,
+ * 일정/멤버/초대 코드와 프로젝트 행은 벌크 SQL로 삭제한다.
+ * 프로젝트 삭제 요청 커밋 직후 실행되며, 실패하거나 중단된 프로젝트는 주기 실행에서 다시 정리된다.
+ */
+@Slf4j
+@Service
+public class ProjectPurgeService {
+    private final ProjectRepository projectRepository;
+    private final MinutesRepository minutesRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserProjectRepository userProjectRepository;
+    private final InviteCodeRepository inviteCodeRepository;
+    private final MinutesBulkDeleter minutesBulkDeleter;
+    private final MinutesSearchEngine minutesSearchEngine;
+    private final SearchResultCache searchResultCache;
+    private final TaskExecutor maintenanceExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int projectsPerRun;
+    private final int minutesBatchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Counter projectCounter;
+    private final Counter minutesCounter;
+    private final Counter fileDeletedCounter;
+    private final Counter fileFailedCounter;
+    private final Timer purgeTimer;
+
+    public ProjectPurgeService(ProjectRepository projectRepository,
+                               MinutesRepository minutesRepository,
+                               ScheduleRepository scheduleRepository,
+                               UserProjectRepository userProjectRepository,
+                               InviteCodeRepository inviteCodeRepository,
+                               MinutesBulkDeleter minutesBulkDeleter,
+                               MinutesSearchEngine minutesSearchEngine,
+                               SearchResultCache searchResultCache,
+                               @Qualifier("maintenanceExecutor") TaskExecutor maintenanceExecutor,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${project.purge.projects-per-run:20}") int projectsPerRun,
+                               @Value("${project.purge.minutes-batch-size:500}") int minutesBatchSize) {
+        this.projectRepository = projectRepository;
+        this.minutesRepository = minutesRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.userProjectRepository = userProjectRepository;
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.minutesBulkDeleter = minutesBulkDeleter;
+        this.minutesSearchEngine = minutesSearchEngine;
+        this.searchResultCache = searchResultCache;
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.projectsPerRun = projectsPerRun;
+        this.minutesBatchSize = minutesBatchSize;
+
+        this.projectCounter = Counter.builder("project.purge.projects")
+                .description("하위 데이터까지 정리된 프로젝트 수")
+                .register(meterRegistry);
+        this.minutesCounter = Counter.builder("project.purge.minutes")
+                .description("프로젝트 정리로 삭제된 회의록 수")
+                .register(meterRegistry);
+        this.fileDeletedCounter = Counter.builder("project.purge.files.deleted")
+                .description("프로젝트 정리로 삭제된 업로드 파일 수")
+                .register(meterRegistry);
+        this.fileFailedCounter = Counter.builder("project.purge.files.failed")
+                .description("프로젝트 정리 중 삭제에 실패한 업로드 파일 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("project.purge")
+                .description("삭제된 프로젝트 정리 작업 소요 시간")
+                .register(meterRegistry);
+    }
+
+    // 현재 트랜잭션이 커밋된 뒤 정리 작업을 시작 (롤백되면 실행하지 않음)
+    public void requestPurge() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedulePurge();
+                }
+            });
+        } else {
+            schedulePurge();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${project.purge.interval-ms:600000}")
+    public void schedulePurge() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            maintenanceExecutor.execute(() -> {
+                try {
+                    purgeTimer.record(this::purgeDeletedProjects);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("정리 작업 실행기가 가득 차 프로젝트 정리 작업을 건너뜀");
+        }
+    }
+
+    void purgeDeletedProjects() {
+        List<Long> projectIds = projectRepository.findIdsByStatus(DELETED, PageRequest.of(0, projectsPerRun));
+        for (Long projectId : projectIds) {
+            try {
+                purgeProject(projectId);
+            } catch (RuntimeException e) {
+                log.error("프로젝트 정리 실패, 다음 실행에서 재시도: projectId={}", projectId, e);
+            }
+        }
+    }
+
+    void purgeProject(Long projectId) {
+        log.info("삭제된 프로젝트 정리 시작: projectId={}", projectId);
+        minutesSearchEngine.deleteAllByProjectId(projectId);
+        searchResultCache.invalidateProject(projectId);
+
+        long minutesDeleted = 0;
+        List<MinutesFileRef> refs;
+        do {
+            refs = minutesRepository.findFileRefsByProjectId(projectId, PageRequest.of(0, minutesBatchSize));
+            if (refs.isEmpty()) {
+                break;
+            }
+            MinutesBulkDeleter.Result result = minutesBulkDeleter.delete(refs);
+            minutesDeleted += result.deleted();
+            minutesCounter.increment(result.deleted());
+            fileDeletedCounter.increment(result.filesDeleted());
+            fileFailedCounter.increment(result.filesFailed());
+        } while (refs.size() == minutesBatchSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            scheduleRepository.deleteAllByProjectId(projectId);
+            userProjectRepository.deleteAllByProjectId(projectId);
+            inviteCodeRepository.deleteAllByProjectId(projectId);
+            projectRepository.deleteByIdAndStatus(projectId, DELETED);
+        });
+        projectCounter.increment();
+        log.info("삭제된 프로젝트 정리 완료: projectId={}, minutes={}", projectId, minutesDeleted);
+    }
+}
@@ -2,7 +2,11 @@ package org.focus.logmeet.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.cache.InviteCodeCache;
+import org.focus.logmeet.common.cache.ProjectInfoCache;
 import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.common.utils.InviteCodeGenerator;
+import org.focus.logmeet.config.PrimaryReader;
 import org.focus.logmeet.controller.dto.project.*;
 import org.focus.logmeet.domain.InviteCode;
 import org.focus.logmeet.domain.Project;
@@ -28,15 +32,23 @@ import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
 import static org.focus.logmeet.domain.enums.Role.LEADER;
 import static org.focus.logmeet.domain.enums.Role.MEMBER;
 import static org.focus.logmeet.domain.enums.Status.ACTIVE;
+import static org.focus.logmeet.domain.enums.Status.DELETED;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
+    private static final String PENDING_CODE_PREFIX = "pending-";
 
     private final ProjectRepository projectRepository;
     private final UserProjectRepository userProjectRepository;
     private final InviteCodeRepository inviteCodeRepository;
+    private final ProjectInfoCache projectInfoCache;
+    private final MembershipService membershipService;
+    private final InviteCodeGenerator inviteCodeGenerator;
+    private final InviteCodeCache inviteCodeCache;
+    private final ProjectPurgeService projectPurgeService;
+    private final PrimaryReader primaryReader;
 
     @Transactional
     @CurrentUser
@@ -69,28 +81,16 @@ public class ProjectService {
         return new ProjectCreateResponse(project.getId());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @CurrentUser
     public ProjectInfoResult getProject(Long projectId) {
         log.info("프로젝트 정보 조회: projectId={}", projectId);
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-
-        List<UserProjectDto> userProjectDtos = project.getUserProjects().stream()
-                .map(up -> new UserProjectDto(
-                        up.getId(),
-                        up.getUser().getId(),
-                        up.getUser().getName(),
-                        up.getRole(),
-                        up.getBookmark(),
-                        up.getColor()))
-                .toList();
-
-        return new ProjectInfoResult(project.getId(), project.getName(), project.getContent(), project.getCreatedAt(), userProjectDtos);
+        // 변경 직후 무효화된 캐시를 레플리카의 지난 데이터로 다시 채우지 않도록 프라이머리에서 조회
+        return projectInfoCache.get(projectId, () -> primaryReader.read(() -> loadProjectInfo(projectId)));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<ProjectListResult> getProjectList() {
         User currentUser = CurrentUserHolder.get();
@@ -101,23 +101,10 @@ public class ProjectService {
 
         log.info("프로젝트 리스트 조회: userId={}", currentUser.getId());
 
-        List<UserProject> userProject = userProjectRepository.findAllByUser(currentUser);
-
-        return userProject.stream().map(up -> {
-            Project project = up.getProject();
-            return new ProjectListResult(
-                    project.getId(),
-                    project.getName(),
-                    up.getRole(),
-                    up.getBookmark(),
-                    up.getColor(),
-                    project.getUserProjects().size(),
-                    project.getCreatedAt()
-            );
-        }).toList();
+        return userProjectRepository.findProjectListByUserId(currentUser.getId());
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<ProjectListResult> getProjectBookmarkList() {
         User currentUser = CurrentUserHolder.get();
@@ -128,36 +115,20 @@ public class ProjectService {
 
         log.info("프로젝트 북마크 리스트 조회: userId={}", currentUser.getId());
 
-        List<UserProject> userProject = userProjectRepository.findAllByUser(currentUser);
-
-        // 북마크가 true인 경우에만 필터링하여 반환
-        return userProject.stream()
-                .filter(UserProject::getBookmark) // 북마크가 true인 것만 필터링
-                .map(up -> {
-                    Project project = up.getProject();
-                    return new ProjectListResult(
-                            project.getId(),
-                            project.getName(),
-                            up.getRole(),
-                            true,
-                            up.getColor(),
-                            project.getUserProjects().size(),
-                            project.getCreatedAt()
-                    );
-                })
-                .toList();
+        return userProjectRepository.findBookmarkedProjectListByUserId(currentUser.getId());
     }
 
     @Transactional
     @CurrentUser
     public void updateProject(Long projectId, String name, String content, ProjectColor color) {
         log.info("프로젝트 수정 시도: projectId={}, projectName={}", projectId, name);
-        UserProject userProject = validateUserAndProject(projectId);
+        ProjectMembership membership = validateMembership(projectId);
 
-        if (!userProject.getRole().equals(LEADER)) {
+        if (!membership.getRole().equals(LEADER)) {
             throw new BaseException(USER_NOT_LEADER);
         }
 
+        UserProject userProject = loadUserProject(membership);
         Project project = userProject.getProject();
         project.setName(name);
         project.setContent(content);
@@ -165,6 +136,8 @@ public class ProjectService {
 
         projectRepository.save(project);
         userProjectRepository.save(userProject);
+        membershipService.evict(membership.getUserId(), projectId);
+        projectInfoCache.invalidate(projectId);
         log.info("프로젝트 수정 성공: projectId={}", projectId);
     }
 
@@ -181,6 +154,7 @@ public class ProjectService {
         }
 
         userProjectRepository.save(userProject);
+        projectInfoCache.invalidate(projectId);
         log.info("프로젝트 즐겨찾기 추가/해제 성공: projectId={}, userId={}, bookmark={}", projectId, userProject.getUser().getId(), userProject.getBookmark());
         return new ProjectBookmarkResult(userProject.getBookmark());
     }
@@ -189,22 +163,29 @@ public class ProjectService {
     @CurrentUser
     public void expelMember(Long projectId, Long userId) {
         log.info("참가자 추방 시도: projectId={}, userId={}", projectId, userId);
-        UserProject leaderProject = validateUserAndProject(projectId);
+        User currentUser = CurrentUserHolder.get();
+
+        if (currentUser == null) {
+            throw new BaseException(USER_NOT_AUTHENTICATED);
+        }
+
+        ProjectMembership leaderProject = membershipService.getMembership(currentUser.getId(), projectId);
 
         if (!leaderProject.getRole().equals(LEADER)) {
             throw new BaseException(USER_NOT_LEADER);
         }
 
-        User currentUser = CurrentUserHolder.get();
         if (currentUser.getId().equals(userId)) {
             log.error("자기 자신을 추방하려고 함: userId={}", userId);
             throw new BaseException(CANNOT_EXPEL_SELF);
         }
 
-        UserProject memberToExpel = userProjectRepository.findByUserIdAndProject(userId, leaderProject.getProject())
+        UserProject memberToExpel = userProjectRepository.findByUserIdAndProjectId(userId, projectId)
                 .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
 
         userProjectRepository.delete(memberToExpel);
+        membershipService.evict(userId, projectId);
+        projectInfoCache.invalidate(projectId);
 
         log.info("참가자 추방 성공: projectId={}, userId={}", projectId, userId);
     }
@@ -214,14 +195,23 @@ public class ProjectService {
     @CurrentUser
     public void deleteProject(Long projectId) {
         log.info("프로젝트 삭제 시도: projectId={}", projectId);
-        UserProject leaderProject = validateUserAndProject(projectId);
+        ProjectMembership leaderMembership = validateMembership(projectId);
 
-        if (!leaderProject.getRole().equals(LEADER)) {
-            log.info("권한이 없는 삭제 시도: projectId={}, userId={}", projectId, leaderProject.getUser().getId());
+        if (!leaderMembership.getRole().equals(LEADER)) {
+            log.info("권한이 없는 삭제 시도: projectId={}, userId={}", projectId, leaderMembership.getUserId());
             throw new BaseException(USER_NOT_LEADER);
         }
 
-        projectRepository.delete(leaderProject.getProject());
+        // 삭제 표시와 멤버/초대 코드 제거만 요청 스레드에서 처리하고, 회의록/일정/파일 정리는 백그라운드에서 진행
+        Project project = projectRepository.getReferenceById(projectId);
+        project.setStatus(DELETED);
+        userProjectRepository.deleteAllByProjectId(projectId);
+        inviteCodeRepository.deleteAllByProjectId(projectId);
+        projectPurgeService.requestPurge();
+
+        membershipService.evictProject(projectId);
+        inviteCodeCache.evictProject(projectId);
+        projectInfoCache.invalidate(projectId);
         log.info("프로젝트 삭제 성공: projectId={}", projectId);
     }
 
@@ -229,24 +219,29 @@ public class ProjectService {
     @CurrentUser
     public ProjectLeaderDelegationResponse delegateLeader(Long projectId, Long newLeaderId) {
         log.info("프로젝트 리더 위임 시도: projectId={}", projectId);
-        UserProject leaderProject = validateUserAndProject(projectId);
-        UserProject newLeaderProject = userProjectRepository.findByUserIdAndProject(newLeaderId, leaderProject.getProject())
-                .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
+        ProjectMembership leaderMembership = validateMembership(projectId);
 
-        if (!leaderProject.getRole().equals(LEADER)) {
-            log.info("권한이 없는 리더 위임 시도: projectId={}, userId={}", projectId, leaderProject.getUser().getId());
+        if (!leaderMembership.getRole().equals(LEADER)) {
+            log.info("권한이 없는 리더 위임 시도: projectId={}, userId={}", projectId, leaderMembership.getUserId());
             throw new BaseException(USER_NOT_LEADER);
         }
 
-        if (Objects.equals(leaderProject.getUser().getId(), newLeaderId)) {
+        if (Objects.equals(leaderMembership.getUserId(), newLeaderId)) {
             log.info("자기 자신에게 리더 위임 시도: projectId={}, newLeaderId={}", projectId, newLeaderId);
             throw new BaseException(CANNOT_DELEGATE_SELF);
         }
 
+        UserProject newLeaderProject = userProjectRepository.findByUserIdAndProjectId(newLeaderId, projectId)
+                .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
+        UserProject leaderProject = loadUserProject(leaderMembership);
+
         leaderProject.setRole(MEMBER);
         newLeaderProject.setRole(LEADER);
         userProjectRepository.save(leaderProject);
         userProjectRepository.save(newLeaderProject);
+        membershipService.evict(leaderMembership.getUserId(), projectId);
+        membershipService.evict(newLeaderId, projectId);
+        projectInfoCache.invalidate(projectId);
         log.info("프로젝트 리더 위임 성공: projectId={}, newLeaderId={}", projectId, newLeaderId);
 
         return new ProjectLeaderDelegationResponse(projectId, newLeaderId);
@@ -256,25 +251,27 @@ public class ProjectService {
     @CurrentUser
     public void leaveProject(Long projectId) {
         log.info("프로젝트 나가기 시도: projectId={}", projectId);
-        UserProject userProject = validateUserAndProject(projectId);
+        ProjectMembership membership = validateMembership(projectId);
 
-        if (userProject.getRole().equals(LEADER)) {
-            log.info("프로젝트 리더의 나가기 시도: projectId={}, userId={}", projectId, userProject.getUser().getId());
+        if (membership.getRole().equals(LEADER)) {
+            log.info("프로젝트 리더의 나가기 시도: projectId={}, userId={}", projectId, membership.getUserId());
             throw new BaseException(USER_IS_LEADER);
         }
 
-        userProjectRepository.delete(userProject);
-        log.info("프로젝트 나가기 성공: projectId={}, userId={}", projectId, userProject.getUser().getId());
+        userProjectRepository.delete(loadUserProject(membership));
+        membershipService.evict(membership.getUserId(), projectId);
+        projectInfoCache.invalidate(projectId);
+        log.info("프로젝트 나가기 성공: projectId={}, userId={}", projectId, membership.getUserId());
     }
 
     @Transactional
     @CurrentUser
     public ProjectInviteCodeResult getInviteCode(Long projectId) {
         log.info("프로젝트 초대 코드 생성 시도: projectId={}", projectId);
-        UserProject userProject = validateUserAndProject(projectId);
+        ProjectMembership membership = validateMembership(projectId);
 
-        if (!userProject.getRole().equals(LEADER)) {
-            log.info("권한이 없는 초대 코드 생성 시도: projectId={}, userId={}", projectId, userProject.getUser().getId());
+        if (!membership.getRole().equals(LEADER)) {
+            log.info("권한이 없는 초대 코드 생성 시도: projectId={}, userId={}", projectId, membership.getUserId());
             throw new BaseException(USER_NOT_LEADER);
         }
 
@@ -286,14 +283,17 @@ public class ProjectService {
         }
 
         LocalDateTime expirationDate = LocalDateTime.now().plusWeeks(1);
-        String code = generateInviteCode();
 
+        // 코드는 발급된 ID를 순열로 변환해 만들므로, 먼저 임시 값으로 저장해 ID를 발급받는다
         InviteCode inviteCode = InviteCode.builder()
-                .project(userProject.getProject())
-                .code(code)
+                .project(projectRepository.getReferenceById(projectId))
+                .code(PENDING_CODE_PREFIX + UUID.randomUUID())
                 .expirationDate(expirationDate).build();
 
         inviteCodeRepository.save(inviteCode);
+        String code = inviteCodeGenerator.encode(inviteCode.getId());
+        inviteCode.setCode(code);
+        log.info("초대 코드 생성 성공: projectId={}, code={}", projectId, code);
         return new ProjectInviteCodeResult(projectId, code, expirationDate);
     }
 
@@ -304,25 +304,27 @@ public class ProjectService {
         LocalDateTime now = LocalDateTime.now();
         User currentUser = CurrentUserHolder.get();
 
-        InviteCode inviteCode = inviteCodeRepository.findByCodeAndExpirationDateAfter(code, now)
-                .orElseThrow(() -> {
-                    log.info("유효하지 않거나 만료된 초대 코드 사용 시도: inviteCode={}", code);
-                    return new BaseException(INVALID_INVITE_CODE);
-                });
+        InviteCodeCache.Entry inviteCode = inviteCodeCache.get(code, () ->
+                inviteCodeRepository.findByCodeAndExpirationDateAfter(code, now)
+                        .map(ic -> new InviteCodeCache.Entry(ic.getProject().getId(), ic.getExpirationDate()))
+                        .orElse(null));
+        if (inviteCode == null || !inviteCode.expirationDate().isAfter(now)) {
+            log.info("유효하지 않거나 만료된 초대 코드 사용 시도: inviteCode={}", code);
+            throw new BaseException(INVALID_INVITE_CODE);
+        }
 
-        Project project = inviteCode.getProject();
-        UserProject leaderProject = project.getUserProjects().stream()
-                .filter(up -> up.getRole() == Role.LEADER)
-                .findFirst()
+        Long projectId = inviteCode.projectId();
+        UserProject leaderProject = userProjectRepository.findFirstByProjectIdAndRole(projectId, Role.LEADER)
                 .orElseThrow(() -> {
-                    log.error("프로젝트에 리더가 존재하지 않습니다: projectId={}", project.getId());
+                    log.error("프로젝트에 리더가 존재하지 않습니다: projectId={}", projectId);
                     return new BaseException(PROJECT_LEADER_NOT_FOUND);
                 });
-        boolean alreadyJoined = userProjectRepository.existsByUserAndProject(currentUser, project);
+        boolean alreadyJoined = userProjectRepository.existsByUserIdAndProjectId(currentUser.getId(), projectId);
         if (alreadyJoined) {
-            log.info("이미 프로젝트에 참여한 사용자: userId={}, projectId={}", currentUser.getId(), project.getId());
+            log.info("이미 프로젝트에 참여한 사용자: userId={}, projectId={}", currentUser.getId(), projectId);
             throw new BaseException(ALREADY_JOINED_PROJECT);
         }
+        Project project = projectRepository.getReferenceById(projectId);
 
         UserProject userProject = UserProject.builder()
                 .user(currentUser)
@@ -333,28 +335,40 @@ public class ProjectService {
                 .build();
 
         userProjectRepository.save(userProject);
-        log.info("프로젝트 참여 성공: userId={}, projectId={}", currentUser.getId(), project.getId());
+        membershipService.evict(currentUser.getId(), projectId);
+        projectInfoCache.invalidate(projectId);
+        log.info("프로젝트 참여 성공: userId={}, projectId={}", currentUser.getId(), projectId);
     }
 
-    private String generateInviteCode() {
-        String code;
-        do {
-            code = UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-        } while (inviteCodeRepository.existsByCode(code));
-        return code;
+    // 프로젝트 1회 + 멤버 프로젝션 1회로 조회 (멤버별 지연 로딩 없음)
+    private ProjectInfoResult loadProjectInfo(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .filter(p -> p.getStatus() != DELETED)
+                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
+
+        List<UserProjectDto> userProjectDtos = userProjectRepository.findMemberDtosByProjectId(projectId);
+
+        return new ProjectInfoResult(project.getId(), project.getName(), project.getContent(), project.getCreatedAt(), userProjectDtos);
     }
 
-    private UserProject validateUserAndProject(Long projectId) {
+    // 권한 확인은 캐시된 멤버십으로 처리해 프로젝트를 조회하지 않는다 (삭제된 프로젝트는 멤버가 없어 여기서 걸러짐)
+    private ProjectMembership validateMembership(Long projectId) {
         User currentUser = CurrentUserHolder.get();
 
         if (currentUser == null) {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
+        return membershipService.getMembership(currentUser.getId(), projectId);
+    }
 
-        return userProjectRepository.findByUserAndProject(currentUser, project)
+    // 참여 정보를 변경해야 할 때만 멤버십의 PK로 로딩
+    private UserProject loadUserProject(ProjectMembership membership) {
+        return userProjectRepository.findById(membership.getUserProjectId())
                 .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
     }
+
+    private UserProject validateUserAndProject(Long projectId) {
+        return loadUserProject(validateMembership(projectId));
+    }
 }
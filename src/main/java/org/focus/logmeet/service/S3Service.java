@@ -1,29 +1,46 @@
 package org.focus.logmeet.service;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.minutes.MultipartUploadPart;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.S3_MULTIPART_UPLOAD_FAILED;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.S3_MULTIPART_UPLOAD_NOT_FOUND;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
+    // DeleteObjects 요청 1회당 최대 키 개수 (S3 API 제한)
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+    private static final long PRESIGNED_URL_EXPIRATION_MS = 3600000;
 
     private final AmazonS3 s3;
 
+    @Value("${cloud.naver.storage.bucket:logmeet}")
+    private String bucketName;
+
+    // 파일 경로(URL)는 S3Config 와 같은 엔드포인트로 만든다 (로컬 S3 호환 서버 사용 시 그 서버를 가리킴)
+    @Value("${cloud.naver.storage.endpoint:https://kr.object.ncloudstorage.com}")
+    private String endpoint;
+
     public String generatePreSignedUrl(String directory, String fileName, String contentType) {
         String fullObjectName = directory + "/" + fileName;
 
-        Date expiration = new Date(System.currentTimeMillis() + 3600000);
+        Date expiration = new Date(System.currentTimeMillis() + PRESIGNED_URL_EXPIRATION_MS);
 
-        String bucketName = "logmeet";
         GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucketName, fullObjectName)
                 .withMethod(HttpMethod.PUT)
                 .withExpiration(expiration)
@@ -34,5 +51,141 @@ public class S3Service {
         URL presignedUrl = s3.generatePresignedUrl(generatePresignedUrlRequest);
         return presignedUrl.toString();
     }
-}
 
+    // 업로드된 객체의 ETag (업로드 파일 중복 확인용)
+    public String getETag(String objectKey) {
+        return s3.getObjectMetadata(bucketName, objectKey).getETag();
+    }
+
+    // 업로드된 객체의 크기(바이트) (AI 작업 예상 처리 시간 추정용)
+    public long getContentLength(String objectKey) {
+        return s3.getObjectMetadata(bucketName, objectKey).getContentLength();
+    }
+
+    // 멀티파트 업로드 시작. 단일 PUT 업로드와 같이 공개 읽기 권한으로 생성하고 uploadId 를 반환
+    public String initiateMultipartUpload(String objectKey, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        InitiateMultipartUploadRequest request = new InitiateMultipartUploadRequest(bucketName, objectKey, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead);
+        try {
+            return s3.initiateMultipartUpload(request).getUploadId();
+        } catch (AmazonServiceException e) {
+            log.error("멀티파트 업로드 시작 실패: objectKey={}", objectKey, e);
+            throw new BaseException(S3_MULTIPART_UPLOAD_FAILED);
+        }
+    }
+
+    // 파트 번호마다 UploadPart 용 Pre-signed URL 발급 (입력한 파트 번호 순서대로 반환)
+    public List<String> generatePartUploadUrls(String objectKey, String uploadId, List<Integer> partNumbers) {
+        Date expiration = new Date(System.currentTimeMillis() + PRESIGNED_URL_EXPIRATION_MS);
+        List<String> urls = new ArrayList<>(partNumbers.size());
+        for (Integer partNumber : partNumbers) {
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, objectKey)
+                    .withMethod(HttpMethod.PUT)
+                    .withExpiration(expiration);
+            request.addRequestParameter("uploadId", uploadId);
+            request.addRequestParameter("partNumber", String.valueOf(partNumber));
+            urls.add(s3.generatePresignedUrl(request).toString());
+        }
+        return urls;
+    }
+
+    // 이미 업로드된 파트 목록 조회 (중단된 업로드 재개용). 1000개 단위 페이지를 끝까지 조회한다
+    public List<MultipartUploadPart> listUploadedParts(String objectKey, String uploadId) {
+        List<MultipartUploadPart> parts = new ArrayList<>();
+        ListPartsRequest request = new ListPartsRequest(bucketName, objectKey, uploadId);
+        try {
+            PartListing listing;
+            do {
+                listing = s3.listParts(request);
+                for (PartSummary part : listing.getParts()) {
+                    parts.add(new MultipartUploadPart(part.getPartNumber(), part.getETag(), part.getSize()));
+                }
+                request.setPartNumberMarker(listing.getNextPartNumberMarker());
+            } while (listing.isTruncated());
+        } catch (AmazonServiceException e) {
+            throw toMultipartException("멀티파트 업로드 파트 조회 실패", objectKey, e);
+        }
+        return parts;
+    }
+
+    public void completeMultipartUpload(String objectKey, String uploadId, List<MultipartUploadPart> parts) {
+        List<PartETag> partETags = parts.stream()
+                .map(part -> new PartETag(part.getPartNumber(), part.getEtag()))
+                .toList();
+        try {
+            s3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, objectKey, uploadId, new ArrayList<>(partETags)));
+        } catch (AmazonServiceException e) {
+            throw toMultipartException("멀티파트 업로드 완료 실패", objectKey, e);
+        }
+    }
+
+    public void abortMultipartUpload(String objectKey, String uploadId) {
+        try {
+            s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, objectKey, uploadId));
+        } catch (AmazonServiceException e) {
+            throw toMultipartException("멀티파트 업로드 취소 실패", objectKey, e);
+        }
+    }
+
+    private static BaseException toMultipartException(String message, String objectKey, AmazonServiceException e) {
+        if ("NoSuchUpload".equals(e.getErrorCode())) {
+            log.warn("{}: 존재하지 않는 업로드, objectKey={}", message, objectKey);
+            return new BaseException(S3_MULTIPART_UPLOAD_NOT_FOUND);
+        }
+        log.error("{}: objectKey={}", message, objectKey, e);
+        return new BaseException(S3_MULTIPART_UPLOAD_FAILED);
+    }
+
+    /**
+     * 파일 URL 목록에 해당하는 객체를 DeleteObjects 요청으로 일괄 삭제한다.
+     * 버킷 밖을 가리키는 URL은 건너뛰며, 실제로 삭제된 객체 수를 반환한다.
+     */
+    public int deleteObjects(List<String> fileUrls) {
+        List<String> keys = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            String key = toObjectKey(fileUrl);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        int failed = 0;
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                    .withKeys(chunk.toArray(new String[0]))
+                    .withQuiet(true);
+            try {
+                s3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                failed += e.getErrors().size();
+                log.warn("S3 객체 일부 삭제 실패: requested={}, failed={}", chunk.size(), e.getErrors().size());
+            } catch (RuntimeException e) {
+                failed += chunk.size();
+                log.warn("S3 객체 일괄 삭제 실패: requested={}", chunk.size(), e);
+            }
+        }
+        return keys.size() - failed;
+    }
+
+    // https://{endpoint}/{bucket}/{key} 형식의 URL에서 객체 키를 추출
+    // 객체 키를 Pre-signed URL 발급 시 클라이언트에 돌려주는 파일 경로(<엔드포인트>/<버킷>/<객체 키>) 형식으로 변환
+    String toFilePath(String objectKey) {
+        String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+        return base + "/" + bucketName + "/" + objectKey;
+    }
+
+    String toObjectKey(String fileUrl) {
+        if (fileUrl == null) {
+            return null;
+        }
+        String marker = "/" + bucketName + "/";
+        int index = fileUrl.indexOf(marker);
+        if (index < 0 || index + marker.length() >= fileUrl.length()) {
+            return null;
+        }
+        return fileUrl.substring(index + marker.length());
+    }
+}
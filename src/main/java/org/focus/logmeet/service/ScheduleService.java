@@ -3,14 +3,15 @@ package org.focus.logmeet.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
 import org.focus.logmeet.controller.dto.schedule.*;
 import org.focus.logmeet.domain.Project;
 import org.focus.logmeet.domain.Schedule;
 import org.focus.logmeet.domain.User;
 import org.focus.logmeet.domain.UserProject;
+import org.focus.logmeet.domain.enums.ProjectColor;
 import org.focus.logmeet.repository.ProjectRepository;
 import org.focus.logmeet.repository.ScheduleRepository;
-import org.focus.logmeet.repository.UserProjectRepository;
 import org.focus.logmeet.security.annotation.CurrentUser;
 import org.focus.logmeet.security.aspect.CurrentUserHolder;
 import org.springframework.stereotype.Service;
@@ -31,7 +32,7 @@ import static org.focus.logmeet.domain.enums.Status.ACTIVE;
 public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final ProjectRepository projectRepository;
-    private final UserProjectRepository userProjectRepository;
+    private final MembershipService membershipService;
     public ScheduleCreateResponse createSchedule(ScheduleCreateRequest request) { //TODO: 스케줄 생성 시 프로젝트 유저 검증 필요
         log.info("스케줄 생성 시도: scheduleContent={}, scheduleDate={}", request.getScheduleContent(), request.getScheduleDate());
         Project project = projectRepository.findById(request.getProjectId())
@@ -56,9 +57,9 @@ public class ScheduleService {
         log.info("스케줄 수정 시도: scheduleId={}", scheduleId);
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BaseException(SCHEDULE_NOT_FOUND));
-        UserProject leaderProject = validateUserAndProject(schedule.getProject().getId());
+        ProjectMembership leaderProject = validateUserAndProject(schedule.getProject().getId());
         if (!leaderProject.getRole().equals(LEADER)) {
-            log.info("권한이 없는 수정 시도: scheduleId={}, userId={}", scheduleId, leaderProject.getUser().getId());
+            log.info("권한이 없는 수정 시도: scheduleId={}, userId={}", scheduleId, leaderProject.getUserId());
             throw new BaseException(USER_NOT_LEADER);
         }
 
@@ -69,13 +70,14 @@ public class ScheduleService {
         log.info("스케줄 수정 성공: scheduleId={}", scheduleId);
     }
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public ScheduleInfoResult getSchedule(Long scheduleId) {
         log.info("스케줄 정보 조회 시도: scheduleId={}", scheduleId);
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BaseException(SCHEDULE_NOT_FOUND));
         Long projectId = schedule.getProject().getId();
-        UserProject userProject = validateUserAndProject(projectId);
+        ProjectMembership userProject = validateUserAndProject(projectId);
         return new ScheduleInfoResult(
                 projectId,
                 schedule.getProject().getName(),
@@ -86,27 +88,34 @@ public class ScheduleService {
     }
 
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<ScheduleMonthlyListResult> getScheduleOfProject(Long projectId, LocalDate yearMonth) {
         log.info("프로젝트의 월별 스케줄 리스트 조회 시도: projectId={}", projectId);
-        UserProject userProject = validateUserAndProject(projectId);
+        ProjectMembership userProject = validateUserAndProject(projectId);
         int year = yearMonth.getYear();
         int month = yearMonth.getMonthValue();
         List<Schedule> schedules = scheduleRepository.findSchedulesByProjectIdAndMonth(projectId, year, month);
 
+        return groupColorsByDay(schedules, userProject.getColor());
+    }
+
+    // 일자별로 일정이 있는 프로젝트 색상 집합을 만든다
+    static List<ScheduleMonthlyListResult> groupColorsByDay(List<Schedule> schedules, ProjectColor color) {
         return schedules.stream()
                 .collect(Collectors.groupingBy(schedule -> schedule.getScheduleDate().getDayOfMonth(),
-                        Collectors.mapping(schedule -> userProject.getColor(), Collectors.toSet())))
+                        Collectors.mapping(schedule -> color, Collectors.toSet())))
                 .entrySet().stream()
                 .map(entry -> new ScheduleMonthlyListResult(
                         entry.getKey(), entry.getValue()))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<ScheduleListResult> getScheduleOfProjectAt(Long projectId, LocalDate date) {
         log.info("프로젝트의 특정 날짜의 스케줄 리스트 조회 시도: projectId={}, date={}", projectId, date);
-        UserProject userProject = validateUserAndProject(projectId);
+        ProjectMembership userProject = validateUserAndProject(projectId);
         List<Schedule> schedules = scheduleRepository.findByProjectIdAndDate(projectId, date);
 
         return schedules.stream()
@@ -120,6 +129,7 @@ public class ScheduleService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<ScheduleMonthlyListResult> getScheduleOfUser(LocalDate yearMonth) {
         User currentUser = CurrentUserHolder.get();
@@ -148,6 +158,8 @@ public class ScheduleService {
                 .map(entry -> new ScheduleMonthlyListResult(entry.getKey(), entry.getValue()))
                 .toList();
     }
+
+    @Transactional(readOnly = true)
     @CurrentUser
     public List<ScheduleListResult> getScheduleOfUserAt(LocalDate date) {
         User currentUser = CurrentUserHolder.get();
@@ -168,28 +180,24 @@ public class ScheduleService {
 
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BaseException(SCHEDULE_NOT_FOUND));
-        UserProject leaderProject = validateUserAndProject(schedule.getProject().getId());
+        ProjectMembership leaderProject = validateUserAndProject(schedule.getProject().getId());
 
         if (!leaderProject.getRole().equals(LEADER)) {
-            log.info("권한이 없는 삭제 시도: scheduleId={}, userId={}", scheduleId, leaderProject.getUser().getId());
+            log.info("권한이 없는 삭제 시도: scheduleId={}, userId={}", scheduleId, leaderProject.getUserId());
             throw new BaseException(USER_NOT_LEADER);
         }
 
         scheduleRepository.delete(schedule);
     }
 
-    private UserProject validateUserAndProject(Long projectId) { //TODO: 코드 중복 없애기
+    private ProjectMembership validateUserAndProject(Long projectId) {
         User currentUser = CurrentUserHolder.get();
 
         if (currentUser == null) {
             throw new BaseException(USER_NOT_AUTHENTICATED);
         }
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new BaseException(PROJECT_NOT_FOUND));
-
-        return userProjectRepository.findByUserAndProject(currentUser, project)
-                .orElseThrow(() -> new BaseException(USER_NOT_IN_PROJECT));
+        return membershipService.getMembership(currentUser.getId(), projectId);
     }
 
     private List<ScheduleListResult> getScheduleListResults(User currentUser, List<Schedule> schedules) {
@@ -0,0 +1,94 @@
+package org.focus.logmeet.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.storage.StorageEventNotification;
+import org.focus.logmeet.controller.dto.storage.StorageEventResult;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.INVALID_TOKEN;
+
+/**
+ * 오브젝트 스토리지의 객체 생성 알림(S3 이벤트 형식)을 받아 업로드된 음성/사진 파일의 임시 회의록을 만든다.
+ * 알림은 공유 토큰(Authorization: Bearer)으로 검증하며, 회의록 타입은 경로 문자열이 아니라 객체 키의 디렉터리로 정한다.
+ */
+@Slf4j
+@Service
+public class StorageEventService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final MinutesService minutesService;
+    private final S3Service s3Service;
+    private final String bucketName;
+    private final byte[] token;
+
+    public StorageEventService(MinutesService minutesService,
+                               S3Service s3Service,
+                               @Value("${cloud.naver.storage.bucket:logmeet}") String bucketName,
+                               @Value("${storage.events.token:}") String token) {
+        this.minutesService = minutesService;
+        this.s3Service = s3Service;
+        this.bucketName = bucketName;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public StorageEventResult handle(String authorization, StorageEventNotification notification) {
+        verify(authorization);
+
+        List<Long> created = new ArrayList<>();
+        int skipped = 0;
+        List<StorageEventNotification.Record> records = notification.getRecords() != null ? notification.getRecords() : List.of();
+        for (StorageEventNotification.Record record : records) {
+            Optional<Long> minutesId = accept(record);
+            if (minutesId.isPresent()) {
+                created.add(minutesId.get());
+            } else {
+                skipped++;
+            }
+        }
+        log.info("스토리지 이벤트 처리 완료: records={}, created={}, skipped={}", records.size(), created.size(), skipped);
+        return new StorageEventResult(created, skipped);
+    }
+
+    // 토큰이 설정되지 않았으면 모든 알림을 거부
+    private void verify(String authorization) {
+        if (token.length == 0 || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BaseException(INVALID_TOKEN);
+        }
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(token, presented)) {
+            throw new BaseException(INVALID_TOKEN);
+        }
+    }
+
+    private Optional<Long> accept(StorageEventNotification.Record record) {
+        if (record.getEventName() == null || !record.getEventName().startsWith("ObjectCreated")
+                || record.getS3() == null || record.getS3().getObject() == null || record.getS3().getObject().getKey() == null) {
+            return Optional.empty();
+        }
+        if (record.getS3().getBucket() != null && !bucketName.equals(record.getS3().getBucket().getName())) {
+            log.warn("다른 버킷의 스토리지 이벤트 무시: bucket={}", record.getS3().getBucket().getName());
+            return Optional.empty();
+        }
+
+        // 이벤트의 객체 키는 URL 인코딩되어 전달됨 (공백은 +)
+        String objectKey = URLDecoder.decode(record.getS3().getObject().getKey(), StandardCharsets.UTF_8);
+        MinutesType fileType = MinutesService.uploadTypeOf(objectKey);
+        if (fileType == null) {
+            return Optional.empty();
+        }
+        String fingerprint = ContentDeduplicator.etagFingerprint(record.getS3().getObject().getETag());
+        return minutesService.startMinutesFromUpload(s3Service.toFilePath(objectKey), fileType, fingerprint,
+                MinutesService.uploaderIdOf(objectKey));
+    }
+}
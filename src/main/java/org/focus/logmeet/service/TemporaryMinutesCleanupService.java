@@ -0,0 +1,162 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.common.cache.SearchResultCache;
+import org.focus.logmeet.controller.dto.minutes.MinutesFileRef;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.focus.logmeet.domain.enums.Status.TEMP;
+
+/**
+ * 일정 시간이 지난 임시(TEMP) 회의록 정리 작업.
+ * 본문이 저장된 회의록은 본문 저장 시점부터 age-minutes 가 지나면, 변환을 기다리는 본문 없는 회의록은 pending-age-minutes 가 지나면 정리한다.
+ * 배치 단위로 {@link MinutesBulkDeleter}로 DB 행과 업로드된 음성/사진 파일을 삭제하고,
+ * 같은 배치의 검색 문서는 한 번의 요청으로 삭제한다.
+ * 작업은 정리 전용 실행기에서 돌며, 이전 실행이 끝나지 않았으면 이번 실행은 건너뛴다.
+ */
+@Slf4j
+@Service
+public class TemporaryMinutesCleanupService {
+    private final MinutesRepository minutesRepository;
+    private final MinutesBulkDeleter minutesBulkDeleter;
+    private final MinutesSearchEngine minutesSearchEngine;
+    private final SearchResultCache searchResultCache;
+    private final TaskExecutor maintenanceExecutor;
+    private final long ageMinutes;
+    private final long pendingAgeMinutes;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Counter deletedCounter;
+    private final Counter batchCounter;
+    private final Counter fileDeletedCounter;
+    private final Counter fileFailedCounter;
+    private final Timer cleanupTimer;
+
+    public TemporaryMinutesCleanupService(MinutesRepository minutesRepository,
+                                          MinutesBulkDeleter minutesBulkDeleter,
+                                          MinutesSearchEngine minutesSearchEngine,
+                                          SearchResultCache searchResultCache,
+                                          @Qualifier("maintenanceExecutor") TaskExecutor maintenanceExecutor,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${minutes.temp-cleanup.age-minutes:30}") long ageMinutes,
+                                          @Value("${minutes.temp-cleanup.pending-age-minutes:1440}") long pendingAgeMinutes,
+                                          @Value("${minutes.temp-cleanup.batch-size:500}") int batchSize,
+                                          @Value("${minutes.temp-cleanup.max-batches:200}") int maxBatches) {
+        this.minutesRepository = minutesRepository;
+        this.minutesBulkDeleter = minutesBulkDeleter;
+        this.minutesSearchEngine = minutesSearchEngine;
+        this.searchResultCache = searchResultCache;
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.ageMinutes = ageMinutes;
+        this.pendingAgeMinutes = pendingAgeMinutes;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+
+        this.deletedCounter = Counter.builder("minutes.temp-cleanup.deleted")
+                .description("삭제된 임시 회의록 수")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("minutes.temp-cleanup.batches")
+                .description("처리된 삭제 배치 수")
+                .register(meterRegistry);
+        this.fileDeletedCounter = Counter.builder("minutes.temp-cleanup.files.deleted")
+                .description("삭제된 업로드 파일 수")
+                .register(meterRegistry);
+        this.fileFailedCounter = Counter.builder("minutes.temp-cleanup.files.failed")
+                .description("삭제에 실패한 업로드 파일 수")
+                .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("minutes.temp-cleanup")
+                .description("임시 회의록 정리 작업 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("minutes.temp-cleanup.running", running, r -> r.get() ? 1 : 0)
+                .description("임시 회의록 정리 작업 실행 여부")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedRate = 1800000)
+    public void scheduleCleanup() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("이전 임시 회의록 정리 작업이 진행 중이므로 건너뜀");
+            return;
+        }
+        try {
+            maintenanceExecutor.execute(() -> {
+                try {
+                    LocalDateTime now = LocalDateTime.now();
+                    cleanupTimer.record(() -> purgeOlderThan(now.minusMinutes(ageMinutes), now.minusMinutes(pendingAgeMinutes)));
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("정리 작업 실행기가 가득 차 임시 회의록 정리 작업을 건너뜀");
+        }
+    }
+
+    long purgeOlderThan(LocalDateTime timeLimit, LocalDateTime pendingTimeLimit) {
+        log.info("임시 회의록 정리 작업 시작: timeLimit={}, pendingTimeLimit={}", timeLimit, pendingTimeLimit);
+        long total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<MinutesFileRef> refs = minutesRepository.findOldTemporaryMinutes(TEMP, timeLimit, pendingTimeLimit, PageRequest.of(0, batchSize));
+            if (refs.isEmpty()) {
+                break;
+            }
+            total += deleteBatch(refs, timeLimit, pendingTimeLimit);
+            if (refs.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("임시 회의록 정리 작업 완료: deleted={}", total);
+        return total;
+    }
+
+    private int deleteBatch(List<MinutesFileRef> refs, LocalDateTime timeLimit, LocalDateTime pendingTimeLimit) {
+        MinutesBulkDeleter.Result result = minutesBulkDeleter.deleteTemporary(refs, timeLimit, pendingTimeLimit);
+        deletedCounter.increment(result.deleted());
+        batchCounter.increment();
+        fileDeletedCounter.increment(result.filesDeleted());
+        fileFailedCounter.increment(result.filesFailed());
+
+        List<Long> ids = result.deletedIds();
+        if (ids.size() < refs.size()) {
+            log.info("조회 후 확정되어 정리에서 제외된 임시 회의록: count={}", refs.size() - ids.size());
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        try {
+            minutesSearchEngine.deleteAllById(ids);
+        } catch (RuntimeException e) {
+            log.warn("임시 회의록 검색 문서 일괄 삭제 실패: count={}", ids.size(), e);
+        }
+        List<Long> projectIds = refs.stream()
+                .filter(ref -> ids.contains(ref.getMinutesId()))
+                .map(MinutesFileRef::getProjectId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        searchResultCache.invalidateProjects(projectIds);
+
+        log.info("임시 회의록 배치 삭제: deleted={}, files={}", result.deleted(), result.files());
+        return result.deleted();
+    }
+}
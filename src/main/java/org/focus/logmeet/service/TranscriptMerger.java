@@ -0,0 +1,200 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.focus.logmeet.common.exception.BaseException;
+
+import java.io.IOException;
+import java.util.*;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_INVALID_JSON_FORMAT;
+
+/**
+ * 구간별 변환 결과(segments)를 시간 순으로 이어 붙여 하나의 Flask 응답 형식({"segments": [...]})으로 만든다.
+ * 화자 라벨은 구간마다 독립적으로 매겨지므로, 인접 구간이 겹치는 부분에서 같은 발화로 판단된 세그먼트끼리
+ * 라벨을 대응시켜 통일하고, 겹침 구간의 중복 세그먼트는 제거한다.
+ * 이전 구간의 끝에서 잘린 발화는 다음 구간에 온전히 들어 있으므로, 그런 쌍은 다음 구간의 세그먼트를 남긴다.
+ */
+class TranscriptMerger {
+
+    private static final String SPEAKER_PREFIX = "SPEAKER_";
+    // 시각 정보가 없을 때 겹침 구간 후보로 보는 세그먼트 수
+    private static final int TEXT_MATCH_WINDOW = 20;
+
+    private final ObjectMapper objectMapper;
+    private final double toleranceSeconds;
+
+    TranscriptMerger(ObjectMapper objectMapper, double toleranceSeconds) {
+        this.objectMapper = objectMapper;
+        this.toleranceSeconds = toleranceSeconds;
+    }
+
+    record Chunk(double startSeconds, double endSeconds, String content) {
+    }
+
+    record Segment(String speaker, String text, Double start, Double end) {
+    }
+
+    String merge(List<Chunk> chunks) {
+        List<Segment> merged = new ArrayList<>();
+        Set<String> usedLabels = new HashSet<>();
+
+        for (int i = 0; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+            List<Segment> segments = parse(chunk);
+
+            Map<Segment, Segment> duplicates = i == 0 ? Map.of() : pairOverlap(merged, segments, chunk);
+            Map<String, String> labels = reconcileLabels(segments, duplicates, usedLabels);
+
+            if (i > 0) {
+                replaceTruncated(merged, duplicates, chunks.get(i - 1).endSeconds());
+            }
+            for (Segment segment : segments) {
+                if (!duplicates.containsKey(segment)) {
+                    merged.add(new Segment(labels.get(segment.speaker()), segment.text(), segment.start(), segment.end()));
+                }
+            }
+        }
+        return render(merged);
+    }
+
+    // 이전 구간의 끝 무렵에 끝나는 기존 세그먼트는 구간 경계에서 잘린 것으로 보고 다음 구간의 본문과 종료 시각으로 바꾼다
+    // (화자 라벨과 시작 시각은 기존 세그먼트 유지)
+    private void replaceTruncated(List<Segment> merged, Map<Segment, Segment> duplicates, double previousChunkEnd) {
+        duplicates.forEach((next, previous) -> {
+            if (previous.end() == null || previous.end() < previousChunkEnd - toleranceSeconds) {
+                return;
+            }
+            for (int index = merged.size() - 1; index >= 0; index--) {
+                if (merged.get(index) == previous) {
+                    merged.set(index, new Segment(previous.speaker(), next.text(), previous.start(), next.end()));
+                    return;
+                }
+            }
+        });
+    }
+
+    private List<Segment> parse(Chunk chunk) {
+        try {
+            JsonNode segmentsNode = objectMapper.readTree(chunk.content()).get("segments");
+            List<Segment> segments = new ArrayList<>();
+            if (segmentsNode == null || !segmentsNode.isArray()) {
+                return segments;
+            }
+            for (JsonNode node : segmentsNode) {
+                segments.add(new Segment(
+                        node.path("speaker").asText(),
+                        node.path("text").asText(),
+                        offset(node.get("start"), chunk.startSeconds()),
+                        offset(node.get("end"), chunk.startSeconds())));
+            }
+            return segments;
+        } catch (IOException e) {
+            throw new BaseException(MINUTES_INVALID_JSON_FORMAT);
+        }
+    }
+
+    // 구간 기준 시각을 녹음 전체 기준 시각으로 변환
+    private static Double offset(JsonNode time, double chunkStart) {
+        return time != null && time.isNumber() ? time.asDouble() + chunkStart : null;
+    }
+
+    // 이전까지 병합된 꼬리 부분과 새 구간의 머리 부분에서 같은 발화로 보이는 세그먼트 쌍 (새 세그먼트 -> 기존 세그먼트)
+    private Map<Segment, Segment> pairOverlap(List<Segment> merged, List<Segment> segments, Chunk chunk) {
+        List<Segment> tail = merged.subList(Math.max(0, merged.size() - TEXT_MATCH_WINDOW), merged.size());
+        List<Segment> head = segments.subList(0, Math.min(segments.size(), TEXT_MATCH_WINDOW));
+
+        Map<Segment, Segment> pairs = new IdentityHashMap<>();
+        Set<Segment> pairedPrevious = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Segment next : head) {
+            for (Segment previous : tail) {
+                if (!pairedPrevious.contains(previous) && isSameUtterance(previous, next, chunk)) {
+                    pairs.put(next, previous);
+                    pairedPrevious.add(previous);
+                    break;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private boolean isSameUtterance(Segment previous, Segment next, Chunk chunk) {
+        if (previous.start() != null && next.start() != null) {
+            // 기존 세그먼트가 겹침 구간에 걸쳐 있고 시작 시각이 거의 같으면 같은 발화로 본다
+            double previousEnd = previous.end() != null ? previous.end() : previous.start();
+            return previousEnd >= chunk.startSeconds() - toleranceSeconds
+                    && Math.abs(previous.start() - next.start()) <= toleranceSeconds;
+        }
+        return normalize(previous.text()).equals(normalize(next.text()));
+    }
+
+    private static String normalize(String text) {
+        return text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 겹침 구간에서 가장 많이 대응된 기존 라벨로 통일하고, 대응되지 않은 라벨은 기존과 겹치지 않는 라벨로 배정
+    private static Map<String, String> reconcileLabels(List<Segment> segments, Map<Segment, Segment> pairs, Set<String> usedLabels) {
+        Map<String, Map<String, Integer>> votes = new HashMap<>();
+        pairs.forEach((next, previous) -> votes
+                .computeIfAbsent(next.speaker(), k -> new HashMap<>())
+                .merge(previous.speaker(), 1, Integer::sum));
+
+        Map<String, String> labels = new HashMap<>();
+        Set<String> taken = new HashSet<>();
+        votes.entrySet().stream()
+                .flatMap(entry -> entry.getValue().entrySet().stream()
+                        .map(vote -> Map.entry(Map.entry(entry.getKey(), vote.getKey()), vote.getValue())))
+                .sorted(Map.Entry.<Map.Entry<String, String>, Integer>comparingByValue().reversed())
+                .forEach(vote -> {
+                    String local = vote.getKey().getKey();
+                    String global = vote.getKey().getValue();
+                    if (!labels.containsKey(local) && !taken.contains(global)) {
+                        labels.put(local, global);
+                        taken.add(global);
+                    }
+                });
+
+        for (Segment segment : segments) {
+            String local = segment.speaker();
+            if (!labels.containsKey(local)) {
+                String global = usedLabels.contains(local) || taken.contains(local) ? freshLabel(usedLabels, taken) : local;
+                labels.put(local, global);
+                taken.add(global);
+            }
+        }
+        usedLabels.addAll(labels.values());
+        return labels;
+    }
+
+    private static String freshLabel(Set<String> usedLabels, Set<String> taken) {
+        for (int n = 0; ; n++) {
+            String label = SPEAKER_PREFIX + n;
+            if (!usedLabels.contains(label) && !taken.contains(label)) {
+                return label;
+            }
+        }
+    }
+
+    private String render(List<Segment> segments) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode array = root.putArray("segments");
+        for (Segment segment : segments) {
+            ObjectNode node = array.addObject();
+            node.put("speaker", segment.speaker());
+            node.put("text", segment.text());
+            if (segment.start() != null) {
+                node.put("start", segment.start());
+            }
+            if (segment.end() != null) {
+                node.put("end", segment.end());
+            }
+        }
+        try {
+            return objectMapper.writeValueAsString(root);
+        } catch (IOException e) {
+            throw new BaseException(MINUTES_INVALID_JSON_FORMAT);
+        }
+    }
+}
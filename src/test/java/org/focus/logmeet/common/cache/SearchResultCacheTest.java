@@ -0,0 +1,70 @@
+package org.focus.logmeet.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.controller.dto.search.MinutesSearchPageResult;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache searchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchResultCache = new SearchResultCache(meterRegistry, 100, 60);
+    }
+
+    @Test
+    @DisplayName("같은 키로 조회하면 로더를 한 번만 호출하고 적중률이 기록됨")
+    void get_SameKey_LoadsOnce() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        SearchResultCache.Key key = key(1L, List.of(1L, 2L));
+
+        // when
+        searchResultCache.get(key, () -> load(loads));
+        searchResultCache.get(key, () -> load(loads));
+
+        // then
+        assertEquals(1, loads.get());
+        assertEquals(0.5, searchResultCache.hitRate());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "minutes.search").functionCounter());
+    }
+
+    @Test
+    @DisplayName("프로젝트 무효화 시 해당 프로젝트가 포함된 엔트리만 제거됨")
+    void invalidateProject_RemovesOnlyMatchingEntries() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        SearchResultCache.Key withProject = key(1L, List.of(1L, 2L));
+        SearchResultCache.Key withoutProject = key(2L, List.of(3L));
+        searchResultCache.get(withProject, () -> load(loads));
+        searchResultCache.get(withoutProject, () -> load(loads));
+
+        // when
+        searchResultCache.invalidateProject(2L);
+        searchResultCache.get(withProject, () -> load(loads));
+        searchResultCache.get(withoutProject, () -> load(loads));
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    private SearchResultCache.Key key(Long userId, List<Long> projectIds) {
+        return new SearchResultCache.Key(userId, "회의", projectIds, 20, null, null, SearchSortType.RELEVANCE);
+    }
+
+    private MinutesSearchPageResult load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return MinutesSearchPageResult.empty();
+    }
+}
@@ -0,0 +1,63 @@
+package org.focus.logmeet.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+
+@ExtendWith(MockitoExtension.class)
+class HotPathMetricsAspectTest {
+
+    @Mock
+    private MinutesSearchEngine minutesSearchEngine;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MinutesSearchEngine proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(minutesSearchEngine);
+        factory.addInterface(MinutesSearchEngine.class);
+        factory.addAspect(new HotPathMetricsAspect(meterRegistry));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("검색 엔진 호출 성공 시 operation, outcome 태그로 기록")
+    void timeSearchEngine_Success() {
+        // when
+        proxy.deleteAllById(List.of(1L));
+
+        // then
+        assertEquals(1, meterRegistry.get("search.engine.requests")
+                .tag("operation", "deleteAllById")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("검색 엔진 호출 실패 시 error outcome으로 기록하고 예외는 그대로 전달")
+    void timeSearchEngine_Error() {
+        // given
+        doThrow(new IllegalStateException("ES 오류")).when(minutesSearchEngine).deleteById(1L);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> proxy.deleteById(1L));
+        assertEquals(1, meterRegistry.get("search.engine.requests")
+                .tag("operation", "deleteById")
+                .tag("outcome", "error")
+                .timer().count());
+    }
+}
@@ -0,0 +1,56 @@
+package org.focus.logmeet.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryCountFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCountFilter filter = new QueryCountFilter(meterRegistry);
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    @Test
+    @DisplayName("요청 처리 중 실행된 SQL 수를 uri 패턴 태그로 기록")
+    void doFilter_RecordsQueriesPerRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects/1");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            inspector.inspect("select 3");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/projects/{projectId}");
+        });
+
+        // then
+        DistributionSummary summary = meterRegistry.get("hibernate.queries.per.request")
+                .tag("uri", "/projects/{projectId}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3.0, summary.totalAmount());
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL은 세지 않음")
+    void inspect_OutsideRequest_NotCounted() throws Exception {
+        // given
+        inspector.inspect("select outside");
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        assertEquals(0.0, meterRegistry.get("hibernate.queries.per.request")
+                .tag("uri", "UNKNOWN")
+                .summary().totalAmount());
+    }
+}
@@ -0,0 +1,70 @@
+package org.focus.logmeet.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InviteCodeGeneratorTest {
+
+    private final InviteCodeGenerator generator = new InviteCodeGenerator("test-secret-0123456789abcdefghijkl");
+
+    @Test
+    @DisplayName("서로 다른 시퀀스는 항상 서로 다른 8자리 코드로 변환")
+    void encode_DistinctSequences_ProduceDistinctCodes() {
+        // given
+        Set<String> codes = new HashSet<>();
+
+        // when
+        for (long sequence = 1; sequence <= 100_000; sequence++) {
+            String code = generator.encode(sequence);
+            assertEquals(8, code.length());
+            assertTrue(code.matches("[0-9abcdefghjkmnpqrstvwxyz]{8}"), code);
+            codes.add(code);
+        }
+
+        // then
+        assertEquals(100_000, codes.size());
+    }
+
+    @Test
+    @DisplayName("같은 비밀 키면 같은 코드, 다른 비밀 키면 다른 코드 생성")
+    void encode_DependsOnSecret() {
+        // given
+        InviteCodeGenerator sameSecret = new InviteCodeGenerator("test-secret-0123456789abcdefghijkl");
+        InviteCodeGenerator otherSecret = new InviteCodeGenerator("other-secret-0123456789abcdefghijk");
+
+        // when & then
+        assertEquals(generator.encode(12345L), sameSecret.encode(12345L));
+        assertNotEquals(generator.encode(12345L), otherSecret.encode(12345L));
+    }
+
+    @Test
+    @DisplayName("연속된 시퀀스의 코드는 순서대로 증가하지 않음")
+    void encode_ConsecutiveSequences_NotSequential() {
+        // when
+        String first = generator.encode(1L);
+        String second = generator.encode(2L);
+
+        // then
+        assertNotEquals(first.substring(0, 7), second.substring(0, 7));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 시퀀스는 예외 발생")
+    void encode_OutOfRange_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> generator.encode(-1L));
+        assertThrows(IllegalArgumentException.class, () -> generator.encode(1L << 40));
+    }
+
+    @Test
+    @DisplayName("비밀 키가 없거나 너무 짧으면 생성 시 예외 발생")
+    void constructor_MissingOrShortSecret_ThrowsException() {
+        assertThrows(IllegalStateException.class, () -> new InviteCodeGenerator(null));
+        assertThrows(IllegalStateException.class, () -> new InviteCodeGenerator(""));
+        assertThrows(IllegalStateException.class, () -> new InviteCodeGenerator("logmeet-invite-code"));
+    }
+}
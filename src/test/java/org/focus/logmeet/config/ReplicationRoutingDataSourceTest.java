@@ -0,0 +1,99 @@
+package org.focus.logmeet.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReplicationRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private PrimaryReader primaryReader;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary", "primary");
+        DataSource replica = h2("routing_replica", "replica");
+        DataSource routing = ReplicationRoutingDataSource.lazy(primary, replica);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        primaryReader = new PrimaryReader(transactionManager, "jdbc:h2:mem:routing_replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅")
+    void readOnlyTransaction_RoutesToReplica() {
+        // when
+        String node = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("replica", node);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅")
+    void writeTransaction_RoutesToPrimary() {
+        // when
+        String node = writeTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("primary", node);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 호출은 프라이머리로 라우팅")
+    void noTransaction_RoutesToPrimary() {
+        // when & then
+        assertEquals("primary", currentNode());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이 끝난 뒤 같은 스레드의 쓰기 트랜잭션은 다시 프라이머리로 라우팅")
+    void readOnlyThenWrite_RoutesIndependently() {
+        // when
+        String first = readOnlyTransaction.execute(status -> currentNode());
+        String second = writeTransaction.execute(status -> currentNode());
+
+        // then
+        assertEquals("replica", first);
+        assertEquals("primary", second);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 안에서도 PrimaryReader 조회는 프라이머리로 라우팅되고, 이후 조회는 다시 레플리카를 사용")
+    void primaryReaderInReadOnlyTransaction_RoutesToPrimary() {
+        // when
+        List<String> nodes = readOnlyTransaction.execute(status ->
+                List.of(currentNode(), primaryReader.read(this::currentNode), currentNode()));
+
+        // then
+        assertEquals(List.of("replica", "primary", "replica"), nodes);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String database, String nodeName) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        jdbc.execute("DELETE FROM node");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+}
@@ -1,9 +1,13 @@
 package org.focus.logmeet.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import org.focus.logmeet.controller.dto.minutes.*;
 import org.focus.logmeet.domain.enums.MinutesType;
 import org.focus.logmeet.domain.enums.Status;
+import org.focus.logmeet.service.IdempotencyService;
 import org.focus.logmeet.service.MinutesService;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,20 +16,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.focus.logmeet.domain.enums.ProjectColor.PROJECT_6;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +52,9 @@ class MinutesControllerTest {
     @Mock
     private MinutesService minutesService;
 
+    @Spy
+    private IdempotencyService idempotencyService = new IdempotencyService(new SimpleMeterRegistry(), 100, 60, 5);
+
     @BeforeAll
     static void setupOnce() {
         objectMapper = new ObjectMapper();
@@ -107,12 +122,15 @@ class MinutesControllerTest {
         MinutesFileUploadRequest request = new MinutesFileUploadRequest("file/path");
         MinutesFileUploadResponse response = new MinutesFileUploadResponse(1L, "file/path", MinutesType.VOICE);
         when(minutesService.createMinutes(any(String.class)))
-                .thenReturn(response);
+                .thenReturn(CompletableFuture.completedFuture(response));
 
         // when
-        MvcResult result = mockMvc.perform(post("/minutes/new")
+        MvcResult asyncResult = mockMvc.perform(post("/minutes/new")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andReturn();
 
@@ -124,15 +142,111 @@ class MinutesControllerTest {
         assertThat(content).contains("\"success\":true");
     }
 
+    @Test
+    @DisplayName("여러 장 사진 path를 사용한 회의록 생성 요청이 성공적으로 처리됨")
+    void createMultiPictureMinutes() throws Exception {
+        // given
+        MinutesMultiPictureUploadRequest request = new MinutesMultiPictureUploadRequest(List.of("minutes_photo/1", "minutes_photo/2"));
+        MinutesFileUploadResponse response = new MinutesFileUploadResponse(1L, "minutes_photo/1", MinutesType.MULTI_PICTURE);
+        when(minutesService.createMultiPictureMinutes(List.of("minutes_photo/1", "minutes_photo/2")))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        // when
+        MvcResult asyncResult = mockMvc.perform(post("/minutes/new-multi-picture")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String content = result.getResponse().getContentAsString();
+        assertThat(content).contains("\"success\":true");
+        assertThat(content).contains("MULTI_PICTURE");
+    }
+
+    @Test
+    @DisplayName("비동기 요청이 타임아웃되어도 대기 중인 회의록 생성 작업은 취소되지 않음")
+    void createMinutes_AsyncTimeout_KeepsJob() throws Exception {
+        // given
+        CompletableFuture<MinutesFileUploadResponse> pending = new CompletableFuture<>();
+        when(minutesService.createMinutes(any(String.class))).thenReturn(pending);
+        MvcResult asyncResult = mockMvc.perform(post("/minutes/new")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MinutesFileUploadRequest("file/path"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) asyncResult.getRequest().getAsyncContext();
+
+        // when
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+
+        // then
+        assertThat(pending).isNotCancelled();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 연결을 끊으면 진행 중인 회의록 생성 작업을 취소함")
+    void createMinutes_ClientAbort_CancelsJob() throws Exception {
+        // given
+        CompletableFuture<MinutesFileUploadResponse> pending = new CompletableFuture<>();
+        when(minutesService.createMultiPictureMinutes(List.of("minutes_photo/1"))).thenReturn(pending);
+        MvcResult asyncResult = mockMvc.perform(post("/minutes/new-multi-picture")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MinutesMultiPictureUploadRequest(List.of("minutes_photo/1")))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockAsyncContext asyncContext = (MockAsyncContext) asyncResult.getRequest().getAsyncContext();
+
+        // when
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+        }
+
+        // then
+        assertThat(pending).isCancelled();
+    }
+
+    @Test
+    @DisplayName("멀티파트 파트 URL 발급 요청이 성공적으로 처리됨")
+    void generatePartUploadUrls() throws Exception {
+        // given
+        MultipartUploadPartUrlsRequest request = new MultipartUploadPartUrlsRequest("minutes_voice/file", "upload-1", List.of(1, 2));
+        when(minutesService.generatePartUploadUrls("minutes_voice/file", "upload-1", List.of(1, 2)))
+                .thenReturn(List.of(new MultipartUploadPartUrl(1, "https://storage/1"), new MultipartUploadPartUrl(2, "https://storage/2")));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/minutes/multipart-uploads/part-urls")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String content = result.getResponse().getContentAsString();
+        assertThat(content).contains("\"success\":true");
+        assertThat(content).contains("https://storage/2");
+    }
+
     @Test
     @DisplayName("텍스트 요약 요청이 성공적으로 처리됨")
     void summarizeText() throws Exception {
         // given
         MinutesSummarizeResult response = new MinutesSummarizeResult("Summarized text", Collections.emptyList());
-        when(minutesService.summarizeText(any(Long.class))).thenReturn(response);
+        when(minutesService.summarizeText(any(Long.class))).thenReturn(CompletableFuture.completedFuture(response));
 
         // when
-        MvcResult result = mockMvc.perform(post("/minutes/1/summarize-text"))
+        MvcResult asyncResult = mockMvc.perform(post("/minutes/1/summarize-text"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andReturn();
 
@@ -168,11 +282,32 @@ class MinutesControllerTest {
         assertThat(content).contains("\"success\":true");
     }
 
+    @Test
+    @DisplayName("같은 Idempotency-Key로 다시 업로드하면 회의록을 다시 생성하지 않고 저장된 응답을 반환함")
+    void uploadManualEntry_SameIdempotencyKey_ReturnsStoredResponse() throws Exception {
+        // given
+        MinutesManuallyCreateRequest request = new MinutesManuallyCreateRequest("Manual Minutes", "Text content", 1L);
+        when(minutesService.saveAndUploadManualEntry(any(String.class), any(String.class), any(Long.class)))
+                .thenReturn(new MinutesCreateResponse(1L, 1L));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/minutes/upload-content")
+                            .header(IdempotencyService.HEADER, "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+        }
+
+        // then
+        verify(minutesService, times(1)).saveAndUploadManualEntry("Text content", "Manual Minutes", 1L);
+    }
+
     @Test
     @DisplayName("회의록 정보 조회가 성공적으로 처리됨")
     void getMinutes() throws Exception {
         // given
-        MinutesInfoResult response = new MinutesInfoResult(1L, 1L, "Project Name", "Minutes Name", "Content", "file/path", null, MinutesType.MANUAL, LocalDateTime.now());
+        MinutesInfoResult response = new MinutesInfoResult(1L, 1L, "Project Name", "Minutes Name", "Content", "file/path", null, MinutesType.MANUAL, LocalDateTime.now(), List.of());
         when(minutesService.getMinutes(any(Long.class))).thenReturn(response);
 
         // when
@@ -208,6 +343,24 @@ class MinutesControllerTest {
         assertThat(content).contains("\"success\":true");
     }
 
+    @Test
+    @DisplayName("내 AI 작업 대기 순번 조회가 성공적으로 처리됨")
+    void getAiJobs() throws Exception {
+        // given
+        AiJobStatusResponse job = new AiJobStatusResponse(3L, "VOICE", "QUEUED", 2, 120.0, 15L);
+        when(minutesService.getAiJobs()).thenReturn(List.of(job));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/minutes/ai-jobs"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        String content = result.getResponse().getContentAsString();
+        assertThat(content).contains("\"success\":true");
+        assertThat(content).contains("\"position\":2");
+    }
+
     @Test
     @DisplayName("특정 프로젝트의 회의록 리스트 조회가 성공적으로 처리됨")
     void getProjectMinutes() throws Exception {
@@ -2,8 +2,10 @@ package org.focus.logmeet.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.focus.logmeet.controller.dto.schedule.*;
 import org.focus.logmeet.domain.enums.ProjectColor;
+import org.focus.logmeet.service.IdempotencyService;
 import org.focus.logmeet.service.ScheduleService;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -40,6 +43,9 @@ class ScheduleControllerTest {
     @Mock
     private ScheduleService scheduleService;
 
+    @Spy
+    private IdempotencyService idempotencyService = new IdempotencyService(new SimpleMeterRegistry(), 100, 60, 5);
+
     @BeforeAll
     static void setupOnce() {
         objectMapper = new ObjectMapper();
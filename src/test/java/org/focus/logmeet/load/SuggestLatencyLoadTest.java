@@ -0,0 +1,177 @@
+package org.focus.logmeet.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.domain.Project;
+import org.focus.logmeet.domain.User;
+import org.focus.logmeet.domain.UserProject;
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.ProjectColor;
+import org.focus.logmeet.domain.enums.Role;
+import org.focus.logmeet.repository.ProjectRepository;
+import org.focus.logmeet.repository.UserProjectRepository;
+import org.focus.logmeet.repository.UserRepository;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.focus.logmeet.security.jwt.JwtProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.elasticsearch.ElasticsearchContainer;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+/**
+ * nori 플러그인을 설치한 Elasticsearch 컨테이너에 회의록 제목 5,000건을 색인한 뒤,
+ * GET /search/suggest 를 실제 HTTP 로 반복 호출해 p95 지연이 SLO(기본 10ms) 이내인지 확인한다.
+ * Docker 가 필요하므로 기본 test 에서 제외되며 ./gradlew loadTest 로 실행한다.
+ * -Dload.suggest-documents, -Dload.suggest-iterations, -Dload.suggest-p95-ms 로 조정 가능.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = "management.server.port=-1")
+@ActiveProfiles("local-s3")
+@Testcontainers(disabledWithoutDocker = true)
+class SuggestLatencyLoadTest {
+
+    private static final int DOCUMENTS = Integer.getInteger("load.suggest-documents", 5000);
+    private static final int ITERATIONS = Integer.getInteger("load.suggest-iterations", 500);
+    private static final long P95_MS = Long.getLong("load.suggest-p95-ms", 10);
+    private static final List<String> PREFIXES = List.of("주간", "배포 일", "스프린트 회", "디자인", "회고");
+
+    // 공식 이미지에는 nori 가 없으므로 title.suggest(nori_edge_ngram) 분석기를 쓰려면 플러그인을 설치한 이미지를 빌드한다
+    private static final ImageFromDockerfile ELASTICSEARCH_NORI = new ImageFromDockerfile("logmeet-elasticsearch-nori", false)
+            .withDockerfileFromBuilder(builder -> builder
+                    .from("docker.elastic.co/elasticsearch/elasticsearch:8.11.4")
+                    .run("bin/elasticsearch-plugin install --batch analysis-nori")
+                    .build());
+
+    @Container
+    @ServiceConnection
+    static ElasticsearchContainer elasticsearch = new ElasticsearchContainer(DockerImageName.parse(ELASTICSEARCH_NORI.get())
+            .asCompatibleSubstituteFor("docker.elastic.co/elasticsearch/elasticsearch"))
+            .withEnv("xpack.security.enabled", "false")
+            .withEnv("ES_JAVA_OPTS", "-Xms512m -Xmx512m");
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserProjectRepository userProjectRepository;
+
+    @Autowired
+    private MinutesSearchEngine minutesSearchEngine;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    @DisplayName("nori 색인 5천 건에서 제목 자동완성 API의 p95가 SLO 이내임")
+    void suggest_LatencyWithinSlo() throws Exception {
+        //given
+        User user = userRepository.save(User.builder()
+                .email("suggest@example.com")
+                .password("password")
+                .name("자동완성")
+                .build());
+        List<Long> projectIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Project project = projectRepository.save(Project.builder().name("프로젝트 " + i).build());
+            userProjectRepository.save(UserProject.builder()
+                    .user(user)
+                    .project(project)
+                    .role(Role.LEADER)
+                    .color(ProjectColor.PROJECT_1)
+                    .build());
+            projectIds.add(project.getId());
+        }
+        minutesSearchEngine.saveAll(titles(projectIds));
+        elasticsearchOperations.indexOps(MinutesDocument.class).refresh();
+        String token = jwtProvider.createToken(user.getEmail(), "Access");
+
+        assertThat(suggest(token, "주간")).contains("주간 회의");
+        for (int i = 0; i < 50; i++) {
+            suggest(token, PREFIXES.get(i % PREFIXES.size()));
+        }
+
+        //when
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            suggest(token, PREFIXES.get(i % PREFIXES.size()));
+            elapsed[i] = System.nanoTime() - start;
+        }
+
+        //then
+        Arrays.sort(elapsed);
+        long p95 = elapsed[(int) Math.ceil(ITERATIONS * 0.95) - 1];
+        log.info("자동완성 {}회 호출 (색인 {}건): p50 {}us, p95 {}us",
+                ITERATIONS, DOCUMENTS, elapsed[ITERATIONS / 2] / 1_000, p95 / 1_000);
+        assertThat(p95).as("p95 latency(ns)").isLessThan(Duration.ofMillis(P95_MS).toNanos());
+    }
+
+    private List<MinutesDocument> titles(List<Long> projectIds) {
+        List<String> subjects = List.of("주간 회의", "배포 일정 점검", "스프린트 회고", "디자인 리뷰", "회고 정리", "고객 인터뷰");
+        List<MinutesDocument> documents = new ArrayList<>(DOCUMENTS);
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            documents.add(MinutesDocument.builder()
+                    .id(id)
+                    .projectId(projectIds.get((int) (id % projectIds.size())))
+                    .title(subjects.get((int) (id % subjects.size())) + " " + id)
+                    .content("회의 내용 " + id)
+                    .build());
+        }
+        return documents;
+    }
+
+    private String suggest(String token, String prefix) throws Exception {
+        URI uri = URI.create("http://127.0.0.1:" + port + "/search/suggest?size=5&prefix="
+                + URLEncoder.encode(prefix, StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+}
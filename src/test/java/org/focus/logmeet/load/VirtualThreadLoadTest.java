@@ -0,0 +1,188 @@
+package org.focus.logmeet.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.focus.logmeet.LogmeetApplication;
+import org.focus.logmeet.controller.dto.minutes.MinutesFileUploadRequest;
+import org.focus.logmeet.domain.User;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.focus.logmeet.repository.UserRepository;
+import org.focus.logmeet.security.jwt.JwtProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 애플리케이션을 플랫폼 스레드 모드와 가상 스레드 모드로 차례로 띄워, 느린 Flask 응답(기본 500ms)을 기다리는
+ * 회의록 생성 요청(POST /minutes/new) 5,000개를 동시에 보내고 두 모드의 처리량을 비교한다.
+ * Flask 와 오브젝트 스토리지는 스텁 서버로 대체하고(스토리지 HEAD 는 404 로 응답해 중복 확인을 건너뜀), 검색은 local-search 프로필을 사용한다.
+ * 실제 DB 가 필요하고 파일 디스크립터를 많이 사용하므로 기본 test 에서 제외되며 ./gradlew loadTest 로 실행한다.
+ * -Dload.concurrency, -Dload.flask-delay-ms, -Dload.tolerance 로 조정 가능.
+ */
+@Slf4j
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 5000);
+    private static final int FLASK_DELAY_MS = Integer.getInteger("load.flask-delay-ms", 500);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("load.tolerance", "0.1"));
+    private static final String FLASK_RESPONSE = "{\"text\": \"회의 내용\"}";
+
+    private static HttpServer stub;
+    private static ExecutorService stubExecutor;
+    private static String stubUrl;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startStub() throws IOException {
+        stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CONCURRENCY);
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/process_image", exchange -> {
+            try {
+                Thread.sleep(FLASK_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = FLASK_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+        stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("느린 Flask 호출 5,000건 동시 요청 시 가상 스레드 모드의 처리량이 플랫폼 스레드 모드 이상임")
+    void virtualThreadsKeepUpWithPlatformThreadsOnSlowFlask() throws Exception {
+        //given
+        double platformThroughput = measureThroughput(false);
+
+        //when
+        double virtualThroughput = measureThroughput(true);
+
+        //then
+        log.info("동시 요청 {}건, Flask 지연 {}ms: 플랫폼 스레드 {} req/s, 가상 스레드 {} req/s",
+                CONCURRENCY, FLASK_DELAY_MS, String.format("%.1f", platformThroughput), String.format("%.1f", virtualThroughput));
+        assertThat(virtualThroughput).isGreaterThanOrEqualTo(platformThroughput * (1 - TOLERANCE));
+    }
+
+    private double measureThroughput(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = startApplication(virtualThreads)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            User user = userRepository.save(User.builder()
+                    .email("load-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com")
+                    .password("password")
+                    .name("부하테스트")
+                    .build());
+            String token = context.getBean(JwtProvider.class).createToken(user.getEmail(), "Access");
+
+            List<Long> createdMinutesIds = new ArrayList<>();
+            try {
+                double throughput = sendLoad(port, token, user.getId(), createdMinutesIds);
+                log.info("{} 모드 처리량: {} req/s", virtualThreads ? "가상 스레드" : "플랫폼 스레드", String.format("%.1f", throughput));
+                return throughput;
+            } finally {
+                MinutesRepository minutesRepository = context.getBean(MinutesRepository.class);
+                new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+                    if (!createdMinutesIds.isEmpty()) {
+                        minutesRepository.deleteAllByIdIn(createdMinutesIds);
+                    }
+                });
+                userRepository.deleteById(user.getId());
+            }
+        }
+    }
+
+    // Flask 와 스토리지는 스텁으로 보내고, AI 작업 스케줄러와 Tomcat 연결 한도가 동시 요청 수를 제한하지 않도록 설정
+    private static ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        return new SpringApplicationBuilder(LogmeetApplication.class)
+                .profiles("local-search", "local-s3")
+                .properties(
+                        "server.port=0",
+                        "management.server.port=-1",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "flask.server.url=" + stubUrl,
+                        "cloud.naver.storage.endpoint=" + stubUrl,
+                        "ai.scheduler.max-concurrent-jobs=" + CONCURRENCY,
+                        "ai.scheduler.tenant-max-concurrent-jobs=" + CONCURRENCY,
+                        "ai.scheduler.tenant-max-queued-jobs=" + CONCURRENCY,
+                        "server.tomcat.max-connections=" + CONCURRENCY * 2,
+                        "server.tomcat.accept-count=" + CONCURRENCY)
+                .run();
+    }
+
+    private double sendLoad(int port, String token, Long userId, List<Long> createdMinutesIds) throws Exception {
+        URI target = URI.create("http://127.0.0.1:" + port + "/minutes/new");
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            long start = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                // 객체 키에 업로더 ID 를 넣어 업로더 확인을 통과시킨다
+                String path = stubUrl + "/logmeet/minutes_photo/" + userId + "/load-" + UUID.randomUUID() + ".jpg";
+                HttpRequest request = HttpRequest.newBuilder(target)
+                        .timeout(Duration.ofMinutes(2))
+                        .header("Content-Type", "application/json")
+                        .header("Authorization", "Bearer " + token)
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                objectMapper.writeValueAsString(new MinutesFileUploadRequest(path))))
+                        .build();
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+            double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                HttpResponse<String> completed = response.join();
+                if (completed.statusCode() == 200) {
+                    createdMinutesIds.add(objectMapper.readTree(completed.body()).path("result").path("minutesId").asLong());
+                }
+            }
+            assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+            return CONCURRENCY / elapsedSeconds;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.focus.logmeet.repository;
+
+import org.focus.logmeet.domain.Minutes;
+import org.focus.logmeet.domain.MinutesSearchHistory;
+import org.focus.logmeet.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// upsert/trimToRecent 는 MySQL 전용 네이티브 쿼리(ON DUPLICATE KEY UPDATE, 파생 테이블)라 실제 MySQL 에서 검증한다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class MinutesSearchHistoryRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private MinutesSearchHistoryRepository minutesSearchHistoryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.builder()
+                .email("history@example.com")
+                .password("password")
+                .name("홍길동")
+                .build());
+    }
+
+    private Minutes persistMinutes(String name) {
+        Minutes minutes = new Minutes();
+        minutes.setName(name);
+        return entityManager.persist(minutes);
+    }
+
+    private List<MinutesSearchHistory> histories() {
+        entityManager.flush();
+        entityManager.clear();
+        return minutesSearchHistoryRepository.findAll();
+    }
+
+    @Test
+    @DisplayName("처음 검색한 회의록은 새 검색 기록 행을 추가함")
+    void upsert_NewMinutes_InsertsRow() {
+        // given
+        Minutes minutes = persistMinutes("회의록");
+        LocalDateTime now = LocalDateTime.of(2024, 5, 1, 10, 0);
+
+        // when
+        int affected = minutesSearchHistoryRepository.upsert(user.getId(), minutes.getId(), now);
+
+        // then
+        assertThat(affected).isEqualTo(1);
+        List<MinutesSearchHistory> histories = histories();
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getTouchedAt()).isEqualTo(now);
+        assertThat(histories.get(0).getCreatedAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("이미 검색한 회의록은 행을 추가하지 않고 touchedAt만 갱신함")
+    void upsert_ExistingMinutes_TouchesRow() {
+        // given
+        Minutes minutes = persistMinutes("회의록");
+        LocalDateTime first = LocalDateTime.of(2024, 5, 1, 10, 0);
+        LocalDateTime second = first.plusHours(1);
+        minutesSearchHistoryRepository.upsert(user.getId(), minutes.getId(), first);
+
+        // when
+        int affected = minutesSearchHistoryRepository.upsert(user.getId(), minutes.getId(), second);
+
+        // then
+        assertThat(affected).isEqualTo(2);
+        List<MinutesSearchHistory> histories = histories();
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getCreatedAt()).isEqualTo(first);
+        assertThat(histories.get(0).getTouchedAt()).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("최근에 검색한 keep개만 남기고 나머지 검색 기록을 삭제함")
+    void trimToRecent_KeepsMostRecentlyTouched() {
+        // given
+        Minutes oldest = persistMinutes("첫 회의록");
+        Minutes middle = persistMinutes("둘째 회의록");
+        Minutes newest = persistMinutes("셋째 회의록");
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 10, 0);
+        minutesSearchHistoryRepository.upsert(user.getId(), oldest.getId(), base);
+        minutesSearchHistoryRepository.upsert(user.getId(), middle.getId(), base.plusMinutes(1));
+        minutesSearchHistoryRepository.upsert(user.getId(), newest.getId(), base.plusMinutes(2));
+        minutesSearchHistoryRepository.upsert(user.getId(), oldest.getId(), base.plusMinutes(3));
+
+        // when
+        int deleted = minutesSearchHistoryRepository.trimToRecent(user.getId(), 2);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(histories()).extracting(history -> history.getMinutes().getId())
+                .containsExactlyInAnyOrder(oldest.getId(), newest.getId());
+    }
+}
@@ -0,0 +1,112 @@
+package org.focus.logmeet.repository.search;
+
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryMinutesSearchEngineTest {
+
+    private InMemoryMinutesSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryMinutesSearchEngine();
+        engine.saveAll(List.of(
+                document(1L, 1L, "주간 회의", "이번 주 배포 일정을 논의했습니다."),
+                document(2L, 1L, "배포 회고", "배포 일정이 지연된 원인을 정리했습니다. 다음 배포 일정은 금요일입니다."),
+                document(3L, 2L, "디자인 리뷰", "배포 일정과 무관한 디자인 논의"),
+                document(4L, 1L, "주간 회고", "일정 배포 순서 변경")
+        ));
+    }
+
+    @Test
+    @DisplayName("구문 검색은 단어 순서가 일치하는 문서만 반환하고 제목 일치에 더 높은 점수를 줌")
+    void searchPage_PhraseMatch() {
+        // when
+        MinutesSearchHits result = engine.searchPage("배포 일정", List.of(1L), 10, null, null, SearchSortType.RELEVANCE);
+
+        // then
+        assertEquals(2, result.getTotalHits());
+        assertEquals(List.of(2L, 1L), ids(result));
+        assertTrue(result.getHits().get(0).getScore() > result.getHits().get(1).getScore());
+
+        MinutesSearchHits titleResult = engine.searchPage("주간", List.of(1L), 10, null, null, SearchSortType.RELEVANCE);
+        assertEquals(List.of(1L, 4L), ids(titleResult));
+    }
+
+    @Test
+    @DisplayName("접근 가능한 프로젝트의 문서만 검색됨")
+    void searchPage_FiltersByProject() {
+        // when
+        MinutesSearchHits result = engine.searchPage("디자인", List.of(1L), 10, null, null, SearchSortType.RELEVANCE);
+
+        // then
+        assertTrue(result.getHits().isEmpty());
+        assertEquals(List.of(3L), ids(engine.searchPage("디자인", List.of(1L, 2L), 10, null, null, SearchSortType.RELEVANCE)));
+    }
+
+    @Test
+    @DisplayName("문서 수정 및 삭제가 인덱스에 반영됨")
+    void saveAndDelete_UpdatesIndex() {
+        // when
+        engine.save(document(1L, 1L, "월간 회의", "예산 검토"));
+        engine.deleteById(2L);
+
+        // then
+        assertTrue(engine.searchPage("배포 일정", List.of(1L), 10, null, null, SearchSortType.RELEVANCE).getHits().isEmpty());
+        assertEquals(List.of(1L), ids(engine.searchPage("예산", List.of(1L), 10, null, null, SearchSortType.RELEVANCE)));
+    }
+
+    @Test
+    @DisplayName("프로젝트 단위 삭제 시 해당 프로젝트 문서만 인덱스에서 제거됨")
+    void deleteAllByProjectId_RemovesOnlyProjectDocuments() {
+        // when
+        engine.deleteAllByProjectId(1L);
+
+        // then
+        assertTrue(engine.searchPage("배포", List.of(1L, 2L), 10, null, null, SearchSortType.RELEVANCE).getHits().stream()
+                .allMatch(hit -> hit.getDocument().getProjectId().equals(2L)));
+        assertEquals(List.of(3L), ids(engine.searchPage("디자인", List.of(1L, 2L), 10, null, null, SearchSortType.RELEVANCE)));
+    }
+
+    @Test
+    @DisplayName("searchAfter 커서로 다음 페이지를 중복 없이 조회함")
+    void searchPage_SearchAfterPaging() {
+        // given
+        MinutesSearchHits firstPage = engine.searchPage("배포", List.of(1L, 2L), 2, null, null, SearchSortType.LATEST);
+        List<Object> cursor = firstPage.getHits().get(1).getSortValues();
+
+        // when
+        MinutesSearchHits secondPage = engine.searchPage("배포", List.of(1L, 2L), 2, cursor, null, SearchSortType.LATEST);
+
+        // then
+        assertEquals(List.of(4L, 3L), ids(firstPage));
+        assertEquals(List.of(2L, 1L), ids(secondPage));
+        assertEquals(4, secondPage.getTotalHits());
+    }
+
+    @Test
+    @DisplayName("자동완성은 모든 단어가 제목 단어의 접두어인 문서를 반환함")
+    void suggestTitles_PrefixMatch() {
+        // when
+        List<MinutesDocument> result = engine.suggestTitles("주간 회", List.of(1L, 2L), 5);
+
+        // then
+        assertEquals(List.of(4L, 1L), result.stream().map(MinutesDocument::getId).toList());
+        assertTrue(engine.suggestTitles("간회", List.of(1L), 5).isEmpty());
+    }
+
+    private MinutesDocument document(Long id, Long projectId, String title, String content) {
+        return MinutesDocument.builder().id(id).projectId(projectId).title(title).content(content).build();
+    }
+
+    private List<Long> ids(MinutesSearchHits hits) {
+        return hits.getHits().stream().map(hit -> hit.getDocument().getId()).toList();
+    }
+}
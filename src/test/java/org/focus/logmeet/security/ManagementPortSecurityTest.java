@@ -0,0 +1,61 @@
+package org.focus.logmeet.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+// 관리 포트는 실제 서버로 띄워야 분리되므로 고정된 빈 포트를 골라 management.server.port 로 지정한다
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+class ManagementPortSecurityTest {
+
+    private static final int MANAGEMENT_PORT = freePort();
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @DynamicPropertySource
+    static void managementPort(DynamicPropertyRegistry registry) {
+        registry.add("management.server.port", () -> MANAGEMENT_PORT);
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int get(int targetPort, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + targetPort + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Test
+    @DisplayName("관리 포트의 Actuator는 토큰 없이 조회 가능")
+    void actuatorOnManagementPort_PermitsWithoutToken() throws Exception {
+        assertThat(get(MANAGEMENT_PORT, "/actuator/prometheus")).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("서비스 포트의 요청은 토큰 없이 접근할 수 없음")
+    void serviceEndpointOnServicePort_RequiresToken() throws Exception {
+        assertThat(get(port, "/actuator/prometheus")).isEqualTo(401);
+    }
+}
@@ -9,7 +9,6 @@ import org.focus.logmeet.service.AuthService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -36,7 +35,7 @@ class SecurityConfigTest {
     @MockBean
     private AuthService authService;
 
-    @InjectMocks
+    @Autowired
     private JwtAuthFilter jwtAuthFilter;
 
     @Autowired
@@ -89,6 +88,15 @@ class SecurityConfigTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("서비스 포트로 들어온 Actuator 요청은 인증 없이 접근할 수 없음")
+    void testActuatorNotPublicOnServicePort() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health"))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("인증이 필요한 경로에 접근 시 인증이 필요함")
     void testAuthenticatedEndpoints() throws Exception {
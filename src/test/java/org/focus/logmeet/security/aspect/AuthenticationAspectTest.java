@@ -1,5 +1,6 @@
 package org.focus.logmeet.security.aspect;
 
+import org.aspectj.lang.ProceedingJoinPoint;
 import org.focus.logmeet.common.exception.BaseException;
 import org.focus.logmeet.domain.User;
 import org.focus.logmeet.domain.enums.Status;
@@ -18,6 +19,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.USER_NOT_AUTHENTICATED;
 import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.USER_NOT_FOUND;
@@ -39,6 +41,9 @@ class AuthenticationAspectTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
     @BeforeEach
     void setUp() {
         SecurityContextHolder.setContext(securityContext);
@@ -47,45 +52,90 @@ class AuthenticationAspectTest {
     @AfterEach
     void tearDown() {
         SecurityContextHolder.clearContext();
+        CurrentUserHolder.clear();
     }
 
     @Test
-    @DisplayName("인증된 사용자가 있을 경우 CurrentUserHolder에 사용자 정보가 설정됨")
-    void testInjectCurrentUser_Success() {
+    @DisplayName("인증된 사용자가 있을 경우 호출 구간 동안 CurrentUserHolder에 사용자 정보가 설정되고 종료 후 clear 됨")
+    void testBindCurrentUser_Success() throws Throwable {
         //given
         Long userId = 1L;
         User user = createUser(userId);
         UserDetailsImpl userDetails = createUserDetails(user);
+        AtomicReference<User> boundUser = new AtomicReference<>();
 
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.getPrincipal()).thenReturn(userDetails);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            boundUser.set(CurrentUserHolder.get());
+            return "result";
+        });
 
         //when
-        authenticationAspect.injectCurrentUser();
+        Object result = authenticationAspect.bindCurrentUser(joinPoint);
 
         //then
-        assertThat(CurrentUserHolder.get()).isEqualTo(user);
+        assertThat(result).isEqualTo("result");
+        assertThat(boundUser.get()).isEqualTo(user);
+        assertThat(CurrentUserHolder.get()).isNull();
         verify(userRepository, times(1)).findById(userId);
     }
 
+    @Test
+    @DisplayName("대상 메서드가 예외를 던져도 CurrentUserHolder가 clear 됨")
+    void testBindCurrentUser_ClearsOnException() throws Throwable {
+        //given
+        Long userId = 1L;
+        User user = createUser(userId);
+
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getPrincipal()).thenReturn(createUserDetails(user));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        //when & then
+        assertThatThrownBy(() -> authenticationAspect.bindCurrentUser(joinPoint))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(CurrentUserHolder.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("중첩 호출은 바깥 호출의 사용자를 재사용하고 지우지 않음")
+    void testBindCurrentUser_Nested() throws Throwable {
+        //given
+        User user = createUser(1L);
+        CurrentUserHolder.set(user);
+        when(joinPoint.proceed()).thenReturn("inner");
+
+        //when
+        Object result = authenticationAspect.bindCurrentUser(joinPoint);
+
+        //then
+        assertThat(result).isEqualTo("inner");
+        assertThat(CurrentUserHolder.get()).isEqualTo(user);
+        verify(userRepository, never()).findById(anyLong());
+        verifyNoInteractions(securityContext);
+    }
+
     @Test
     @DisplayName("인증된 사용자가 없을 경우 예외 발생")
-    void testInjectCurrentUser_NotAuthenticated() {
+    void testBindCurrentUser_NotAuthenticated() throws Throwable {
         //given
         when(securityContext.getAuthentication()).thenReturn(null);
 
         //when & then
-        assertThatThrownBy(() -> authenticationAspect.injectCurrentUser())
+        assertThatThrownBy(() -> authenticationAspect.bindCurrentUser(joinPoint))
                 .isInstanceOf(BaseException.class)
                 .hasMessageContaining(USER_NOT_AUTHENTICATED.getMessage());
 
         verify(userRepository, never()).findById(anyLong());
+        verify(joinPoint, never()).proceed();
     }
 
     @Test
     @DisplayName("사용자가 존재하지 않는 경우 예외 발생")
-    void testInjectCurrentUser_UserNotFound() {
+    void testBindCurrentUser_UserNotFound() throws Throwable {
         //given
         Long userId = 1L;
         User user = createUser(userId);
@@ -96,29 +146,15 @@ class AuthenticationAspectTest {
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         //when & then
-        assertThatThrownBy(() -> authenticationAspect.injectCurrentUser())
+        assertThatThrownBy(() -> authenticationAspect.bindCurrentUser(joinPoint))
                 .isInstanceOf(BaseException.class)
                 .hasMessageContaining(USER_NOT_FOUND.getMessage());
 
         verify(userRepository, times(1)).findById(userId);
-    }
-
-    @Test
-    @DisplayName("CurrentUserHolder가 clear 되어야 함")
-    void testClearCurrentUser() {
-        //given
-        Long userId = 1L;
-        User user = createUser(userId);
-        CurrentUserHolder.set(user);
-
-        //when
-        authenticationAspect.clearCurrentUser();
-
-        //then
+        verify(joinPoint, never()).proceed();
         assertThat(CurrentUserHolder.get()).isNull();
     }
 
-
     private User createUser(Long userId) {
         return User.builder()
                 .id(userId)
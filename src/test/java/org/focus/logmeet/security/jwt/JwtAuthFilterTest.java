@@ -7,7 +7,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -26,7 +25,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class JwtAuthFilterTest {
 
-    @InjectMocks
+    private static final int MANAGEMENT_PORT = 8081;
+
     private JwtAuthFilter jwtAuthFilter;
 
     @Mock
@@ -44,6 +44,7 @@ class JwtAuthFilterTest {
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
         filterChain = mock(FilterChain.class);
+        jwtAuthFilter = new JwtAuthFilter(jwtProvider, MANAGEMENT_PORT);
         SecurityContextHolder.clearContext();
     }
 
@@ -187,7 +188,26 @@ class JwtAuthFilterTest {
         request.setRequestURI("/v3/api-docs");
         assertThat(jwtAuthFilter.shouldNotFilter(request)).isTrue();
 
+        request.setRequestURI("/storage-events");
+        assertThat(jwtAuthFilter.shouldNotFilter(request)).isTrue();
+
         request.setRequestURI("/random-path");
         assertThat(jwtAuthFilter.shouldNotFilter(request)).isFalse();
     }
+
+    @Test
+    @DisplayName("관리 포트로 들어온 요청은 토큰 없이 필터를 통과함")
+    void testDoFilter_ManagementPort_SkipsTokenCheck() throws ServletException, IOException {
+        //given
+        request.setRequestURI("/actuator/prometheus");
+        request.setLocalPort(MANAGEMENT_PORT);
+
+        //when
+        jwtAuthFilter.doFilter(request, response, filterChain);
+
+        //then
+        verify(filterChain, times(1)).doFilter(request, response);
+        verifyNoInteractions(jwtProvider);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
 }
@@ -0,0 +1,229 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.minutes.AiJobStatusResponse;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_AI_JOB_QUEUE_FULL;
+
+class AiJobSchedulerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> started = new ArrayList<>();
+    private final Map<String, CompletableFuture<String>> works = new HashMap<>();
+    private final Deque<Runnable> retries = new ArrayDeque<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AiJobScheduler scheduler(int maxConcurrentJobs, int tenantMaxConcurrentJobs, int tenantMaxQueuedJobs) {
+        return new AiJobScheduler(meterRegistry, maxConcurrentJobs, tenantMaxConcurrentJobs, tenantMaxQueuedJobs,
+                1.0, 30, 300, 5, 3, 1, retries::add, clock::get);
+    }
+
+    private CompletableFuture<String> submit(AiJobScheduler scheduler, String tenant, String name, double estimatedSeconds) {
+        return scheduler.submit(tenant, "VOICE", estimatedSeconds, () -> {
+            started.add(name);
+            CompletableFuture<String> work = new CompletableFuture<>();
+            works.put(name, work);
+            return work;
+        });
+    }
+
+    @Test
+    @DisplayName("한 테넌트가 작업을 몰아 넣어도 다른 테넌트의 작업이 번갈아 실행됨")
+    void submit_RoundRobinAcrossTenants() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+        for (int i = 1; i <= 3; i++) {
+            submit(scheduler, "project:1", "a" + i, 60);
+        }
+        submit(scheduler, "project:2", "b1", 60);
+
+        // when
+        works.get("a1").complete("a1");
+        works.get("a2").complete("a2");
+        works.get("b1").complete("b1");
+
+        // then
+        assertThat(started).containsExactly("a1", "a2", "b1", "a3");
+    }
+
+    @Test
+    @DisplayName("같은 테넌트 안에서는 예상 처리 시간이 짧은 작업을 먼저 실행함")
+    void submit_ShortestJobFirstWithinTenant() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+        submit(scheduler, "project:9", "blocker", 60);
+        submit(scheduler, "project:1", "long", 600);
+        submit(scheduler, "project:1", "short", 10);
+
+        // when
+        works.get("blocker").complete("blocker");
+
+        // then
+        assertThat(started).containsExactly("blocker", "short");
+    }
+
+    @Test
+    @DisplayName("오래 기다린 긴 작업은 새로 들어온 짧은 작업보다 먼저 실행됨")
+    void submit_AgingPreventsStarvation() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+        submit(scheduler, "project:9", "blocker", 60);
+        submit(scheduler, "project:1", "long", 100);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(200));
+        submit(scheduler, "project:1", "short", 10);
+
+        // when
+        works.get("blocker").complete("blocker");
+
+        // then
+        assertThat(started).containsExactly("blocker", "long");
+    }
+
+    @Test
+    @DisplayName("테넌트별 동시 실행 한도를 넘는 작업은 전체 한도가 남아도 대기함")
+    void submit_TenantConcurrencyCap() {
+        // given
+        AiJobScheduler scheduler = scheduler(4, 1, 100);
+
+        // when
+        submit(scheduler, "project:1", "a1", 60);
+        submit(scheduler, "project:1", "a2", 60);
+        submit(scheduler, "project:2", "b1", 60);
+
+        // then
+        assertThat(started).containsExactly("a1", "b1");
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업을 취소하면 실행되지 않고, 실행 중인 작업을 취소하면 진행 중인 호출도 취소됨")
+    void submit_Cancel() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+        CompletableFuture<String> running = submit(scheduler, "project:1", "a1", 60);
+        CompletableFuture<String> queued = submit(scheduler, "project:1", "a2", 60);
+
+        // when
+        queued.cancel(true);
+        running.cancel(true);
+
+        // then
+        assertThat(works.get("a1")).isCancelled();
+        assertThat(started).containsExactly("a1");
+    }
+
+    @Test
+    @DisplayName("작업 결과와 실패가 그대로 전달되고, 실패한 작업도 실행 슬롯을 반환함")
+    void submit_PropagatesResultAndReleasesSlot() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+        CompletableFuture<String> failing = submit(scheduler, "project:1", "a1", 60);
+        CompletableFuture<String> next = submit(scheduler, "project:1", "a2", 60);
+
+        // when
+        works.get("a1").completeExceptionally(new BaseException(MINUTES_AI_JOB_QUEUE_FULL));
+        works.get("a2").complete("결과");
+
+        // then
+        assertThat(failing).isCompletedExceptionally();
+        assertThat(next.join()).isEqualTo("결과");
+    }
+
+    @Test
+    @DisplayName("대기 순번은 테넌트를 번갈아 꺼내는 순서로 계산됨")
+    void getJobs_ReportsQueuePositions() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+        submit(scheduler, "project:1", "a1", 60);
+        submit(scheduler, "project:1", "a2", 60);
+        submit(scheduler, "project:1", "a3", 60);
+        submit(scheduler, "project:2", "b1", 60);
+
+        // when
+        List<AiJobStatusResponse> jobs = scheduler.getJobs(null);
+
+        // then
+        assertThat(jobs).extracting(AiJobStatusResponse::getJobId).containsExactly(1L, 2L, 4L, 3L);
+        assertThat(jobs).extracting(AiJobStatusResponse::getState).containsExactly("RUNNING", "QUEUED", "QUEUED", "QUEUED");
+        assertThat(jobs).extracting(AiJobStatusResponse::getPosition).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("테넌트의 대기 작업 수가 한도를 넘으면 예외 발생")
+    void submit_QueueFull_ThrowsException() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 1);
+        submit(scheduler, "project:1", "a1", 60);
+        submit(scheduler, "project:1", "a2", 60);
+
+        // when & then
+        assertThatThrownBy(() -> submit(scheduler, "project:1", "a3", 60))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(MINUTES_AI_JOB_QUEUE_FULL.getMessage());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 버리지 않고 자리가 나면 다시 등록해 실행함")
+    void submitWithRetry_QueueFull_RetriesLater() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 1);
+        submit(scheduler, "user:1", "a1", 60);
+        submit(scheduler, "user:1", "a2", 60);
+        CompletableFuture<String> retried = scheduler.submitWithRetry("user:1", 1L, "VOICE", 60, () -> {
+            started.add("a3");
+            return CompletableFuture.completedFuture("결과");
+        });
+
+        // when
+        works.get("a1").complete("a1");
+        retries.poll().run();
+        works.get("a2").complete("a2");
+
+        // then
+        assertThat(started).containsExactly("a1", "a2", "a3");
+        assertThat(retried.join()).isEqualTo("결과");
+        assertThat(meterRegistry.get("ai.jobs.dropped").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기도록 대기열이 가득 차 있으면 대기열 초과로 끝나고 버린 작업으로 집계됨")
+    void submitWithRetry_RetriesExhausted_CountsDropped() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 1);
+        submit(scheduler, "user:1", "a1", 60);
+        submit(scheduler, "user:1", "a2", 60);
+        CompletableFuture<String> dropped = scheduler.submitWithRetry("user:1", 1L, "VOICE", 60,
+                () -> CompletableFuture.completedFuture("결과"));
+
+        // when
+        retries.poll().run();
+
+        // then
+        assertThat(retries).isEmpty();
+        assertThatThrownBy(dropped::join).hasCauseInstanceOf(BaseException.class);
+        assertThat(meterRegistry.get("ai.jobs.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("음성은 파일 크기, 사진은 페이지 수에 비례해 예상 처리 시간을 추정함")
+    void estimateExtractionSeconds() {
+        // given
+        AiJobScheduler scheduler = scheduler(1, 1, 100);
+
+        // when & then
+        assertThat(scheduler.estimateExtractionSeconds(MinutesType.VOICE, 10L * 1024 * 1024, 1)).isEqualTo(300.0);
+        assertThat(scheduler.estimateExtractionSeconds(MinutesType.VOICE, null, 1)).isEqualTo(300.0);
+        assertThat(scheduler.estimateExtractionSeconds(MinutesType.MULTI_PICTURE, null, 4)).isEqualTo(20.0);
+        assertThat(scheduler.estimateSummarySeconds(2000)).isEqualTo(6.0);
+    }
+}
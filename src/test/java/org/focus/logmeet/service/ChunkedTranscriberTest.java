@@ -0,0 +1,172 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedTranscriberTest {
+
+    private static final String FILE_PATH = "minutes_voice/long";
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    private ChunkedTranscriber transcriber(boolean enabled, int parallelism, int maxRetries) {
+        return new ChunkedTranscriber(flaskGateway, new ObjectMapper(), enabled, 1200, 600, 15, parallelism, maxRetries, 0);
+    }
+
+    private static String segment(String speaker, String text) {
+        return "{\"segments\": [{\"speaker\": \"" + speaker + "\", \"text\": \"" + text + "\"}]}";
+    }
+
+    @Test
+    @DisplayName("분할 모드가 꺼져 있으면 녹음 전체를 한 번에 변환함")
+    void transcribe_Disabled_UsesSingleRequest() {
+        // given
+        when(flaskGateway.processAudio(FILE_PATH)).thenReturn(CompletableFuture.completedFuture("{}"));
+
+        // when
+        String result = transcriber(false, 4, 2).transcribe(FILE_PATH).join();
+
+        // then
+        assertThat(result).isEqualTo("{}");
+        verify(flaskGateway, never()).probeAudioDuration(FILE_PATH);
+    }
+
+    @Test
+    @DisplayName("기준 길이 이하의 녹음은 분할하지 않음")
+    void transcribe_ShortRecording_UsesSingleRequest() {
+        // given
+        when(flaskGateway.probeAudioDuration(FILE_PATH)).thenReturn(CompletableFuture.completedFuture(900.0));
+        when(flaskGateway.processAudio(FILE_PATH)).thenReturn(CompletableFuture.completedFuture("{}"));
+
+        // when
+        String result = transcriber(true, 4, 2).transcribe(FILE_PATH).join();
+
+        // then
+        assertThat(result).isEqualTo("{}");
+        verify(flaskGateway, never()).processAudioChunk(eq(FILE_PATH), anyDouble(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("긴 녹음은 겹치는 구간으로 나눠 변환하고 순서대로 병합함")
+    void transcribe_LongRecording_MergesChunksInOrder() {
+        // given
+        when(flaskGateway.probeAudioDuration(FILE_PATH)).thenReturn(CompletableFuture.completedFuture(1500.0));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 0, 615))
+                .thenReturn(CompletableFuture.completedFuture(segment("SPEAKER_0", "첫 구간")));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 600, 1215))
+                .thenReturn(CompletableFuture.completedFuture(segment("SPEAKER_0", "두 번째 구간")));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 1200, 1500))
+                .thenReturn(CompletableFuture.completedFuture(segment("SPEAKER_0", "마지막 구간")));
+
+        // when
+        String result = transcriber(true, 4, 2).transcribe(FILE_PATH).join();
+
+        // then
+        assertThat(result).containsSubsequence("첫 구간", "두 번째 구간", "마지막 구간");
+    }
+
+    @Test
+    @DisplayName("동시에 진행되는 구간 요청 수가 parallelism을 넘지 않음")
+    void transcribe_BoundedParallelism() {
+        // given
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        when(flaskGateway.probeAudioDuration(FILE_PATH)).thenReturn(CompletableFuture.completedFuture(3000.0));
+        when(flaskGateway.processAudioChunk(eq(FILE_PATH), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        // when
+        CompletableFuture<String> result = transcriber(true, 2, 0).transcribe(FILE_PATH);
+
+        // then
+        assertThat(pending).hasSize(2);
+        pending.get(0).complete(segment("SPEAKER_0", "구간"));
+        assertThat(pending).hasSize(3);
+        for (int i = 1; i < 5; i++) {
+            pending.get(i).complete(segment("SPEAKER_0", "구간 " + i));
+        }
+        assertThat(pending).hasSize(5);
+        assertThat(result.join()).contains("구간 4");
+    }
+
+    @Test
+    @DisplayName("실패한 구간만 재시도함")
+    void transcribe_RetriesFailedChunk() {
+        // given
+        when(flaskGateway.probeAudioDuration(FILE_PATH)).thenReturn(CompletableFuture.completedFuture(1300.0));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 0, 615))
+                .thenReturn(CompletableFuture.completedFuture(segment("SPEAKER_0", "첫 구간")));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 600, 1215))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("timeout")))
+                .thenReturn(CompletableFuture.completedFuture(segment("SPEAKER_0", "두 번째 구간")));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 1200, 1300))
+                .thenReturn(CompletableFuture.completedFuture(segment("SPEAKER_0", "마지막 구간")));
+
+        // when
+        String result = transcriber(true, 4, 2).transcribe(FILE_PATH).join();
+
+        // then
+        assertThat(result).containsSubsequence("첫 구간", "두 번째 구간", "마지막 구간");
+        verify(flaskGateway, times(1)).processAudioChunk(FILE_PATH, 0, 615);
+        verify(flaskGateway, times(2)).processAudioChunk(FILE_PATH, 600, 1215);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 실패로 완료되고 진행 중인 다른 구간은 취소됨")
+    void transcribe_RetriesExhausted_CancelsOthers() {
+        // given
+        CompletableFuture<String> slowChunk = new CompletableFuture<>();
+        when(flaskGateway.probeAudioDuration(FILE_PATH)).thenReturn(CompletableFuture.completedFuture(1300.0));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 0, 615)).thenReturn(slowChunk);
+        when(flaskGateway.processAudioChunk(FILE_PATH, 600, 1215))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("timeout")));
+
+        // when
+        CompletableFuture<String> result = transcriber(true, 2, 0).transcribe(FILE_PATH);
+
+        // then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(slowChunk).isCancelled();
+        verify(flaskGateway, never()).processAudioChunk(FILE_PATH, 1200, 1300);
+    }
+
+    @Test
+    @DisplayName("결과를 취소하면 진행 중인 구간 요청이 모두 취소됨")
+    void transcribe_Cancel_CancelsInFlightChunks() {
+        // given
+        CompletableFuture<String> firstChunk = new CompletableFuture<>();
+        CompletableFuture<String> secondChunk = new CompletableFuture<>();
+        when(flaskGateway.probeAudioDuration(FILE_PATH)).thenReturn(CompletableFuture.completedFuture(1300.0));
+        when(flaskGateway.processAudioChunk(FILE_PATH, 0, 615)).thenReturn(firstChunk);
+        when(flaskGateway.processAudioChunk(FILE_PATH, 600, 1215)).thenReturn(secondChunk);
+
+        // when
+        transcriber(true, 2, 0).transcribe(FILE_PATH).cancel(true);
+
+        // then
+        assertThat(firstChunk).isCancelled();
+        assertThat(secondChunk).isCancelled();
+    }
+}
@@ -0,0 +1,99 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentDeduplicatorTest {
+
+    private static final String FILE_PATH = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_a.mp3";
+
+    @Mock
+    private MinutesRepository minutesRepository;
+    @Mock
+    private S3Service s3Service;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ContentDeduplicator contentDeduplicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        contentDeduplicator = new ContentDeduplicator(minutesRepository, s3Service, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("스토리지 객체의 ETag를 지문으로 사용함")
+    void fingerprint_UsesStorageETag() {
+        // given
+        when(s3Service.toObjectKey(FILE_PATH)).thenReturn("minutes_voice/uuid_a.mp3");
+        when(s3Service.getETag("minutes_voice/uuid_a.mp3")).thenReturn("\"D41D8CD98F00B204E9800998ECF8427E\"");
+
+        // when
+        String fingerprint = contentDeduplicator.fingerprint(FILE_PATH);
+
+        // then
+        assertThat(fingerprint).isEqualTo("etag:d41d8cd98f00b204e9800998ecf8427e");
+    }
+
+    @Test
+    @DisplayName("ETag 조회에 실패하면 지문 없이 진행함")
+    void fingerprint_ETagLookupFails_ReturnsNull() {
+        // given
+        when(s3Service.toObjectKey(FILE_PATH)).thenReturn("minutes_voice/uuid_a.mp3");
+        when(s3Service.getETag("minutes_voice/uuid_a.mp3")).thenThrow(new RuntimeException("storage down"));
+
+        // when & then
+        assertThat(contentDeduplicator.fingerprint(FILE_PATH)).isNull();
+    }
+
+    @Test
+    @DisplayName("재사용 성공과 실패를 카운터와 적중률 게이지로 기록함")
+    void findProcessedContent_RecordsHitRatio() {
+        // given
+        when(minutesRepository.findProcessedContentByHash(eq("etag:hit"), eq(MinutesType.VOICE), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of("{\"segments\": []}"));
+        when(minutesRepository.findProcessedContentByHash(eq("etag:miss"), eq(MinutesType.VOICE), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        Optional<String> hit = contentDeduplicator.findProcessedContent("etag:hit", MinutesType.VOICE, 1L);
+        Optional<String> miss = contentDeduplicator.findProcessedContent("etag:miss", MinutesType.VOICE, 1L);
+        Optional<String> noFingerprint = contentDeduplicator.findProcessedContent(null, MinutesType.VOICE, 1L);
+
+        // then
+        assertThat(hit).contains("{\"segments\": []}");
+        assertThat(miss).isEmpty();
+        assertThat(noFingerprint).isEmpty();
+        assertThat(meterRegistry.get("minutes.content.dedup").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("minutes.content.dedup").tag("result", "miss").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("minutes.content.dedup.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("업로더를 알 수 없으면 다른 사용자의 변환 결과를 찾지 않음")
+    void findProcessedContent_UnknownUser_SkipsLookup() {
+        // when
+        Optional<String> content = contentDeduplicator.findProcessedContent("etag:hit", MinutesType.VOICE, null);
+
+        // then
+        assertThat(content).isEmpty();
+        verifyNoInteractions(minutesRepository);
+    }
+}
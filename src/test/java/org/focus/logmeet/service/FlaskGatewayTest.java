@@ -0,0 +1,133 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.minutes.MinutesSummarizeResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_TEXT_SUMMARY_API_CALL_FAILED;
+
+class FlaskGatewayTest {
+
+    private HttpServer flaskServer;
+    private SimpleMeterRegistry meterRegistry;
+    private FlaskGateway flaskGateway;
+    private final AtomicReference<String> receivedBody = new AtomicReference<>();
+    private final CountDownLatch slowRequestReceived = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        flaskServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        flaskServer.setExecutor(Executors.newCachedThreadPool());
+        flaskServer.createContext("/process_audio", exchange -> {
+            receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, "{\"segments\": []}");
+        });
+        flaskServer.createContext("/process_image", exchange -> respond(exchange, 500, "error"));
+        flaskServer.createContext("/summarize_text", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            if (body.contains("slow")) {
+                slowRequestReceived.countDown();
+                try {
+                    releaseSlowRequest.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, 200, "{\"summarizedText\": \"요약\", \"schedules\": []}");
+        });
+        flaskServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        flaskGateway = new FlaskGateway(HttpClient.newHttpClient(), new ObjectMapper(), meterRegistry,
+                "http://127.0.0.1:" + flaskServer.getAddress().getPort(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowRequest.countDown();
+        flaskServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("음성 변환 요청 시 filePath를 JSON으로 전송하고 응답 본문을 반환함")
+    void processAudio_Success() {
+        // when
+        String result = flaskGateway.processAudio("minutes_voice/file").join();
+
+        // then
+        assertThat(result).isEqualTo("{\"segments\": []}");
+        assertThat(receivedBody.get()).isEqualTo("{\"filePath\":\"minutes_voice/file\"}");
+        assertThat(meterRegistry.get("http.client.requests")
+                .tag("uri", "/process_audio")
+                .tag("outcome", "SUCCESS")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Flask가 2xx 이외의 상태로 응답하면 API 호출 실패 예외로 완료됨")
+    void processImage_ServerError_CompletesExceptionally() {
+        // when & then
+        assertThatThrownBy(() -> flaskGateway.processImage("minutes_photo/file").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(MINUTES_TEXT_SUMMARY_API_CALL_FAILED.getMessage());
+    }
+
+    @Test
+    @DisplayName("요약 응답을 MinutesSummarizeResult로 변환함")
+    void summarize_Success() {
+        // when
+        MinutesSummarizeResult result = flaskGateway.summarize("회의 내용").join();
+
+        // then
+        assertThat(result.getSummarizedText()).isEqualTo("요약");
+        assertThat(result.getSchedules()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("응답 대기 중 취소하면 스레드를 기다리지 않고 즉시 취소 상태가 됨")
+    void summarize_Cancel() throws InterruptedException {
+        // given
+        CompletableFuture<MinutesSummarizeResult> future = flaskGateway.summarize("slow");
+        assertThat(slowRequestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        boolean cancelled = future.cancel(true);
+
+        // then
+        assertThat(cancelled).isTrue();
+        assertThat(future).isCancelled();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
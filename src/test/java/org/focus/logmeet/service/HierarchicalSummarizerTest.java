@@ -0,0 +1,94 @@
+package org.focus.logmeet.service;
+
+import org.focus.logmeet.controller.dto.minutes.MinutesSummarizeResult;
+import org.focus.logmeet.controller.dto.schedule.ScheduleDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HierarchicalSummarizerTest {
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    // 구간당 최대 10글자
+    private HierarchicalSummarizer summarizer() {
+        return new HierarchicalSummarizer(flaskGateway, 10, 1.0, 2, 3);
+    }
+
+    private static CompletableFuture<MinutesSummarizeResult> summary(String text, ScheduleDto... schedules) {
+        return CompletableFuture.completedFuture(new MinutesSummarizeResult(text, List.of(schedules)));
+    }
+
+    @Test
+    @DisplayName("한도 이하의 본문은 한 번에 요약함")
+    void summarize_ShortText_SingleCall() {
+        // given
+        when(flaskGateway.summarize("짧은 회의")).thenReturn(summary("요약"));
+
+        // when
+        MinutesSummarizeResult result = summarizer().summarize("짧은 회의").join();
+
+        // then
+        assertThat(result.getSummarizedText()).isEqualTo("요약");
+        verify(flaskGateway, times(1)).summarize(anyString());
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 본문은 구간별로 요약한 뒤 구간 요약을 다시 요약하고 일정은 중복 제거함")
+    void summarize_LongText_MapReduce() {
+        // given
+        ScheduleDto release = new ScheduleDto("2024-10-01T10:00", "배포 회의");
+        ScheduleDto releaseDuplicate = new ScheduleDto("2024-10-01T10:00:00", " 배포  회의 ");
+        ScheduleDto qa = new ScheduleDto("2024-10-02T14:00", "QA");
+
+        when(flaskGateway.summarize("aaaa\nbbbb")).thenReturn(summary("S1", release));
+        when(flaskGateway.summarize("cccc")).thenReturn(summary("S2", releaseDuplicate, qa));
+        when(flaskGateway.summarize("S1\nS2")).thenReturn(summary("최종 요약", qa));
+
+        // when
+        MinutesSummarizeResult result = summarizer().summarize("aaaa\nbbbb\ncccc").join();
+
+        // then
+        assertThat(result.getSummarizedText()).isEqualTo("최종 요약");
+        assertThat(result.getSchedules()).containsExactly(release, qa);
+    }
+
+    @Test
+    @DisplayName("구간은 한도를 넘지 않으며 한도보다 긴 줄은 잘라서 나눔")
+    void split_RespectsLimit() {
+        // when
+        List<String> sections = summarizer().split("0123456789abcde\nxy\nz");
+
+        // then
+        assertThat(sections).containsExactly("0123456789", "abcde\nxy\nz");
+        assertThat(sections).allSatisfy(section -> assertThat(section.length()).isLessThanOrEqualTo(10));
+    }
+
+    @Test
+    @DisplayName("구간 요약이 실패하면 남은 구간을 요청하지 않고 실패로 완료됨")
+    void summarize_SectionFailure_CompletesExceptionally() {
+        // given
+        when(flaskGateway.summarize("aaaa\nbbbb")).thenReturn(CompletableFuture.failedFuture(new IOException("timeout")));
+
+        // when & then
+        assertThatThrownBy(() -> summarizer().summarize("aaaa\nbbbb\ncccc").join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+        verify(flaskGateway, never()).summarize("cccc");
+        verify(flaskGateway, never()).summarize("S1\nS2");
+    }
+}
@@ -0,0 +1,150 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.exception.BaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.IDEMPOTENCY_KEY_REUSED;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_TEXT_SUMMARY_API_CALL_FAILED;
+
+class IdempotencyServiceTest {
+
+    private IdempotencyService idempotencyService;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(new SimpleMeterRegistry(), 100, 60, 5);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키로 온 비동기 요청은 다시 실행하지 않고 첫 요청의 결과를 받음")
+    void executeAsync_ConcurrentDuplicate_SharesResult() {
+        // given
+        CompletableFuture<String> work = new CompletableFuture<>();
+        CompletableFuture<String> first = idempotencyService.executeAsync("key", "minutes.summarize", 1L, () -> {
+            calls.incrementAndGet();
+            return work;
+        });
+
+        // when
+        CompletableFuture<String> second = idempotencyService.executeAsync("key", "minutes.summarize", 1L, () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("다른 결과");
+        });
+        work.complete("요약");
+
+        // then
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo("요약");
+        assertThat(second.join()).isEqualTo("요약");
+    }
+
+    @Test
+    @DisplayName("한 요청이 취소되어도 같은 키로 진행 중인 작업은 취소되지 않음")
+    void executeAsync_CallerCancelled_WorkContinues() {
+        // given
+        CompletableFuture<String> work = new CompletableFuture<>();
+        CompletableFuture<String> first = idempotencyService.executeAsync("key", "minutes.summarize", 1L, () -> work);
+
+        // when
+        first.cancel(true);
+        CompletableFuture<String> retry = idempotencyService.executeAsync("key", "minutes.summarize", 1L, () -> work);
+        work.complete("요약");
+
+        // then
+        assertThat(work).isNotCancelled();
+        assertThat(retry.join()).isEqualTo("요약");
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 재시도하면 다시 실행함")
+    void executeAsync_Failure_RetryExecutesAgain() {
+        // given
+        CompletableFuture<String> failed = idempotencyService.executeAsync("key", "minutes.create", "path", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(new BaseException(MINUTES_TEXT_SUMMARY_API_CALL_FAILED));
+        });
+
+        // when
+        CompletableFuture<String> retry = idempotencyService.executeAsync("key", "minutes.create", "path", () -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("생성");
+        });
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retry.join()).isEqualTo("생성");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("처리 중인 동기 요청과 같은 키로 온 요청은 첫 요청이 끝날 때까지 기다린 뒤 같은 응답을 받음")
+    void execute_ConcurrentDuplicate_WaitsForFirst() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> idempotencyService.execute("key", "schedule.create", "request", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "생성";
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            Future<String> second = executor.submit(() -> idempotencyService.execute("key", "schedule.create", "request", () -> {
+                calls.incrementAndGet();
+                return "다른 결과";
+            }));
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("생성");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("생성");
+            assertThat(calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 본문에 재사용하면 예외 발생")
+    void execute_KeyReusedWithDifferentRequest_ThrowsException() {
+        // given
+        idempotencyService.execute("key", "schedule.create", "request", () -> "생성");
+
+        // when & then
+        assertThatThrownBy(() -> idempotencyService.execute("key", "schedule.create", "other", () -> "생성"))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    @DisplayName("키가 없으면 매번 실행함")
+    void execute_NoKey_ExecutesEveryTime() {
+        // when
+        idempotencyService.execute(null, "schedule.create", "request", calls::incrementAndGet);
+        idempotencyService.execute(" ", "schedule.create", "request", calls::incrementAndGet);
+
+        // then
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.repository.InviteCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InviteCodeCleanupServiceTest {
+
+    @Mock
+    private InviteCodeRepository inviteCodeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InviteCodeCleanupService inviteCodeCleanupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inviteCodeCleanupService = new InviteCodeCleanupService(inviteCodeRepository, meterRegistry, 100, 3);
+    }
+
+    @Test
+    @DisplayName("청크가 가득 찬 동안 반복 삭제하고 마지막 청크에서 종료")
+    void purgeExpiredBefore_DeletesInChunks() {
+        //given
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(inviteCodeRepository.deleteExpiredBefore(cutoff, 100)).thenReturn(100, 40);
+
+        //when
+        long deleted = inviteCodeCleanupService.purgeExpiredBefore(cutoff);
+
+        //then
+        assertEquals(140, deleted);
+        verify(inviteCodeRepository, times(2)).deleteExpiredBefore(cutoff, 100);
+        assertEquals(140.0, meterRegistry.get("invite-code.cleanup.deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("한 번의 실행은 최대 청크 수까지만 삭제")
+    void purgeExpiredBefore_StopsAtMaxChunks() {
+        //given
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(inviteCodeRepository.deleteExpiredBefore(cutoff, 100)).thenReturn(100);
+
+        //when
+        long deleted = inviteCodeCleanupService.purgeExpiredBefore(cutoff);
+
+        //then
+        assertEquals(300, deleted);
+        verify(inviteCodeRepository, times(3)).deleteExpiredBefore(cutoff, 100);
+    }
+
+    @Test
+    @DisplayName("만료된 초대 코드가 없으면 한 번만 조회하고 종료")
+    void cleanUpExpiredInviteCodes_NothingToDelete() {
+        //given
+        when(inviteCodeRepository.deleteExpiredBefore(any(LocalDateTime.class), eq(100))).thenReturn(0);
+
+        //when
+        inviteCodeCleanupService.cleanUpExpiredInviteCodes();
+
+        //then
+        verify(inviteCodeRepository, times(1)).deleteExpiredBefore(any(LocalDateTime.class), eq(100));
+        assertEquals(1, meterRegistry.get("invite-code.cleanup").timer().count());
+    }
+}
@@ -0,0 +1,103 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.cache.MembershipCache;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.config.PrimaryReader;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
+import org.focus.logmeet.repository.ProjectRepository;
+import org.focus.logmeet.repository.UserProjectRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
+import static org.focus.logmeet.domain.enums.ProjectColor.PROJECT_1;
+import static org.focus.logmeet.domain.enums.Role.LEADER;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MembershipServiceTest {
+
+    @Mock
+    private UserProjectRepository userProjectRepository;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Spy
+    private MembershipCache membershipCache = new MembershipCache(new SimpleMeterRegistry(), 100, 60);
+    @Spy
+    private PrimaryReader primaryReader = new PrimaryReader(null, "");
+    @InjectMocks
+    private MembershipService membershipService;
+
+    @Test
+    @DisplayName("멤버십 재조회 시 캐시를 사용하고 무효화 후에는 다시 조회함")
+    void getMembership_CachedUntilEvicted() {
+        // given
+        ProjectMembership membership = new ProjectMembership(10L, 1L, 2L, LEADER, PROJECT_1);
+        when(userProjectRepository.findMembership(1L, 2L)).thenReturn(Optional.of(membership));
+
+        // when
+        ProjectMembership first = membershipService.getMembership(1L, 2L);
+        ProjectMembership cached = membershipService.getMembership(1L, 2L);
+        membershipService.evict(1L, 2L);
+        membershipService.getMembership(1L, 2L);
+
+        // then
+        assertSame(first, cached);
+        assertEquals(LEADER, cached.getRole());
+        verify(userProjectRepository, times(2)).findMembership(1L, 2L);
+        assertTrue(membershipCache.hitRate() > 0);
+    }
+
+    @Test
+    @DisplayName("프로젝트 삭제 시 해당 프로젝트의 멤버십이 모두 무효화됨")
+    void evictProject_RemovesAllMembers() {
+        // given
+        when(userProjectRepository.findMembership(anyLong(), eq(2L)))
+                .thenAnswer(invocation -> Optional.of(new ProjectMembership(10L, invocation.getArgument(0), 2L, LEADER, PROJECT_1)));
+        membershipService.getMembership(1L, 2L);
+        membershipService.getMembership(3L, 2L);
+
+        // when
+        membershipService.evictProject(2L);
+        membershipService.getMembership(1L, 2L);
+        membershipService.getMembership(3L, 2L);
+
+        // then
+        verify(userProjectRepository, times(4)).findMembership(anyLong(), eq(2L));
+    }
+
+    @Test
+    @DisplayName("멤버가 아닌 경우 결과를 캐시하지 않고 예외 발생")
+    void getMembership_NotMember_ThrowsException() {
+        // given
+        when(userProjectRepository.findMembership(1L, 2L)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(2L)).thenReturn(true);
+
+        // when & then
+        BaseException first = assertThrows(BaseException.class, () -> membershipService.getMembership(1L, 2L));
+        assertThrows(BaseException.class, () -> membershipService.getMembership(1L, 2L));
+        assertEquals(USER_NOT_IN_PROJECT, first.getStatus());
+        verify(userProjectRepository, times(2)).findMembership(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 프로젝트는 PROJECT_NOT_FOUND 예외 발생")
+    void getMembership_ProjectNotFound_ThrowsException() {
+        // given
+        when(userProjectRepository.findMembership(1L, 2L)).thenReturn(Optional.empty());
+        when(projectRepository.existsById(2L)).thenReturn(false);
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class, () -> membershipService.getMembership(1L, 2L));
+        assertEquals(PROJECT_NOT_FOUND, exception.getStatus());
+    }
+}
@@ -0,0 +1,298 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.cache.SearchHistoryCache;
+import org.focus.logmeet.common.cache.SearchResultCache;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.config.PrimaryReader;
+import org.focus.logmeet.controller.dto.search.MinutesSearchHistoryResult;
+import org.focus.logmeet.controller.dto.search.MinutesSearchPageResult;
+import org.focus.logmeet.controller.dto.search.MinutesSearchRequest;
+import org.focus.logmeet.controller.dto.search.MinutesSuggestResult;
+import org.focus.logmeet.domain.Minutes;
+import org.focus.logmeet.domain.Project;
+import org.focus.logmeet.domain.User;
+import org.focus.logmeet.domain.elasticsearch.MinutesDocument;
+import org.focus.logmeet.domain.enums.SearchSortType;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.focus.logmeet.repository.MinutesSearchHistoryRepository;
+import org.focus.logmeet.repository.UserProjectRepository;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.focus.logmeet.repository.search.MinutesSearchHit;
+import org.focus.logmeet.repository.search.MinutesSearchHits;
+import org.focus.logmeet.security.aspect.CurrentUserHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MinutesSearchServiceTest {
+
+    @Mock
+    private MinutesSearchEngine minutesSearchEngine;
+    @Mock
+    private MinutesSearchHistoryRepository minutesSearchHistoryRepository;
+    @Mock
+    private MinutesRepository minutesRepository;
+    @Mock
+    private UserProjectRepository userProjectRepository;
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(new SimpleMeterRegistry(), 100, 60);
+    @Spy
+    private SearchHistoryCache searchHistoryCache = new SearchHistoryCache(new SimpleMeterRegistry(), true, 100, 60);
+    @Spy
+    private PrimaryReader primaryReader = new PrimaryReader(null, "");
+    @InjectMocks
+    private MinutesSearchService minutesSearchService;
+
+    private User mockUser;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        mockUser = mock(User.class);
+        project = Project.builder().id(1L).name("테스트 프로젝트").build();
+        CurrentUserHolder.set(mockUser);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CurrentUserHolder.clear();
+    }
+
+    @Test
+    @DisplayName("검색 결과가 검색 엔진 정렬 순서와 점수를 유지하고 다음 페이지 커서를 반환함")
+    void search_ReturnsScoredPageWithCursor() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        Minutes first = createMinutes(10L, "주간 회의");
+        Minutes second = createMinutes(20L, "주간 회고");
+        when(userProjectRepository.findProjectIdsByUserId(1L)).thenReturn(List.of(1L));
+
+        MinutesSearchHit hit1 = hit(20L, 2.5f, List.of(2.5f, 20L));
+        MinutesSearchHit hit2 = hit(10L, 1.5f, List.of(1.5f, 10L));
+        MinutesSearchHits searchHits = new MinutesSearchHits(List.of(hit1, hit2), 5L);
+        when(minutesSearchEngine.searchPage(eq("주간"), anyList(), eq(2), isNull(), isNull(), eq(SearchSortType.RELEVANCE)))
+                .thenReturn(searchHits);
+        when(minutesRepository.findAllById(List.of(20L, 10L))).thenReturn(List.of(first, second));
+
+        MinutesSearchRequest request = new MinutesSearchRequest("주간");
+        request.setSize(2);
+
+        // when
+        MinutesSearchPageResult result = minutesSearchService.search(request);
+
+        // then
+        assertEquals(2, result.getResults().size());
+        assertEquals(20L, result.getResults().get(0).getId());
+        assertEquals(2.5f, result.getResults().get(0).getScore());
+        assertEquals(10L, result.getResults().get(1).getId());
+        assertEquals(5L, result.getTotalHits());
+        assertTrue(result.isHasNext());
+        assertEquals(List.of(1.5f, 10L), result.getNextSearchAfter());
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 최대값을 넘으면 최대값으로 제한됨")
+    void search_ClampsPageSize() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(userProjectRepository.findProjectIdsByUserId(1L)).thenReturn(List.of(1L));
+        MinutesSearchHits searchHits = new MinutesSearchHits(List.of(), 0L);
+        when(minutesSearchEngine.searchPage(anyString(), anyList(), anyInt(), any(), any(), any())).thenReturn(searchHits);
+        when(minutesRepository.findAllById(List.of())).thenReturn(List.of());
+
+        MinutesSearchRequest request = new MinutesSearchRequest("회의");
+        request.setSize(1000);
+
+        // when
+        MinutesSearchPageResult result = minutesSearchService.search(request);
+
+        // then
+        verify(minutesSearchEngine).searchPage(eq("회의"), eq(List.of(1L)), eq(100), isNull(), isNull(), eq(SearchSortType.RELEVANCE));
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextSearchAfter());
+    }
+
+    @Test
+    @DisplayName("접근 가능한 프로젝트가 없으면 검색 엔진을 호출하지 않고 빈 페이지 반환")
+    void search_NoAccessibleProjects_ReturnsEmptyPage() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(userProjectRepository.findProjectIdsByUserId(1L)).thenReturn(List.of());
+
+        // when
+        MinutesSearchPageResult result = minutesSearchService.search(new MinutesSearchRequest("회의"));
+
+        // then
+        assertTrue(result.getResults().isEmpty());
+        verifyNoInteractions(minutesSearchEngine);
+    }
+
+    @Test
+    @DisplayName("같은 검색어와 프로젝트 집합으로 다시 검색하면 캐시된 결과를 반환함")
+    void search_RepeatedQuery_ServedFromCache() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(userProjectRepository.findProjectIdsByUserId(1L)).thenReturn(List.of(1L));
+        MinutesSearchHits searchHits = new MinutesSearchHits(List.of(), 0L);
+        when(minutesSearchEngine.searchPage(anyString(), anyList(), anyInt(), any(), any(), any())).thenReturn(searchHits);
+        when(minutesRepository.findAllById(List.of())).thenReturn(List.of());
+
+        // when
+        MinutesSearchPageResult first = minutesSearchService.search(new MinutesSearchRequest("회의"));
+        MinutesSearchPageResult second = minutesSearchService.search(new MinutesSearchRequest("  회의\n"));
+
+        // then
+        assertSame(first, second);
+        verify(minutesSearchEngine, times(1)).searchPage(anyString(), anyList(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("자동완성은 접근 가능한 프로젝트의 제목을 요청 개수만큼 반환함")
+    void suggest_ReturnsTitles() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(userProjectRepository.findProjectIdsByUserId(1L)).thenReturn(List.of(1L, 2L));
+        when(minutesSearchEngine.suggestTitles("주간", List.of(1L, 2L), 3))
+                .thenReturn(List.of(
+                        MinutesDocument.builder().id(10L).title("주간 회의").build(),
+                        MinutesDocument.builder().id(11L).title("주간 회고").build()));
+
+        // when
+        List<MinutesSuggestResult> results = minutesSearchService.suggest(" 주간", 3);
+
+        // then
+        assertEquals(2, results.size());
+        assertEquals("주간 회의", results.get(0).getTitle());
+        assertEquals(11L, results.get(1).getMinutesId());
+    }
+
+    @Test
+    @DisplayName("자동완성 검색어가 비어 있으면 조회하지 않음")
+    void suggest_BlankPrefix_ReturnsEmpty() {
+        // when
+        List<MinutesSuggestResult> results = minutesSearchService.suggest("  ", null);
+
+        // then
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(userProjectRepository, minutesSearchEngine);
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 사용자가 검색 시 예외 발생")
+    void search_UserNotAuthenticated_ThrowsException() {
+        // given
+        CurrentUserHolder.clear();
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class,
+                () -> minutesSearchService.search(new MinutesSearchRequest("회의")));
+        assertEquals(USER_NOT_AUTHENTICATED, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("새 검색 기록 저장 시 upsert 후 오래된 기록을 정리함")
+    void saveSearchHistory_NewEntry_UpsertsAndTrims() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(minutesSearchHistoryRepository.upsert(eq(1L), eq(10L), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        minutesSearchService.saveSearchHistory(10L);
+
+        // then
+        verify(minutesSearchHistoryRepository).trimToRecent(1L, 10);
+        verifyNoInteractions(minutesRepository);
+    }
+
+    @Test
+    @DisplayName("이미 있는 검색 기록은 시간만 갱신하고 정리 쿼리를 실행하지 않음")
+    void saveSearchHistory_ExistingEntry_OnlyTouches() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(minutesSearchHistoryRepository.upsert(eq(1L), eq(10L), any(LocalDateTime.class))).thenReturn(2);
+
+        // when
+        minutesSearchService.saveSearchHistory(10L);
+
+        // then
+        verify(minutesSearchHistoryRepository, never()).trimToRecent(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회의록의 검색 기록 저장 시 예외 발생")
+    void saveSearchHistory_MinutesNotFound_ThrowsException() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(minutesSearchHistoryRepository.upsert(eq(1L), eq(99L), any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_minutes"));
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class, () -> minutesSearchService.saveSearchHistory(99L));
+        assertEquals(MINUTES_NOT_FOUND, exception.getStatus());
+    }
+
+    @Test
+    @DisplayName("검색 기록 조회는 캐시된 목록을 재사용하고 저장 시 무효화됨")
+    void getUserSearchHistory_CachedUntilSaved() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        List<MinutesSearchHistoryResult> histories = List.of(
+                new MinutesSearchHistoryResult(5L, LocalDateTime.now(), 10L, "주간 회의", "테스트 프로젝트"));
+        when(minutesSearchHistoryRepository.findRecentByUserId(eq(1L), any(Pageable.class))).thenReturn(histories);
+        when(minutesSearchHistoryRepository.upsert(eq(1L), eq(10L), any(LocalDateTime.class))).thenReturn(2);
+
+        // when
+        minutesSearchService.getUserSearchHistory();
+        List<MinutesSearchHistoryResult> cached = minutesSearchService.getUserSearchHistory();
+        minutesSearchService.saveSearchHistory(10L);
+        minutesSearchService.getUserSearchHistory();
+
+        // then
+        assertEquals(5L, cached.get(0).getHistoryId());
+        verify(minutesSearchHistoryRepository, times(2)).findRecentByUserId(eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("다른 유저의 검색 기록 삭제 시 예외 발생")
+    void deleteSearchHistory_NotOwner_ThrowsException() {
+        // given
+        when(mockUser.getId()).thenReturn(1L);
+        when(minutesSearchHistoryRepository.deleteByIdAndUserId(5L, 1L)).thenReturn(0);
+        when(minutesSearchHistoryRepository.existsById(5L)).thenReturn(true);
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class, () -> minutesSearchService.deleteSearchHistory(5L));
+        assertEquals(NOT_USER_HISTORY, exception.getStatus());
+    }
+
+    private Minutes createMinutes(Long id, String name) {
+        return Minutes.builder()
+                .id(id)
+                .name(name)
+                .clearContent(name + " 내용입니다.")
+                .project(project)
+                .build();
+    }
+
+    private MinutesSearchHit hit(Long id, float score, List<Object> sortValues) {
+        return new MinutesSearchHit(MinutesDocument.builder().id(id).build(), score, sortValues);
+    }
+}
@@ -1,8 +1,10 @@
 package org.focus.logmeet.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.focus.logmeet.common.exception.BaseException;
 import org.focus.logmeet.common.response.BaseExceptionResponseStatus;
 import org.focus.logmeet.controller.dto.minutes.*;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
 import org.focus.logmeet.controller.dto.schedule.ScheduleDto;
 import org.focus.logmeet.domain.*;
 import org.focus.logmeet.domain.enums.MinutesType;
@@ -20,18 +22,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.net.URI;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.*;
 import static org.focus.logmeet.domain.enums.Role.LEADER;
@@ -54,10 +56,26 @@ class MinutesServiceTest {
     @Mock
     private ScheduleRepository scheduleRepository;
     @Mock
-    private RestTemplate restTemplate;
+    private FlaskGateway flaskGateway;
+    @Mock
+    private ChunkedTranscriber chunkedTranscriber;
+    @Mock
+    private HierarchicalSummarizer hierarchicalSummarizer;
+    @Mock
+    private MultiPageRecognizer multiPageRecognizer;
+    @Mock
+    private ContentDeduplicator contentDeduplicator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private MembershipService membershipService;
+    @Spy
+    private AiJobScheduler aiJobScheduler = new AiJobScheduler(new SimpleMeterRegistry(), 8, 2, 200, 1.0, 30, 300, 5, 3, 30, 20);
     @InjectMocks
     private MinutesService minutesService;
 
+    private static final ProjectMembership MEMBERSHIP = new ProjectMembership(1L, 1L, 1L, Role.MEMBER, ProjectColor.PROJECT_1);
+
     private User mockUser;
     private Project mockProject;
     private Minutes mockMinutes;
@@ -154,22 +172,6 @@ class MinutesServiceTest {
         assertEquals(Status.ACTIVE, status);
     }
 
-    @Test
-    @DisplayName("한 시간 넘게 TEMP 상태인 회의록 삭제 테스트")
-    void deleteOldTemporaryMinutes_Success() {
-        // given
-        Minutes temporaryMinutes = mock(Minutes.class);
-        when(temporaryMinutes.getId()).thenReturn(1L);
-        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), any(LocalDateTime.class)))
-                .thenReturn(List.of(temporaryMinutes));
-
-        // when
-        minutesService.deleteOldTemporaryMinutes();
-
-        // then
-        verify(minutesRepository).delete(temporaryMinutes);
-    }
-
     @Test
     @DisplayName("파일 업로드를 위한 Pre-signed URL 생성 성공 - VOICE 파일 타입")
     void generatePreSignedUrl_Success_VoiceType() {
@@ -178,6 +180,7 @@ class MinutesServiceTest {
         MinutesType fileType = MinutesType.VOICE;
         String expectedUrlPart = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/";
         when(s3Service.generatePreSignedUrl(anyString(), anyString(), anyString())).thenReturn(expectedUrlPart + "uuid_sample.mp3");
+        when(s3Service.toFilePath(anyString())).thenAnswer(invocation -> "https://kr.object.ncloudstorage.com/logmeet/" + invocation.getArgument(0));
 
         // when
         PreSignedUrlResponse response = minutesService.generatePreSignedUrl(fileName, fileType);
@@ -196,6 +199,7 @@ class MinutesServiceTest {
         MinutesType fileType = MinutesType.PICTURE;
         String expectedUrlPart = "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/";
         when(s3Service.generatePreSignedUrl(anyString(), anyString(), anyString())).thenReturn(expectedUrlPart + "uuid_image.jpg");
+        when(s3Service.toFilePath(anyString())).thenAnswer(invocation -> "https://kr.object.ncloudstorage.com/logmeet/" + invocation.getArgument(0));
 
         // when
         PreSignedUrlResponse response = minutesService.generatePreSignedUrl(fileName, fileType);
@@ -225,12 +229,10 @@ class MinutesServiceTest {
     void uploadFile_Voice_Success() {
         // given
         String filePath = "minutes_voice/file";
+        String flaskResponse = "{\"segments\": [{\"speaker\": \"SPEAKER_1\", \"text\": \"테스트를 위한 회의 내용입니다.\"}]}";
+        when(s3Service.toObjectKey(filePath)).thenReturn(filePath);
 
-        MinutesService spyMinutesService = spy(minutesService);
-
-        doReturn("{\"content\": \"테스트를 위한 회의 내용입니다.\"}")
-                .when(spyMinutesService).processFileToText(anyString(), anyString());
-
+        when(chunkedTranscriber.transcribe(filePath)).thenReturn(CompletableFuture.completedFuture(flaskResponse));
         when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> {
             Minutes testMinutes = invocation.getArgument(0);
             testMinutes.setId(1L);
@@ -238,12 +240,14 @@ class MinutesServiceTest {
         });
 
         // when
-        MinutesFileUploadResponse response = spyMinutesService.createMinutes(filePath);
+        MinutesFileUploadResponse response = minutesService.createMinutes(filePath).join();
 
         // then
         assertNotNull(response);
         assertEquals(MinutesType.VOICE, response.getFileType());
-        verify(minutesRepository).save(any(Minutes.class));
+        verify(minutesRepository).save(argThat((Minutes saved) -> flaskResponse.equals(saved.getContent())
+                && "SPEAKER_1: 테스트를 위한 회의 내용입니다.".equals(saved.getClearContent())
+                && saved.getStatus() == TEMP));
     }
 
     @Test
@@ -251,12 +255,10 @@ class MinutesServiceTest {
     void uploadFile_Picture_Success() {
         // given
         String filePath = "minutes_photo/file";
+        when(s3Service.toObjectKey(filePath)).thenReturn(filePath);
 
-        MinutesService spyMinutesService = spy(minutesService);
-
-        doReturn("{\"content\": \"테스트를 위한 회의 내용입니다.\"}")
-                .when(spyMinutesService).processFileToText(anyString(), anyString());
-
+        when(flaskGateway.processImage(filePath))
+                .thenReturn(CompletableFuture.completedFuture("{\"text\": \"테스트를 위한 회의 내용입니다.\"}"));
         when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> {
             Minutes testMinutes = invocation.getArgument(0);
             testMinutes.setId(2L);
@@ -264,73 +266,415 @@ class MinutesServiceTest {
         });
 
         // when
-        MinutesFileUploadResponse response = spyMinutesService.createMinutes(filePath);
+        MinutesFileUploadResponse response = minutesService.createMinutes(filePath).join();
 
         // then
         assertNotNull(response);
         assertEquals(MinutesType.PICTURE, response.getFileType());
-        verify(minutesRepository).save(any(Minutes.class));
+        verify(minutesRepository).save(argThat((Minutes saved) -> "테스트를 위한 회의 내용입니다.".equals(saved.getClearContent())));
     }
 
+    @Test
+    @DisplayName("여러 장 사진 업로드 후 페이지 순서대로 합쳐진 임시 회의록 생성 성공")
+    void createMultiPictureMinutes_Success() {
+        // given
+        List<String> filePaths = List.of("minutes_photo/page1", "minutes_photo/page2");
+        String combined = "{\"text\": \"첫 페이지\\n\\n둘째 페이지\", \"pages\": []}";
+
+        when(multiPageRecognizer.recognize(filePaths)).thenReturn(CompletableFuture.completedFuture(combined));
+        when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> {
+            Minutes testMinutes = invocation.getArgument(0);
+            testMinutes.setId(3L);
+            return testMinutes;
+        });
+
+        // when
+        MinutesFileUploadResponse response = minutesService.createMultiPictureMinutes(filePaths).join();
+
+        // then
+        assertEquals(MinutesType.MULTI_PICTURE, response.getFileType());
+        assertEquals("minutes_photo/page1", response.getFilePath());
+        verify(multiPageRecognizer).checkPageCount(2);
+        verify(minutesRepository).save(argThat((Minutes saved) -> "첫 페이지\n\n둘째 페이지".equals(saved.getClearContent())
+                && filePaths.equals(saved.getPageFilePaths())
+                && saved.getStatus() == TEMP));
+    }
 
     @Test
-    @DisplayName("파일 텍스트 변환 성공")
-    void processFileToText_Success() {
+    @DisplayName("사진이 아닌 path가 섞여 있으면 변환 요청 없이 예외 발생")
+    void createMultiPictureMinutes_NonPicturePath_ThrowsException() {
         // given
-        String filePath = "file/path";
-        String flaskUrl = "http://localhost:5000/process_audio";
-        String expectedResponse = "테스트를 위한 회의 내용입니다.";
+        List<String> filePaths = List.of("minutes_photo/page1", "minutes_voice/file");
 
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(String.class)))
-                .thenReturn(new ResponseEntity<>(expectedResponse, HttpStatus.OK));
+        // when
+        BaseException exception = assertThrows(BaseException.class,
+                () -> minutesService.createMultiPictureMinutes(filePaths));
+
+        // then
+        assertEquals(MINUTES_UNSUPPORTED_TYPE, exception.getStatus());
+        verify(multiPageRecognizer, never()).recognize(anyList());
+    }
 
-        // flask url 설정을 해줘야함
-        ReflectionTestUtils.setField(minutesService, "flaskServerUrl", flaskUrl);
+    @Test
+    @DisplayName("여러 장 사진용 Pre-signed URL을 요청 순서대로 발급함")
+    void generatePreSignedUrls_Success() {
+        // given
+        when(s3Service.generatePreSignedUrl(eq("minutes_multi_photo"), anyString(), eq("image/jpeg")))
+                .thenReturn("https://presigned/1", "https://presigned/2");
+        when(s3Service.toFilePath(anyString())).thenAnswer(invocation -> "https://kr.object.ncloudstorage.com/logmeet/" + invocation.getArgument(0));
 
         // when
-        String result = minutesService.processFileToText(filePath ,flaskUrl);
+        List<PreSignedUrlResponse> responses = minutesService.generatePreSignedUrls(List.of("a.jpg", "b.jpg"));
 
         // then
-        assertNotNull(result);
-        assertEquals(expectedResponse, result);
-        verify(restTemplate).postForEntity(any(URI.class), any(HttpEntity.class), eq(String.class));
+        assertEquals(2, responses.size());
+        assertEquals("https://presigned/1", responses.get(0).getUrl());
+        assertTrue(responses.get(0).getFilePath().endsWith("_a.jpg"));
+        assertTrue(responses.get(1).getFilePath().endsWith("_b.jpg"));
+        verify(multiPageRecognizer).checkPageCount(2);
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 시작 시 회의록 업로드 경로와 uploadId 반환")
+    void initiateMultipartUpload_Success() {
+        // given
+        when(s3Service.initiateMultipartUpload(startsWith("minutes_voice/"), eq("audio/mpeg"))).thenReturn("upload-1");
+        when(s3Service.toFilePath(anyString())).thenAnswer(invocation -> "https://kr.object.ncloudstorage.com/logmeet/" + invocation.getArgument(0));
+
+        // when
+        MultipartUploadInitiateResponse response = minutesService.initiateMultipartUpload("meeting.mp3", MinutesType.VOICE);
+
+        // then
+        assertEquals("upload-1", response.getUploadId());
+        assertTrue(response.getFilePath().startsWith("https://kr.object.ncloudstorage.com/logmeet/minutes_voice/"));
+        assertTrue(response.getFilePath().endsWith("_meeting.mp3"));
     }
 
     @Test
-    @DisplayName("파일 텍스트 변환 시 예외 발생")
-    void processFileToText_Exception() {
+    @DisplayName("파트 목록 없이 완료하면 업로드된 파트를 번호 순으로 정렬해 완료")
+    void completeMultipartUpload_WithoutParts_UsesUploadedParts() {
         // given
-        String filePath = "file/path";
-        String flaskUrl = "http://localhost:5000/process_audio";
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_meeting.mp3";
+        String objectKey = "minutes_voice/uuid_meeting.mp3";
+        when(s3Service.toObjectKey(filePath)).thenReturn(objectKey);
+        when(s3Service.listUploadedParts(objectKey, "upload-1")).thenReturn(List.of(
+                new MultipartUploadPart(2, "etag-2", 10L),
+                new MultipartUploadPart(1, "etag-1", 10L)));
+
+        // when
+        String completed = minutesService.completeMultipartUpload(filePath, "upload-1", null);
 
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(String.class)))
-                .thenThrow(new RuntimeException());
+        // then
+        assertEquals(filePath, completed);
+        verify(s3Service).completeMultipartUpload(eq(objectKey), eq("upload-1"),
+                argThat((List<MultipartUploadPart> parts) -> parts.get(0).getPartNumber() == 1 && parts.get(1).getPartNumber() == 2));
+    }
+
+    @Test
+    @DisplayName("중복된 파트 번호로 완료하면 예외 발생")
+    void completeMultipartUpload_DuplicatePart_ThrowsException() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_meeting.mp3";
+        when(s3Service.toObjectKey(filePath)).thenReturn("minutes_voice/uuid_meeting.mp3");
+        List<MultipartUploadPart> parts = List.of(new MultipartUploadPart(1, "etag-1", null), new MultipartUploadPart(1, "etag-1b", null));
 
         // when & then
-        BaseException exception = assertThrows(BaseException.class, () -> minutesService.processFileToText(filePath, flaskUrl));
-        assertEquals(MINUTES_TEXT_SUMMARY_API_CALL_FAILED, exception.getStatus());
+        BaseException exception = assertThrows(BaseException.class,
+                () -> minutesService.completeMultipartUpload(filePath, "upload-1", parts));
+        assertEquals(S3_MULTIPART_PART_INVALID, exception.getStatus());
+        verify(s3Service, never()).completeMultipartUpload(anyString(), anyString(), anyList());
     }
 
     @Test
-    @DisplayName("음성 파일 업로드 중 예외 발생 시 처리")
-    void uploadToS3AndProcessVoice_Exception() {
+    @DisplayName("허용 범위를 벗어난 파트 번호는 URL 발급 없이 예외 발생")
+    void generatePartUploadUrls_InvalidPartNumber_ThrowsException() {
         // given
-        String filePath = "minutes_voice/file";
-        Minutes testMinutes = new Minutes();
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_meeting.mp3";
+        when(s3Service.toObjectKey(filePath)).thenReturn("minutes_voice/uuid_meeting.mp3");
 
         // when & then
-        assertThrows(BaseException.class, () -> minutesService.processVoice(filePath, testMinutes));
+        BaseException exception = assertThrows(BaseException.class,
+                () -> minutesService.generatePartUploadUrls(filePath, "upload-1", List.of(1, 10001)));
+        assertEquals(S3_MULTIPART_PART_INVALID, exception.getStatus());
+        verify(s3Service, never()).generatePartUploadUrls(anyString(), anyString(), anyList());
     }
 
     @Test
-    @DisplayName("사진 파일 업로드 중 예외 발생 시 처리")
-    void uploadToS3AndProcessPicture_Exception() {
+    @DisplayName("회의록 업로드 디렉터리 밖의 객체는 멀티파트 요청 대상이 아님")
+    void abortMultipartUpload_OutsideUploadDirectory_ThrowsException() {
         // given
-        String filePath = "minutes_photo/file";
-        Minutes testMinutes = new Minutes();
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/backup/dump.sql";
+        when(s3Service.toObjectKey(filePath)).thenReturn("backup/dump.sql");
 
         // when & then
-        assertThrows(BaseException.class, () -> minutesService.processPicture(filePath, testMinutes));
+        BaseException exception = assertThrows(BaseException.class,
+                () -> minutesService.abortMultipartUpload(filePath, "upload-1"));
+        assertEquals(MINUTES_UNSUPPORTED_TYPE, exception.getStatus());
+        verify(s3Service, never()).abortMultipartUpload(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("요청한 사용자가 같은 파일을 이미 변환한 적이 있으면 Flask를 호출하지 않고 결과를 재사용함")
+    void createMinutes_SameFingerprint_ReusesProcessedContent() {
+        // given
+        String filePath = "minutes_voice/file";
+        String processed = "{\"segments\": [{\"speaker\": \"SPEAKER_0\", \"text\": \"이전 변환 결과\"}]}";
+        when(mockUser.getId()).thenReturn(1L);
+        when(s3Service.toObjectKey(filePath)).thenReturn(filePath);
+        when(contentDeduplicator.fingerprint(filePath)).thenReturn("etag:abc");
+        when(contentDeduplicator.findProcessedContent("etag:abc", MinutesType.VOICE, 1L)).thenReturn(Optional.of(processed));
+        when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        minutesService.createMinutes(filePath).join();
+
+        // then
+        verify(chunkedTranscriber, never()).transcribe(anyString());
+        verify(minutesRepository).save(argThat((Minutes saved) -> processed.equals(saved.getContent())
+                && "SPEAKER_0: 이전 변환 결과".equals(saved.getClearContent())
+                && "etag:abc".equals(saved.getContentHash())
+                && Long.valueOf(1L).equals(saved.getUploaderId())));
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 업로드한 파일로 회의록을 만들면 변환 없이 예외 발생")
+    void createMinutes_OtherUploader_ThrowsException() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/2/uuid_a.mp3";
+        when(mockUser.getId()).thenReturn(1L);
+        when(s3Service.toObjectKey(filePath)).thenReturn("minutes_voice/2/uuid_a.mp3");
+
+        // when
+        BaseException exception = assertThrows(BaseException.class, () -> minutesService.createMinutes(filePath));
+
+        // then
+        assertEquals(FORBIDDEN, exception.getStatus());
+        verify(contentDeduplicator, never()).findProcessedContent(any(), any(), any());
+        verify(chunkedTranscriber, never()).transcribe(anyString());
+    }
+
+    @Test
+    @DisplayName("경로에 회의록 디렉터리 이름이 들어 있어도 객체 키의 디렉터리가 업로드 디렉터리가 아니면 변환 없이 예외 발생")
+    void createMinutes_UnknownDirectory_ThrowsException() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/backup/minutes_voice/dump.mp3";
+        when(s3Service.toObjectKey(filePath)).thenReturn("backup/minutes_voice/dump.mp3");
+
+        // when
+        BaseException exception = assertThrows(BaseException.class, () -> minutesService.createMinutes(filePath));
+
+        // then
+        assertEquals(MINUTES_UNSUPPORTED_TYPE, exception.getStatus());
+        verify(minutesRepository, never()).save(any(Minutes.class));
+        verifyNoInteractions(chunkedTranscriber, flaskGateway);
+    }
+
+    @Test
+    @DisplayName("객체 키의 디렉터리로 단일 파일 회의록의 타입을 정함")
+    void uploadTypeOf() {
+        assertEquals(MinutesType.VOICE, MinutesService.uploadTypeOf("minutes_voice/42/uuid_a.mp3"));
+        assertEquals(MinutesType.PICTURE, MinutesService.uploadTypeOf("minutes_photo/42/uuid_a.jpg"));
+        assertNull(MinutesService.uploadTypeOf("minutes_multi_photo/42/uuid_a.jpg"));
+        assertNull(MinutesService.uploadTypeOf("backup/minutes_voice/a.mp3"));
+        assertNull(MinutesService.uploadTypeOf(null));
+    }
+
+    @Test
+    @DisplayName("객체 키에서 업로더 ID를 읽고, 이전 형식의 키는 업로더를 알 수 없음")
+    void uploaderIdOf() {
+        assertEquals(42L, MinutesService.uploaderIdOf("minutes_voice/42/uuid_a.mp3"));
+        assertEquals(7L, MinutesService.uploaderIdOf("minutes_multi_photo/7/uuid_b.jpg"));
+        assertNull(MinutesService.uploaderIdOf("minutes_voice/uuid_a.mp3"));
+        assertNull(MinutesService.uploaderIdOf("backup/42/dump.sql"));
+        assertNull(MinutesService.uploaderIdOf(null));
+    }
+
+    @Test
+    @DisplayName("업로드 이벤트로 임시 회의록을 먼저 저장하고 변환이 끝나면 본문을 채움")
+    void startMinutesFromUpload_SavesTemporaryThenAppliesContent() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/uuid_board.jpg";
+        CompletableFuture<String> flaskCall = new CompletableFuture<>();
+        Minutes saved = new Minutes();
+        when(minutesRepository.existsByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(false);
+        when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> {
+            Minutes testMinutes = invocation.getArgument(0);
+            testMinutes.setId(5L);
+            return testMinutes;
+        });
+        when(flaskGateway.processImage(filePath)).thenReturn(flaskCall);
+        when(minutesRepository.findById(5L)).thenReturn(Optional.of(saved));
+
+        // when
+        Optional<Long> minutesId = minutesService.startMinutesFromUpload(filePath, MinutesType.PICTURE, null, 3L);
+        flaskCall.complete("{\"text\": \"화이트보드 내용\"}");
+
+        // then
+        assertEquals(Optional.of(5L), minutesId);
+        verify(minutesRepository).save(argThat((Minutes minutes) -> minutes.getStatus() == TEMP
+                && filePath.equals(minutes.getFilePath()) && minutes.getType() == MinutesType.PICTURE
+                && Long.valueOf(3L).equals(minutes.getUploaderId())));
+        assertEquals("화이트보드 내용", saved.getClearContent());
+    }
+
+    @Test
+    @DisplayName("이미 회의록이 있는 파일의 업로드 이벤트는 변환 없이 건너뜀")
+    void startMinutesFromUpload_Duplicate_Skips() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_a.mp3";
+        when(minutesRepository.existsByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(true);
+
+        // when
+        Optional<Long> minutesId = minutesService.startMinutesFromUpload(filePath, MinutesType.VOICE, "etag:abc", 3L);
+
+        // then
+        assertTrue(minutesId.isEmpty());
+        verify(minutesRepository, never()).save(any(Minutes.class));
+        verify(chunkedTranscriber, never()).transcribe(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 파일의 업로드 이벤트가 동시에 회의록을 만들어 유일 인덱스에 걸리면 건너뜀")
+    void startMinutesFromUpload_ConcurrentInsert_Skips() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_a.mp3";
+        when(minutesRepository.existsByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(false);
+        when(minutesRepository.save(any(Minutes.class))).thenThrow(new DataIntegrityViolationException("uk_minutes_file_path_key"));
+
+        // when
+        Optional<Long> minutesId = minutesService.startMinutesFromUpload(filePath, MinutesType.VOICE, "etag:abc", 3L);
+
+        // then
+        assertTrue(minutesId.isEmpty());
+        verify(chunkedTranscriber, never()).transcribe(anyString());
+    }
+
+    @Test
+    @DisplayName("업로드 이벤트가 이미 변환을 마친 파일로 회의록을 만들면 새로 저장하지 않고 그 회의록을 반환함")
+    void createMinutes_UploadedWithContent_ReusesMinutes() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_a.mp3";
+        Minutes uploaded = new Minutes();
+        uploaded.setId(5L);
+        uploaded.setFilePath(filePath);
+        uploaded.setType(MinutesType.VOICE);
+        uploaded.setContent("{\"segments\": []}");
+        when(s3Service.toObjectKey(filePath)).thenReturn("minutes_voice/uuid_a.mp3");
+        when(minutesRepository.findByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(Optional.of(uploaded));
+
+        // when
+        MinutesFileUploadResponse response = minutesService.createMinutes(filePath).join();
+
+        // then
+        assertEquals(5L, response.getMinutesId());
+        verify(chunkedTranscriber, never()).transcribe(anyString());
+        verify(minutesRepository, never()).save(any(Minutes.class));
+    }
+
+    @Test
+    @DisplayName("업로드 이벤트의 변환이 진행 중이면 Flask를 다시 호출하지 않고 그 결과로 같은 회의록을 채움")
+    void createMinutes_UploadInProgress_JoinsExtraction() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/uuid_a.mp3";
+        CompletableFuture<String> flaskCall = new CompletableFuture<>();
+        Minutes uploaded = new Minutes();
+        uploaded.setId(5L);
+        uploaded.setFilePath(filePath);
+        uploaded.setType(MinutesType.VOICE);
+        when(minutesRepository.existsByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(false);
+        when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> {
+            Minutes testMinutes = invocation.getArgument(0);
+            testMinutes.setId(5L);
+            return testMinutes;
+        });
+        when(chunkedTranscriber.transcribe(filePath)).thenReturn(flaskCall);
+        when(minutesRepository.findById(5L)).thenReturn(Optional.of(uploaded));
+        when(minutesRepository.findByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(Optional.of(uploaded));
+        when(s3Service.toObjectKey(filePath)).thenReturn("minutes_voice/uuid_a.mp3");
+        minutesService.startMinutesFromUpload(filePath, MinutesType.VOICE, null, null);
+
+        // when
+        CompletableFuture<MinutesFileUploadResponse> response = minutesService.createMinutes(filePath);
+        flaskCall.complete("{\"segments\": [{\"speaker\": \"SPEAKER_0\", \"text\": \"업로드 변환 결과\"}]}");
+
+        // then
+        assertEquals(5L, response.join().getMinutesId());
+        assertEquals("SPEAKER_0: 업로드 변환 결과", uploaded.getClearContent());
+        verify(chunkedTranscriber, times(1)).transcribe(filePath);
+    }
+
+    @Test
+    @DisplayName("Flask 변환 실패 시 통신 오류 예외로 완료되고 회의록은 저장되지 않음")
+    void createMinutes_FlaskFailure_CompletesExceptionally() {
+        // given
+        String filePath = "minutes_voice/file";
+        when(s3Service.toObjectKey(filePath)).thenReturn(filePath);
+        when(chunkedTranscriber.transcribe(filePath))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("connection reset")));
+
+        // when
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> minutesService.createMinutes(filePath).join());
+
+        // then
+        BaseException cause = assertInstanceOf(BaseException.class, exception.getCause());
+        assertEquals(MINUTES_FLASK_SERVER_COMMUNICATION_ERROR, cause.getStatus());
+        verify(minutesRepository, never()).save(any(Minutes.class));
+    }
+
+    @Test
+    @DisplayName("음성 파일은 파일 크기로 예상 처리 시간을 추정해 AI 작업 스케줄러를 거쳐 변환함")
+    void createMinutes_Voice_SubmitsToSchedulerWithEstimate() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/file";
+        when(s3Service.toObjectKey(filePath)).thenReturn("minutes_voice/file");
+        when(s3Service.getContentLength("minutes_voice/file")).thenReturn(2L * 1024 * 1024);
+        when(chunkedTranscriber.transcribe(filePath)).thenReturn(new CompletableFuture<>());
+
+        // when
+        minutesService.createMinutes(filePath);
+
+        // then
+        verify(aiJobScheduler).submit(eq("anonymous"), eq("VOICE"), eq(60.0), any());
+        verify(chunkedTranscriber).transcribe(filePath);
+    }
+
+    @Test
+    @DisplayName("업로드 이벤트의 변환 작업은 객체 키의 업로더 단위 테넌트로 등록되고 업로더의 작업 목록에 보임")
+    void startMinutesFromUpload_SubmitsAsUploaderTenant() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/3/uuid_board.jpg";
+        when(minutesRepository.existsByFilePathKey(Minutes.filePathKeyOf(filePath))).thenReturn(false);
+        when(minutesRepository.save(any(Minutes.class))).thenAnswer(invocation -> {
+            Minutes testMinutes = invocation.getArgument(0);
+            testMinutes.setId(5L);
+            return testMinutes;
+        });
+        when(flaskGateway.processImage(filePath)).thenReturn(new CompletableFuture<>());
+
+        // when
+        minutesService.startMinutesFromUpload(filePath, MinutesType.PICTURE, null, 3L);
+
+        // then
+        verify(aiJobScheduler).submitWithRetry(eq("user:3"), eq(3L), eq("PICTURE"), eq(5.0), any());
+        assertEquals(1, aiJobScheduler.getJobs(3L).size());
+    }
+
+    @Test
+    @DisplayName("회의록 생성 결과를 취소하면 진행 중인 Flask 호출도 취소됨")
+    void createMinutes_Cancel_PropagatesToFlaskCall() {
+        // given
+        String filePath = "minutes_voice/file";
+        CompletableFuture<String> flaskCall = new CompletableFuture<>();
+        when(s3Service.toObjectKey(filePath)).thenReturn(filePath);
+        when(chunkedTranscriber.transcribe(filePath)).thenReturn(flaskCall);
+
+        // when
+        minutesService.createMinutes(filePath).cancel(true);
+
+        // then
+        assertTrue(flaskCall.isCancelled());
+        verify(minutesRepository, never()).save(any(Minutes.class));
     }
 
     @Test
@@ -339,7 +683,6 @@ class MinutesServiceTest {
         // given
         Long minutesId = 1L;
         String extractedText = "테스트를 위한 회의 내용입니다.";
-        UserProject mockUserProject = mock(UserProject.class);
 
         // ScheduleDto 생성
         ScheduleDto validSchedule = new ScheduleDto();
@@ -353,24 +696,63 @@ class MinutesServiceTest {
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getContent()).thenReturn(extractedText);
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-
-        ReflectionTestUtils.setField(minutesService, "flaskServerUrl", "http://localhost:5000");
-
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(MinutesSummarizeResult.class)))
-                .thenReturn(new ResponseEntity<>(summarizeResult, HttpStatus.OK));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(hierarchicalSummarizer.summarize(extractedText)).thenReturn(CompletableFuture.completedFuture(summarizeResult));
 
         // when
-        MinutesSummarizeResult result = minutesService.summarizeText(minutesId);
+        MinutesSummarizeResult result = minutesService.summarizeText(minutesId).join();
 
         // then
         assertNotNull(result);
         assertEquals("테스트를 했다고 합니다~", result.getSummarizedText());
+        verify(mockMinutes).setSummary("테스트를 했다고 합니다~");
         verify(minutesRepository).save(mockMinutes);
         verify(scheduleRepository).save(any(Schedule.class));
     }
 
 
+    @Test
+    @DisplayName("정리된 본문이 있으면 원본 JSON 대신 정리된 본문을 요약함")
+    void summarizeText_UsesClearContent() {
+        // given
+        Long minutesId = 1L;
+        String clearContent = "SPEAKER_1: 배포 일정을 논의했습니다.";
+
+        when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
+        when(mockMinutes.getClearContent()).thenReturn(clearContent);
+        when(mockMinutes.getProject()).thenReturn(mockProject);
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(hierarchicalSummarizer.summarize(clearContent))
+                .thenReturn(CompletableFuture.completedFuture(new MinutesSummarizeResult("요약", List.of())));
+
+        // when
+        MinutesSummarizeResult result = minutesService.summarizeText(minutesId).join();
+
+        // then
+        assertEquals("요약", result.getSummarizedText());
+        verify(mockMinutes, never()).getContent();
+    }
+
+    @Test
+    @DisplayName("변환 중이거나 내용이 비어 있는 회의록은 요약 작업을 등록하지 않고 예외 발생")
+    void summarizeText_EmptyContent_ThrowsException() {
+        // given
+        Long minutesId = 1L;
+
+        when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
+        when(mockMinutes.getClearContent()).thenReturn(null);
+        when(mockMinutes.getContent()).thenReturn(null, "  ");
+        when(mockMinutes.getProject()).thenReturn(mockProject);
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+
+        // when & then
+        BaseException pending = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
+        BaseException blank = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
+        assertEquals(MINUTES_CONTENT_EMPTY, pending.getStatus());
+        assertEquals(MINUTES_CONTENT_EMPTY, blank.getStatus());
+        verifyNoInteractions(hierarchicalSummarizer);
+    }
+
     @Test
     @DisplayName("인증되지 않은 사용자 예외 발생")
     void summarizeText_UnauthenticatedUser_ThrowsException() {
@@ -381,6 +763,7 @@ class MinutesServiceTest {
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
         assertEquals(USER_NOT_AUTHENTICATED, exception.getStatus());
+        verifyNoInteractions(hierarchicalSummarizer);
     }
 
     @Test
@@ -391,11 +774,12 @@ class MinutesServiceTest {
 
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
         assertEquals(USER_NOT_IN_PROJECT, exception.getStatus());
+        verifyNoInteractions(hierarchicalSummarizer);
     }
 
     @Test
@@ -404,7 +788,6 @@ class MinutesServiceTest {
         // given
         Long minutesId = 1L;
         String extractedText = "테스트를 위한 회의 내용입니다.";
-        UserProject mockUserProject = mock(UserProject.class);
 
         ScheduleDto invalidSchedule = new ScheduleDto();
         invalidSchedule.setExtractedScheduleDate("우악 날짜가 이상해");
@@ -417,16 +800,12 @@ class MinutesServiceTest {
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getContent()).thenReturn(extractedText);
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(MinutesSummarizeResult.class)))
-                .thenReturn(new ResponseEntity<>(summarizeResult, HttpStatus.OK));
-
-        ReflectionTestUtils.setField(minutesService, "flaskServerUrl", "http://localhost:5000");
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(hierarchicalSummarizer.summarize(extractedText)).thenReturn(CompletableFuture.completedFuture(summarizeResult));
 
         // when & then
-        BaseException exception = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
-        assertEquals(SCHEDULE_DATE_FORMAT_INVALID, exception.getStatus());
+        assertSummaryFailsWith(minutesId, SCHEDULE_DATE_FORMAT_INVALID);
+        verify(transactionManager).rollback(any());
     }
 
     @Test
@@ -435,23 +814,17 @@ class MinutesServiceTest {
         // given
         Long minutesId = 1L;
         String extractedText = "테스트를 위한 회의 내용입니다.";
-        UserProject mockUserProject = mock(UserProject.class);
 
         MinutesSummarizeResult summarizeResult = new MinutesSummarizeResult();
 
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getContent()).thenReturn(extractedText);
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(MinutesSummarizeResult.class)))
-                .thenReturn(new ResponseEntity<>(summarizeResult, HttpStatus.OK));
-
-        ReflectionTestUtils.setField(minutesService, "flaskServerUrl", "http://localhost:5000");
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(hierarchicalSummarizer.summarize(extractedText)).thenReturn(CompletableFuture.completedFuture(summarizeResult));
 
         // when & then
-        BaseException exception = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
-        assertEquals(MINUTES_TEXT_SUMMARY_MISSING, exception.getStatus());
+        assertSummaryFailsWith(minutesId, MINUTES_TEXT_SUMMARY_MISSING);
     }
 
     @Test
@@ -460,21 +833,16 @@ class MinutesServiceTest {
         // given
         Long minutesId = 1L;
         String extractedText = "테스트를 위한 회의 내용입니다.";
-        UserProject mockUserProject = mock(UserProject.class);
 
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getContent()).thenReturn(extractedText);
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(MinutesSummarizeResult.class)))
-                .thenReturn(new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR));
-
-        ReflectionTestUtils.setField(minutesService, "flaskServerUrl", "http://localhost:5000");
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(hierarchicalSummarizer.summarize(extractedText))
+                .thenReturn(CompletableFuture.failedFuture(new BaseException(MINUTES_TEXT_SUMMARY_API_CALL_FAILED)));
 
         // when & then
-        BaseException exception = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
-        assertEquals(MINUTES_TEXT_SUMMARY_API_CALL_FAILED, exception.getStatus());
+        assertSummaryFailsWith(minutesId, MINUTES_TEXT_SUMMARY_API_CALL_FAILED);
     }
 
     @Test
@@ -483,21 +851,22 @@ class MinutesServiceTest {
         // given
         Long minutesId = 1L;
         String extractedText = "테스트를 위한 회의 내용입니다.";
-        UserProject mockUserProject = mock(UserProject.class);
 
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getContent()).thenReturn(extractedText);
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-
-        when(restTemplate.postForEntity(any(URI.class), any(HttpEntity.class), eq(MinutesSummarizeResult.class)))
-                .thenThrow(new RuntimeException());
-
-        ReflectionTestUtils.setField(minutesService, "flaskServerUrl", "http://localhost:5000");
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(hierarchicalSummarizer.summarize(extractedText)).thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
 
         // when & then
-        BaseException exception = assertThrows(BaseException.class, () -> minutesService.summarizeText(minutesId));
-        assertEquals(MINUTES_TEXT_SUMMARY_ERROR, exception.getStatus());
+        assertSummaryFailsWith(minutesId, MINUTES_TEXT_SUMMARY_ERROR);
+    }
+
+    private void assertSummaryFailsWith(Long minutesId, BaseExceptionResponseStatus expected) {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> minutesService.summarizeText(minutesId).join());
+        BaseException cause = assertInstanceOf(BaseException.class, exception.getCause());
+        assertEquals(expected, cause.getStatus());
     }
 
     @Test
@@ -507,14 +876,12 @@ class MinutesServiceTest {
         Long minutesId = 1L;
         Long projectId = 1L;
         String minutesName = "Updated Minutes";
-        UserProject mockUserProject = mock(UserProject.class);
 
         CurrentUserHolder.set(mockUser);
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(mockProject);
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
         when(mockMinutes.getId()).thenReturn(minutesId);
-        when(mockProject.getId()).thenReturn(projectId);
 
         // when
         MinutesCreateResponse response = minutesService.updateMinutesInfo(minutesId, minutesName, projectId);
@@ -528,6 +895,7 @@ class MinutesServiceTest {
         verify(mockMinutes).setProject(mockProject);
         verify(mockMinutes).setStatus(Status.ACTIVE);
         verify(minutesRepository).save(mockMinutes);
+        verify(projectRepository, never()).findById(any());
     }
 
     @Test
@@ -553,6 +921,7 @@ class MinutesServiceTest {
         String minutesName = "업데이트된 회의록입니다.";
 
         CurrentUserHolder.set(mockUser);
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.empty());
 
         // when & then
@@ -569,8 +938,7 @@ class MinutesServiceTest {
         String minutesName = "업데이트된 회의록입니다.";
 
         CurrentUserHolder.set(mockUser);
-        when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(PROJECT_NOT_FOUND));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.updateMinutesInfo(minutesId, minutesName, projectId));
@@ -586,13 +954,12 @@ class MinutesServiceTest {
         String minutesName = "업데이트된 회의록입니다.";
 
         CurrentUserHolder.set(mockUser);
-        when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.updateMinutesInfo(minutesId, minutesName, projectId));
         assertEquals(USER_NOT_IN_PROJECT, exception.getStatus());
+        verify(minutesRepository, never()).findById(any());
     }
 
     @Test
@@ -602,18 +969,19 @@ class MinutesServiceTest {
         Long projectId = 1L;
         String textContent = "직접 입력한 회의록입니다.";
         String minutesName = "직접 입력한 회의록";
-        UserProject mockUserProject = mock(UserProject.class);
 
         CurrentUserHolder.set(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
+        when(projectRepository.getReferenceById(projectId)).thenReturn(mockProject);
 
         // when
         MinutesCreateResponse response = minutesService.saveAndUploadManualEntry(textContent, minutesName, projectId);
 
         // then
         assertNotNull(response);
+        assertEquals(projectId, response.getProjectId());
         verify(minutesRepository).save(any(Minutes.class));
+        verify(projectRepository, never()).findById(any());
     }
 
     @Test
@@ -639,7 +1007,7 @@ class MinutesServiceTest {
         String minutesName = "직접 입력한 회의록";
 
         CurrentUserHolder.set(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(PROJECT_NOT_FOUND));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.saveAndUploadManualEntry(textContent, minutesName, projectId));
@@ -655,8 +1023,7 @@ class MinutesServiceTest {
         String minutesName = "직접 입력한 회의록";
 
         CurrentUserHolder.set(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.saveAndUploadManualEntry(textContent, minutesName, projectId));
@@ -681,7 +1048,7 @@ class MinutesServiceTest {
         when(mockMinutes.getFilePath()).thenReturn("file/path");
         when(mockMinutes.getSummary()).thenReturn("회의 요약");
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mock(UserProject.class)));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
 
         // when
         MinutesInfoResult result = minutesService.getMinutes(minutesId);
@@ -707,7 +1074,7 @@ class MinutesServiceTest {
         when(mockMinutes.getFilePath()).thenReturn("file/path");
         when(mockMinutes.getSummary()).thenReturn("사진 회의 요약");
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mock(UserProject.class)));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
 
         // when
         MinutesInfoResult result = minutesService.getMinutes(minutesId);
@@ -731,7 +1098,7 @@ class MinutesServiceTest {
         when(mockMinutes.getClearContent()).thenReturn(manualContent);
         when(mockMinutes.getType()).thenReturn(MinutesType.MANUAL);
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mock(UserProject.class)));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
 
         // when
         MinutesInfoResult result = minutesService.getMinutes(minutesId);
@@ -772,7 +1139,7 @@ class MinutesServiceTest {
         Long minutesId = 1L;
         when(mockMinutes.getProject()).thenReturn(mockProject);
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.getMinutes(minutesId));
@@ -803,8 +1170,7 @@ class MinutesServiceTest {
     void getProjectMinutes_Success() {
         // given
         Long projectId = 1L;
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mock(UserProject.class)));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
         when(minutesRepository.findAllByProjectId(projectId)).thenReturn(Collections.singletonList(mockMinutes));
 
         // when
@@ -820,11 +1186,9 @@ class MinutesServiceTest {
     void getProjectMinutes_EmptyList_ReturnsEmptyList() {
         // given
         Long projectId = 1L;
-        UserProject mockUserProject = mock(UserProject.class);
 
         CurrentUserHolder.set(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
+        when(membershipService.getMembership(any(), any())).thenReturn(MEMBERSHIP);
         when(minutesRepository.findAllByProjectId(projectId)).thenReturn(Collections.emptyList());
 
         // when
@@ -834,8 +1198,7 @@ class MinutesServiceTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
         verify(minutesRepository).findAllByProjectId(projectId);
-        verify(projectRepository).findById(projectId);
-        verify(userProjectRepository).findByUserAndProject(mockUser, mockProject);
+        verify(membershipService).getMembership(any(), eq(projectId));
     }
 
     @Test
@@ -847,12 +1210,8 @@ class MinutesServiceTest {
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(1L);
-
-        when(projectRepository.findById(mockProject.getId())).thenReturn(Optional.of(mockProject));
-
-        UserProject leaderProject = mock(UserProject.class);
-        when(leaderProject.getRole()).thenReturn(LEADER);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(leaderProject));
+        when(membershipService.getMembership(any(), eq(1L)))
+                .thenReturn(new ProjectMembership(1L, 1L, 1L, LEADER, ProjectColor.PROJECT_1));
 
         // when
         minutesService.deleteMinutes(minutesId);
@@ -882,22 +1241,18 @@ class MinutesServiceTest {
     void deleteMinutes_NotLeaderUser_ThrowsException() {
         // given
         Long minutesId = 1L;
-        UserProject nonLeaderProject = mock(UserProject.class);
 
         CurrentUserHolder.set(mockUser);
         when(minutesRepository.findById(minutesId)).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(1L);
-        when(projectRepository.findById(mockProject.getId())).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(nonLeaderProject));
-        when(nonLeaderProject.getRole()).thenReturn(Role.MEMBER);
-        when(nonLeaderProject.getUser()).thenReturn(mockUser);
+        when(membershipService.getMembership(any(), eq(1L)))
+                .thenReturn(new ProjectMembership(1L, 1L, 1L, Role.MEMBER, ProjectColor.PROJECT_1));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> minutesService.deleteMinutes(minutesId));
         assertEquals(USER_NOT_LEADER, exception.getStatus());
-        verify(userProjectRepository).findByUserAndProject(mockUser, mockProject);
-        verify(nonLeaderProject).getRole();
+        verify(membershipService).getMembership(any(), eq(1L));
     }
 
     @Test
@@ -929,7 +1284,7 @@ class MinutesServiceTest {
         // given
         when(minutesRepository.findById(anyLong())).thenReturn(Optional.of(mockMinutes));
         when(mockMinutes.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT));
 
         // when & then
         assertThrows(BaseException.class, () -> minutesService.getMinutes(1L));
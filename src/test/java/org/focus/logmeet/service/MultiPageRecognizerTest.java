@@ -0,0 +1,101 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.focus.logmeet.common.exception.BaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.MINUTES_PAGE_COUNT_INVALID;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MultiPageRecognizerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private FlaskGateway flaskGateway;
+
+    private MultiPageRecognizer recognizer(int parallelism, int maxRetries) {
+        return new MultiPageRecognizer(flaskGateway, objectMapper, 3, parallelism, maxRetries, 0);
+    }
+
+    private static String page(String text) {
+        return "{\"text\": \"" + text + "\"}";
+    }
+
+    @Test
+    @DisplayName("응답이 늦게 온 페이지가 있어도 페이지 순서대로 본문을 이어 붙임")
+    void recognize_ConcatenatesInPageOrder() throws IOException {
+        // given
+        CompletableFuture<String> slowFirstPage = new CompletableFuture<>();
+        when(flaskGateway.processImage("minutes_photo/1")).thenReturn(slowFirstPage);
+        when(flaskGateway.processImage("minutes_photo/2")).thenReturn(CompletableFuture.completedFuture(page("둘째")));
+        when(flaskGateway.processImage("minutes_photo/3")).thenReturn(CompletableFuture.completedFuture(page("셋째")));
+
+        // when
+        CompletableFuture<String> result = recognizer(3, 0)
+                .recognize(List.of("minutes_photo/1", "minutes_photo/2", "minutes_photo/3"));
+        slowFirstPage.complete(page("첫째"));
+
+        // then
+        JsonNode root = objectMapper.readTree(result.join());
+        assertThat(root.get("text").asText()).isEqualTo("첫째\n\n둘째\n\n셋째");
+        assertThat(root.get("pages")).hasSize(3);
+        assertThat(root.get("pages").get(0).get("text").asText()).isEqualTo("첫째");
+    }
+
+    @Test
+    @DisplayName("실패한 페이지만 다시 요청함")
+    void recognize_RetriesFailedPageOnly() throws IOException {
+        // given
+        when(flaskGateway.processImage("minutes_photo/1")).thenReturn(CompletableFuture.completedFuture(page("첫째")));
+        when(flaskGateway.processImage("minutes_photo/2"))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("timeout")))
+                .thenReturn(CompletableFuture.completedFuture(page("둘째")));
+
+        // when
+        String result = recognizer(2, 1).recognize(List.of("minutes_photo/1", "minutes_photo/2")).join();
+
+        // then
+        assertThat(objectMapper.readTree(result).get("text").asText()).isEqualTo("첫째\n\n둘째");
+        verify(flaskGateway, times(1)).processImage("minutes_photo/1");
+        verify(flaskGateway, times(2)).processImage("minutes_photo/2");
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패한 페이지가 있으면 실패로 완료됨")
+    void recognize_PageFailure_CompletesExceptionally() {
+        // given
+        when(flaskGateway.processImage("minutes_photo/1"))
+                .thenReturn(CompletableFuture.failedFuture(new IOException("timeout")));
+
+        // when & then
+        assertThatThrownBy(() -> recognizer(1, 0).recognize(List.of("minutes_photo/1", "minutes_photo/2")).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IOException.class);
+        verify(flaskGateway, never()).processImage("minutes_photo/2");
+    }
+
+    @Test
+    @DisplayName("허용 개수를 넘는 이미지는 변환 요청 없이 예외 발생")
+    void recognize_TooManyPages_ThrowsException() {
+        // when & then
+        assertThatThrownBy(() -> recognizer(4, 0).recognize(List.of("1", "2", "3", "4")))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(MINUTES_PAGE_COUNT_INVALID.getMessage());
+        verify(flaskGateway, never()).processImage(anyString());
+    }
+}
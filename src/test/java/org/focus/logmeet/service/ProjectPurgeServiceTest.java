@@ -0,0 +1,133 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.cache.SearchResultCache;
+import org.focus.logmeet.controller.dto.minutes.MinutesFileRef;
+import org.focus.logmeet.repository.*;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.focus.logmeet.domain.enums.Status.DELETED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectPurgeServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private MinutesRepository minutesRepository;
+
+    @Mock
+    private MinutesSearchHistoryRepository minutesSearchHistoryRepository;
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private UserProjectRepository userProjectRepository;
+
+    @Mock
+    private InviteCodeRepository inviteCodeRepository;
+
+    @Mock
+    private MinutesSearchEngine minutesSearchEngine;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectPurgeService projectPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MinutesBulkDeleter minutesBulkDeleter = new MinutesBulkDeleter(minutesRepository, minutesSearchHistoryRepository,
+                s3Service, transactionManager);
+        projectPurgeService = new ProjectPurgeService(projectRepository, minutesRepository, scheduleRepository,
+                userProjectRepository, inviteCodeRepository, minutesBulkDeleter, minutesSearchEngine, searchResultCache,
+                Runnable::run, transactionManager, meterRegistry, 20, 2);
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 프로젝트의 검색 문서, 회의록, 파일, 하위 데이터를 순서대로 정리")
+    void purgeProject_Success() {
+        // given
+        Long projectId = 1L;
+        MinutesFileRef first = new MinutesFileRef(10L, projectId, "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3");
+        MinutesFileRef second = new MinutesFileRef(11L, projectId, null);
+        MinutesFileRef third = new MinutesFileRef(12L, projectId, "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/b.jpg");
+        when(minutesRepository.findFileRefsByProjectId(eq(projectId), any(Pageable.class)))
+                .thenReturn(List.of(first, second), List.of(third));
+        when(minutesRepository.deleteAllByIdIn(List.of(10L, 11L))).thenReturn(2);
+        when(minutesRepository.deleteAllByIdIn(List.of(12L))).thenReturn(1);
+        when(s3Service.deleteObjects(anyList())).thenReturn(1);
+
+        // when
+        projectPurgeService.purgeProject(projectId);
+
+        // then
+        InOrder inOrder = inOrder(minutesSearchEngine, minutesRepository, scheduleRepository, projectRepository);
+        inOrder.verify(minutesSearchEngine).deleteAllByProjectId(projectId);
+        inOrder.verify(minutesRepository, times(2)).deleteAllByIdIn(anyList());
+        inOrder.verify(scheduleRepository).deleteAllByProjectId(projectId);
+        inOrder.verify(projectRepository).deleteByIdAndStatus(projectId, DELETED);
+        verify(userProjectRepository).deleteAllByProjectId(projectId);
+        verify(inviteCodeRepository).deleteAllByProjectId(projectId);
+        verify(searchResultCache).invalidateProject(projectId);
+        assertEquals(3.0, meterRegistry.get("project.purge.minutes").counter().count());
+        assertEquals(2.0, meterRegistry.get("project.purge.files.deleted").counter().count());
+        assertEquals(1.0, meterRegistry.get("project.purge.projects").counter().count());
+    }
+
+    @Test
+    @DisplayName("한 프로젝트 정리가 실패해도 다음 프로젝트는 계속 정리하고 실패한 프로젝트는 남겨둠")
+    void purgeDeletedProjects_ContinuesAfterFailure() {
+        // given
+        when(projectRepository.findIdsByStatus(eq(DELETED), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        doThrow(new RuntimeException("ES 오류")).when(minutesSearchEngine).deleteAllByProjectId(1L);
+        when(minutesRepository.findFileRefsByProjectId(eq(2L), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        projectPurgeService.schedulePurge();
+
+        // then
+        verify(projectRepository, never()).deleteByIdAndStatus(1L, DELETED);
+        verify(projectRepository).deleteByIdAndStatus(2L, DELETED);
+        assertEquals(1.0, meterRegistry.get("project.purge.projects").counter().count());
+        assertEquals(1, meterRegistry.get("project.purge").timer().count());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 정리 요청 시 즉시 실행")
+    void requestPurge_WithoutTransaction_RunsImmediately() {
+        // given
+        when(projectRepository.findIdsByStatus(eq(DELETED), any(Pageable.class))).thenReturn(List.of());
+
+        // when
+        projectPurgeService.requestPurge();
+
+        // then
+        verify(projectRepository).findIdsByStatus(eq(DELETED), any(Pageable.class));
+        verifyNoInteractions(minutesSearchEngine);
+    }
+}
@@ -1,6 +1,11 @@
 package org.focus.logmeet.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.cache.InviteCodeCache;
+import org.focus.logmeet.common.cache.ProjectInfoCache;
 import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.common.utils.InviteCodeGenerator;
+import org.focus.logmeet.config.PrimaryReader;
 import org.focus.logmeet.controller.dto.project.*;
 import org.focus.logmeet.domain.*;
 import org.focus.logmeet.domain.enums.ProjectColor;
@@ -16,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -42,6 +48,23 @@ class ProjectServiceTest {
     @Mock
     private InviteCodeRepository inviteCodeRepository;
 
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private ProjectPurgeService projectPurgeService;
+
+    @Spy
+    private ProjectInfoCache projectInfoCache = new ProjectInfoCache(new SimpleMeterRegistry(), 100, 30);
+    @Spy
+    private PrimaryReader primaryReader = new PrimaryReader(null, "");
+
+    @Spy
+    private InviteCodeGenerator inviteCodeGenerator = new InviteCodeGenerator("test-secret-0123456789abcdefghijkl");
+
+    @Spy
+    private InviteCodeCache inviteCodeCache = new InviteCodeCache(new SimpleMeterRegistry(), 100);
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -228,20 +251,13 @@ class ProjectServiceTest {
         //given
         Long projectId = 1L;
         Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
-        User mockUser = mock(User.class);
 
-        //UnnecessaryStubbingException 발생 조심....
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(mockProject.getUserProjects()).thenReturn(List.of(mockUserProject));
-
         when(mockProject.getId()).thenReturn(projectId);
         when(mockProject.getName()).thenReturn("테스트 프로젝트 제목");
         when(mockProject.getContent()).thenReturn("테스트 프로젝트 내용");
-
-        when(mockUserProject.getUser()).thenReturn(mockUser);
-        when(mockUser.getId()).thenReturn(1L);
-        when(mockUser.getName()).thenReturn("테스트 사용자");
+        when(userProjectRepository.findMemberDtosByProjectId(projectId))
+                .thenReturn(List.of(new UserProjectDto(1L, 1L, "테스트 사용자", LEADER, false, PROJECT_1)));
 
         //when
         ProjectInfoResult result = projectService.getProject(projectId);
@@ -249,7 +265,38 @@ class ProjectServiceTest {
         //then
         assertNotNull(result);
         assertEquals(projectId, result.getProjectId());
+        assertEquals("테스트 사용자", result.getUserProjects().get(0).getUserName());
         verify(projectRepository, times(1)).findById(projectId);
+        verify(mockProject, never()).getUserProjects();
+    }
+
+    @Test
+    @DisplayName("프로젝트 정보 재조회 시 캐시를 사용하고 멤버 변경 시 무효화됨")
+    void getProject_CachedUntilMembershipChanges() {
+        //given
+        Long projectId = 1L;
+        Project mockProject = mock(Project.class);
+        User mockUser = mock(User.class);
+        UserProject mockUserProject = mock(UserProject.class);
+        CurrentUserHolder.set(mockUser);
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
+        when(mockProject.getId()).thenReturn(projectId);
+        when(userProjectRepository.findMemberDtosByProjectId(projectId)).thenReturn(List.of());
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
+        when(userProjectRepository.findById(10L)).thenReturn(Optional.of(mockUserProject));
+
+        //when
+        ProjectInfoResult first = projectService.getProject(projectId);
+        ProjectInfoResult cached = projectService.getProject(projectId);
+        projectService.leaveProject(projectId);
+        projectService.getProject(projectId);
+
+        //then
+        assertSame(first, cached);
+        verify(userProjectRepository, times(2)).findMemberDtosByProjectId(projectId);
     }
 
     @Test
@@ -271,13 +318,10 @@ class ProjectServiceTest {
         //given
         User mockUser = mock(User.class);
         CurrentUserHolder.set(mockUser);
+        when(mockUser.getId()).thenReturn(1L);
 
-        UserProject mockUserProject = mock(UserProject.class);
-        Project mockProject = mock(Project.class);
-
-        when(mockUserProject.getProject()).thenReturn(mockProject);
-        when(mockProject.getId()).thenReturn(1L);
-        when(userProjectRepository.findAllByUser(mockUser)).thenReturn(List.of(mockUserProject));
+        ProjectListResult projectListResult = new ProjectListResult(1L, "테스트 프로젝트", LEADER, false, PROJECT_1, 3L, LocalDateTime.now());
+        when(userProjectRepository.findProjectListByUserId(1L)).thenReturn(List.of(projectListResult));
 
         //when
         List<ProjectListResult> result = projectService.getProjectList();
@@ -285,7 +329,8 @@ class ProjectServiceTest {
         //then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(userProjectRepository, times(1)).findAllByUser(mockUser);
+        assertEquals(3, result.get(0).getNumOfMember());
+        verify(userProjectRepository, times(1)).findProjectListByUserId(1L);
     }
 
     @Test
@@ -314,25 +359,10 @@ class ProjectServiceTest {
     void getProjectBookmarkList_Success() {
         // given
         User mockUser = mock(User.class);
-        Project mockProject1 = mock(Project.class);
-        Project mockProject2 = mock(Project.class);
-
-        UserProject userProject1 = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject1)
-                .bookmark(true)
-                .build();
-
-        UserProject userProject2 = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject2)
-                .bookmark(false)
-                .build();
-
-        List<UserProject> userProjects = List.of(userProject1, userProject2);
-
         when(mockUser.getId()).thenReturn(1L);
-        when(userProjectRepository.findAllByUser(mockUser)).thenReturn(userProjects);
+
+        ProjectListResult bookmarked = new ProjectListResult(1L, "테스트 프로젝트", MEMBER, true, PROJECT_1, 2L, LocalDateTime.now());
+        when(userProjectRepository.findBookmarkedProjectListByUserId(1L)).thenReturn(List.of(bookmarked));
 
         CurrentUserHolder.set(mockUser);
 
@@ -342,7 +372,9 @@ class ProjectServiceTest {
         // then
         assertNotNull(result);
         assertEquals(1, result.size());
-        verify(userProjectRepository, times(1)).findAllByUser(mockUser);
+        assertTrue(result.get(0).getBookmark());
+        verify(userProjectRepository, times(1)).findBookmarkedProjectListByUserId(1L);
+        verify(userProjectRepository, never()).findAllByUser(any(User.class));
     }
 
 
@@ -359,12 +391,11 @@ class ProjectServiceTest {
         Project mockProject = mock(Project.class);
         UserProject mockUserProject = mock(UserProject.class);
 
-        when(mockUserProject.getRole()).thenReturn(LEADER);
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
         when(mockUserProject.getProject()).thenReturn(mockProject);
-        when(userProjectRepository.findByUserAndProject(any(User.class), any(Project.class)))
-                .thenReturn(Optional.of(mockUserProject));
-        when(projectRepository.findById(anyLong()))
-                .thenReturn(Optional.ofNullable(mockProject));
+        when(userProjectRepository.findById(10L)).thenReturn(Optional.of(mockUserProject));
 
         CurrentUserHolder.set(mockUser);
 
@@ -375,6 +406,7 @@ class ProjectServiceTest {
         verify(mockProject, times(1)).setName(newName);
         verify(mockProject, times(1)).setContent(newContent);
         verify(userProjectRepository, times(1)).save(mockUserProject);
+        verify(projectRepository, never()).findById(anyLong());
     }
     @Test
     @DisplayName("리더가 아닌 사용자가 프로젝트 수정 시 예외 발생")
@@ -386,19 +418,17 @@ class ProjectServiceTest {
         ProjectColor newColor = PROJECT_1;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
 
-        when(mockUserProject.getRole()).thenReturn(MEMBER);
-        when(userProjectRepository.findByUserAndProject(any(User.class), any(Project.class)))
-                .thenReturn(Optional.of(mockUserProject));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(mockProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
 
         CurrentUserHolder.set(mockUser);
 
         //when & then
         BaseException exception = assertThrows(BaseException.class, () -> projectService.updateProject(projectId, newName, newContent, newColor));
         assertEquals(USER_NOT_LEADER, exception.getStatus());
+        verify(userProjectRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -417,8 +447,10 @@ class ProjectServiceTest {
 
         UserProject spyUserProject = spy(userProject);
 
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(spyUserProject));
-        when(projectRepository.findById(anyLong())).thenReturn(Optional.of(mockProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
+        when(userProjectRepository.findById(10L)).thenReturn(Optional.of(spyUserProject));
 
         CurrentUserHolder.set(mockUser);
 
@@ -440,13 +472,9 @@ class ProjectServiceTest {
         Long userId = 2L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
-
-        when(mockUserProject.getRole()).thenReturn(MEMBER);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.ofNullable(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(User.class), any(Project.class)))
-                .thenReturn(Optional.of(mockUserProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
 
         CurrentUserHolder.set(mockUser);
 
@@ -463,13 +491,9 @@ class ProjectServiceTest {
         Long userId = 1L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
-
         when(mockUser.getId()).thenReturn(userId);
-        when(mockUserProject.getRole()).thenReturn(LEADER);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.ofNullable(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
+        when(membershipService.getMembership(userId, projectId))
+                .thenReturn(new ProjectMembership(10L, userId, projectId, LEADER, PROJECT_1));
 
         CurrentUserHolder.set(mockUser);
 
@@ -489,22 +513,16 @@ class ProjectServiceTest {
         User memberUser = mock(User.class);
         Project mockProject = mock(Project.class);
 
-        UserProject leaderProject = UserProject.builder()
-                .user(mockLeaderUser)
-                .project(mockProject)
-                .role(LEADER)
-                .build();
-
         UserProject memberProject = UserProject.builder()
                 .user(memberUser)
                 .project(mockProject)
                 .role(MEMBER)
                 .build();
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockLeaderUser, mockProject))
-                .thenReturn(Optional.of(leaderProject));
-        when(userProjectRepository.findByUserIdAndProject(userIdToExpel, mockProject))
+        when(mockLeaderUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
+        when(userProjectRepository.findByUserIdAndProjectId(userIdToExpel, projectId))
                 .thenReturn(Optional.of(memberProject));
 
         CurrentUserHolder.set(mockLeaderUser);
@@ -514,9 +532,8 @@ class ProjectServiceTest {
 
         //then
         verify(userProjectRepository, times(1)).delete(memberProject);
-
-        verify(userProjectRepository, times(1)).findByUserIdAndProject(userIdToExpel, mockProject);
-        verify(userProjectRepository, times(1)).delete(memberProject);
+        verify(membershipService, times(1)).evict(userIdToExpel, projectId);
+        verify(projectRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -528,15 +545,10 @@ class ProjectServiceTest {
         User mockUser = mock(User.class);
         Project mockProject = mock(Project.class);
 
-        UserProject leaderProject = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject)
-                .role(LEADER)
-                .build();
-
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject))
-                .thenReturn(Optional.of(leaderProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
+        when(projectRepository.getReferenceById(projectId)).thenReturn(mockProject);
 
         CurrentUserHolder.set(mockUser);
 
@@ -544,7 +556,26 @@ class ProjectServiceTest {
         projectService.deleteProject(projectId);
 
         //then
-        verify(projectRepository, times(1)).delete(mockProject);
+        verify(mockProject, times(1)).setStatus(Status.DELETED);
+        verify(userProjectRepository, times(1)).deleteAllByProjectId(projectId);
+        verify(inviteCodeRepository, times(1)).deleteAllByProjectId(projectId);
+        verify(projectPurgeService, times(1)).requestPurge();
+        verify(projectRepository, never()).delete(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 프로젝트는 조회되지 않음")
+    void getProject_DeletedProject_ThrowsException() {
+        //given
+        Long projectId = 1L;
+        project.setId(projectId);
+        project.setStatus(Status.DELETED);
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+
+        //when & then
+        BaseException exception = assertThrows(BaseException.class, () -> projectService.getProject(projectId));
+        assertEquals(PROJECT_NOT_FOUND, exception.getStatus());
+        verify(userProjectRepository, never()).findMemberDtosByProjectId(anyLong());
     }
 
 
@@ -555,20 +586,17 @@ class ProjectServiceTest {
         Long projectId = 1L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
 
-        when(mockUserProject.getRole()).thenReturn(MEMBER);
-        when(mockUserProject.getUser()).thenReturn(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.ofNullable(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(User.class), any(Project.class)))
-                .thenReturn(Optional.of(mockUserProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
 
         CurrentUserHolder.set(mockUser);
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> projectService.deleteProject(projectId));
         assertEquals(USER_NOT_LEADER, exception.getStatus());
+        verify(userProjectRepository, never()).deleteAllByProjectId(anyLong());
     }
 
     @Test
@@ -579,26 +607,10 @@ class ProjectServiceTest {
         Long newLeaderId = 2L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-
-        UserProject mockUserProject = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject)
-                .role(MEMBER)
-                .build();
-
-        UserProject newLeaderProject = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject)
-                .role(MEMBER)
-                .build();
 
         when(mockUser.getId()).thenReturn(1L);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject))
-                .thenReturn(Optional.of(mockUserProject));
-        when(userProjectRepository.findByUserIdAndProject(newLeaderId, mockProject))
-                .thenReturn(Optional.of(newLeaderProject));
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
 
         // CurrentUser 설정
         CurrentUserHolder.set(mockUser);
@@ -615,27 +627,10 @@ class ProjectServiceTest {
         Long newLeaderId = 1L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-
-        UserProject leaderProject = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject)
-                .role(LEADER)
-                .build();
-
-        UserProject newLeaderProject = UserProject.builder()
-                .user(mockUser)
-                .project(mockProject)
-                .role(LEADER)
-                .build();
 
         when(mockUser.getId()).thenReturn(newLeaderId);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject))
-                .thenReturn(Optional.of(leaderProject));
-
-        when(userProjectRepository.findByUserIdAndProject(newLeaderId, mockProject))
-                .thenReturn(Optional.of(newLeaderProject));
+        when(membershipService.getMembership(newLeaderId, projectId))
+                .thenReturn(new ProjectMembership(10L, newLeaderId, projectId, LEADER, PROJECT_1));
 
         CurrentUserHolder.set(mockUser);
 
@@ -668,10 +663,10 @@ class ProjectServiceTest {
                 .build();
 
         when(mockUser.getId()).thenReturn(1L);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject))
-                .thenReturn(Optional.of(leaderProject));
-        when(userProjectRepository.findByUserIdAndProject(newLeaderId, mockProject))
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
+        when(userProjectRepository.findById(10L)).thenReturn(Optional.of(leaderProject));
+        when(userProjectRepository.findByUserIdAndProjectId(newLeaderId, projectId))
                 .thenReturn(Optional.of(newLeaderProject));
 
         CurrentUserHolder.set(mockUser);
@@ -682,6 +677,8 @@ class ProjectServiceTest {
         // then
         assertNotNull(response);
         assertEquals(newLeaderId, response.getNewLeaderId());
+        assertEquals(MEMBER, leaderProject.getRole());
+        assertEquals(LEADER, newLeaderProject.getRole());
     }
 
     @Test
@@ -691,14 +688,12 @@ class ProjectServiceTest {
         Long projectId = 1L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
         UserProject mockUserProject = mock(UserProject.class);
 
-        when(mockUserProject.getRole()).thenReturn(MEMBER);
-        when(mockUserProject.getUser()).thenReturn(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject))
-                .thenReturn(Optional.of(mockUserProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
+        when(userProjectRepository.findById(10L)).thenReturn(Optional.of(mockUserProject));
 
         CurrentUserHolder.set(mockUser);
 
@@ -717,14 +712,10 @@ class ProjectServiceTest {
         Long projectId = 1L;
 
         User mockUser = mock(User.class);
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
 
-        when(mockUserProject.getRole()).thenReturn(LEADER);
-        when(mockUserProject.getUser()).thenReturn(mockUser);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.ofNullable(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject))
-                .thenReturn(Optional.of(mockUserProject));
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
 
         CurrentUserHolder.set(mockUser);
 
@@ -752,17 +743,19 @@ class ProjectServiceTest {
         CurrentUserHolder.set(mockUser);
 
 
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
-
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(LEADER);
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
+        when(projectRepository.getReferenceById(projectId)).thenReturn(mock(Project.class));
 
         when(inviteCodeRepository.findValidCodeByProjectId(eq(projectId), any(LocalDateTime.class)))
                 .thenReturn(Optional.empty());
 
-        when(inviteCodeRepository.existsByCode(anyString())).thenReturn(false);
+        when(inviteCodeRepository.save(any(InviteCode.class))).thenAnswer(invocation -> {
+            InviteCode saved = invocation.getArgument(0);
+            saved.setId(42L);
+            return saved;
+        });
 
         // when
         ProjectInviteCodeResult result = projectService.getInviteCode(projectId);
@@ -770,7 +763,7 @@ class ProjectServiceTest {
         // then
         assertNotNull(result);
         assertEquals(projectId, result.getProjectId());
-        assertNotNull(result.getInviteCode());
+        assertEquals(inviteCodeGenerator.encode(42L), result.getInviteCode());
         assertNotNull(result.getExpirationDate());
 
         verify(inviteCodeRepository, times(1)).save(any(InviteCode.class));
@@ -785,11 +778,10 @@ class ProjectServiceTest {
         CurrentUserHolder.set(mockUser);
 
         Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(LEADER);
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
 
         InviteCode existingInviteCode = InviteCode.builder()
                 .code("EXISTINGCODE")
@@ -821,15 +813,8 @@ class ProjectServiceTest {
         when(mockUser.getId()).thenReturn(1L);
         CurrentUserHolder.set(mockUser);
 
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
-
-        // 모킹 설정 추가
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
-
-        when(mockUserProject.getUser()).thenReturn(mockUser);
-        when(mockUserProject.getRole()).thenReturn(MEMBER);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, MEMBER, PROJECT_1));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> projectService.getInviteCode(projectId));
@@ -837,6 +822,7 @@ class ProjectServiceTest {
 
         verify(inviteCodeRepository, never()).findValidCodeByProjectId(anyLong(), any(LocalDateTime.class));
         verify(inviteCodeRepository, never()).save(any(InviteCode.class));
+        verify(projectRepository, never()).findById(anyLong());
     }
 
     @Test
@@ -855,38 +841,37 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("초대 코드 생성 시 중복 코드가 발생하면 재시도하여 고유 코드 생성")
-    void getInviteCode_CodeGenerationRetriesOnDuplicate() {
+    @DisplayName("초대 코드는 저장된 초대 코드 ID로부터 생성되어 엔티티에 반영됨")
+    void getInviteCode_CodeDerivedFromSavedId() {
         // given
         Long projectId = 1L;
         User mockUser = mock(User.class);
         CurrentUserHolder.set(mockUser);
 
-        Project mockProject = mock(Project.class);
-        UserProject mockUserProject = mock(UserProject.class);
-
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(mockUser, mockProject)).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(LEADER);
+        when(mockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(1L, projectId))
+                .thenReturn(new ProjectMembership(10L, 1L, projectId, LEADER, PROJECT_1));
+        when(projectRepository.getReferenceById(projectId)).thenReturn(mock(Project.class));
 
         when(inviteCodeRepository.findValidCodeByProjectId(eq(projectId), any(LocalDateTime.class)))
                 .thenReturn(Optional.empty());
 
-        when(inviteCodeRepository.existsByCode(anyString()))
-                .thenReturn(true)   // 첫 번째 시도에서 중복 코드 발생
-                .thenReturn(false);  // 두 번째 시도에서 고유 코드 생성
+        List<InviteCode> savedCodes = new ArrayList<>();
+        when(inviteCodeRepository.save(any(InviteCode.class))).thenAnswer(invocation -> {
+            InviteCode saved = invocation.getArgument(0);
+            saved.setId(7L);
+            savedCodes.add(saved);
+            return saved;
+        });
 
         // when
         ProjectInviteCodeResult result = projectService.getInviteCode(projectId);
 
         // then
-        assertNotNull(result);
-        assertEquals(projectId, result.getProjectId());
-        assertNotNull(result.getInviteCode());
-        assertNotNull(result.getExpirationDate());
-
-        verify(inviteCodeRepository, times(2)).existsByCode(anyString());
-        verify(inviteCodeRepository, times(1)).save(any(InviteCode.class));
+        assertEquals(1, savedCodes.size());
+        assertEquals(result.getInviteCode(), savedCodes.get(0).getCode());
+        assertEquals(8, result.getInviteCode().length());
+        verify(inviteCodeGenerator, times(1)).encode(7L);
     }
     @Test
     @DisplayName("유효한 초대 코드로 프로젝트 참여 성공")
@@ -905,7 +890,7 @@ class ProjectServiceTest {
                 .color(PROJECT_1)
                 .build();
 
-        project.setUserProjects(List.of(leaderUserProject));
+        project.setId(1L);
 
         InviteCode inviteCode = InviteCode.builder()
                 .code(code)
@@ -915,8 +900,9 @@ class ProjectServiceTest {
 
         when(inviteCodeRepository.findByCodeAndExpirationDateAfter(eq(code), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(inviteCode));
-
-        when(userProjectRepository.existsByUserAndProject(currentUser, project)).thenReturn(false);
+        when(userProjectRepository.findFirstByProjectIdAndRole(1L, Role.LEADER)).thenReturn(Optional.of(leaderUserProject));
+        when(userProjectRepository.existsByUserIdAndProjectId(1L, 1L)).thenReturn(false);
+        when(projectRepository.getReferenceById(1L)).thenReturn(project);
 
         // when
         projectService.join(code);
@@ -925,6 +911,44 @@ class ProjectServiceTest {
         verify(userProjectRepository, times(1)).save(any(UserProject.class));
     }
 
+    @Test
+    @DisplayName("같은 초대 코드로 반복 참여 시 초대 코드 조회는 캐시에서 처리")
+    void joinProject_InviteCodeLookupCached() {
+        // given
+        String code = "VALIDCODE";
+        User currentUser = mock(User.class);
+        when(currentUser.getId()).thenReturn(1L);
+        CurrentUserHolder.set(currentUser);
+
+        project.setId(1L);
+        UserProject leaderUserProject = UserProject.builder()
+                .user(mock(User.class))
+                .project(project)
+                .role(Role.LEADER)
+                .color(PROJECT_1)
+                .build();
+
+        InviteCode inviteCode = InviteCode.builder()
+                .code(code)
+                .project(project)
+                .expirationDate(LocalDateTime.now().plusDays(1))
+                .build();
+
+        when(inviteCodeRepository.findByCodeAndExpirationDateAfter(eq(code), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(inviteCode));
+        when(userProjectRepository.findFirstByProjectIdAndRole(1L, Role.LEADER)).thenReturn(Optional.of(leaderUserProject));
+        when(userProjectRepository.existsByUserIdAndProjectId(1L, 1L)).thenReturn(false);
+        when(projectRepository.getReferenceById(1L)).thenReturn(project);
+
+        // when
+        projectService.join(code);
+        projectService.join(code);
+
+        // then
+        verify(inviteCodeRepository, times(1)).findByCodeAndExpirationDateAfter(eq(code), any(LocalDateTime.class));
+        verify(userProjectRepository, times(2)).save(any(UserProject.class));
+    }
+
     @Test
     @DisplayName("유효하지 않거나 만료된 초대 코드로 프로젝트 참여 시 예외 발생")
     void joinProject_InvalidInviteCode_ThrowsException() {
@@ -958,7 +982,7 @@ class ProjectServiceTest {
                 .color(PROJECT_1)
                 .build();
 
-        project.setUserProjects(List.of(leaderUserProject));
+        project.setId(1L);
 
         InviteCode inviteCode = InviteCode.builder()
                 .code(code)
@@ -968,8 +992,8 @@ class ProjectServiceTest {
 
         when(inviteCodeRepository.findByCodeAndExpirationDateAfter(eq(code), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(inviteCode));
-
-        when(userProjectRepository.existsByUserAndProject(currentUser, project)).thenReturn(true);
+        when(userProjectRepository.findFirstByProjectIdAndRole(1L, Role.LEADER)).thenReturn(Optional.of(leaderUserProject));
+        when(userProjectRepository.existsByUserIdAndProjectId(1L, 1L)).thenReturn(true);
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> projectService.join(code));
@@ -984,7 +1008,7 @@ class ProjectServiceTest {
         User currentUser = mock(User.class);
         CurrentUserHolder.set(currentUser);
 
-        project.setUserProjects(new ArrayList<>());
+        project.setId(1L);
 
         InviteCode inviteCode = InviteCode.builder()
                 .code(code)
@@ -994,7 +1018,7 @@ class ProjectServiceTest {
 
         when(inviteCodeRepository.findByCodeAndExpirationDateAfter(eq(code), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(inviteCode));
-
+        when(userProjectRepository.findFirstByProjectIdAndRole(1L, Role.LEADER)).thenReturn(Optional.empty());
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> projectService.join(code));
@@ -0,0 +1,226 @@
+package org.focus.logmeet.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.config.S3Config;
+import org.focus.logmeet.controller.dto.minutes.MultipartUploadPart;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.Container.ExecResult;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.S3_MULTIPART_UPLOAD_FAILED;
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.S3_MULTIPART_UPLOAD_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.*;
+
+// 멀티파트 업로드/일괄 삭제의 실제 S3 프로토콜 동작(페이지 조회, 오류 코드, 부분 실패)은 local-s3 프로필 설정 그대로 MinIO 에서 검증한다
+@SpringBootTest(classes = {S3Config.class, S3Service.class})
+@ActiveProfiles("local-s3")
+@Testcontainers(disabledWithoutDocker = true)
+class S3ServiceMinioTest {
+
+    private static final String BUCKET = "logmeet";
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    @DynamicPropertySource
+    static void localS3(DynamicPropertyRegistry registry) {
+        registry.add("LOCAL_S3_ENDPOINT", minio::getS3URL);
+    }
+
+    @Autowired
+    private S3Service s3Service;
+
+    @Autowired
+    private AmazonS3 s3;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        if (!s3.doesBucketExistV2(BUCKET)) {
+            s3.createBucket(BUCKET);
+        }
+    }
+
+    private static String newKey() {
+        return "minutes_voice/1/" + UUID.randomUUID() + ".mp3";
+    }
+
+    private String putPart(String url, byte[] body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), response.body());
+        return response.headers().firstValue("ETag").orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Pre-signed URL로 업로드한 파트를 조회한 목록 그대로 완료하면 하나의 객체가 됨")
+    void presignedPartUpload_ListAndComplete() throws Exception {
+        // given
+        String key = newKey();
+        String uploadId = s3Service.initiateMultipartUpload(key, "audio/mpeg");
+        List<String> urls = s3Service.generatePartUploadUrls(key, uploadId, List.of(1, 2));
+        putPart(urls.get(0), new byte[MIN_PART_SIZE]);
+        putPart(urls.get(1), new byte[1024]);
+
+        // when
+        List<MultipartUploadPart> parts = s3Service.listUploadedParts(key, uploadId);
+        s3Service.completeMultipartUpload(key, uploadId, parts);
+
+        // then
+        assertEquals(List.of(1, 2), parts.stream().map(MultipartUploadPart::getPartNumber).toList());
+        assertEquals(List.of((long) MIN_PART_SIZE, 1024L), parts.stream().map(MultipartUploadPart::getSize).toList());
+        assertEquals(MIN_PART_SIZE + 1024L, s3Service.getContentLength(key));
+    }
+
+    @Test
+    @DisplayName("파트가 1000개를 넘으면 다음 페이지까지 모두 조회함")
+    void listUploadedParts_PagesPastThousandParts() {
+        // given
+        String key = newKey();
+        String uploadId = s3Service.initiateMultipartUpload(key, "audio/mpeg");
+        int partCount = 1001;
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            s3.uploadPart(new UploadPartRequest()
+                    .withBucketName(BUCKET)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partNumber)
+                    .withInputStream(new ByteArrayInputStream(new byte[]{1}))
+                    .withPartSize(1));
+        }
+
+        // when
+        List<MultipartUploadPart> parts = s3Service.listUploadedParts(key, uploadId);
+
+        // then
+        assertEquals(IntStream.rangeClosed(1, partCount).boxed().toList(),
+                parts.stream().map(MultipartUploadPart::getPartNumber).toList());
+        s3Service.abortMultipartUpload(key, uploadId);
+    }
+
+    @Test
+    @DisplayName("업로드한 파트 없이 완료하면 업로드 실패 예외 발생")
+    void completeMultipartUpload_WithoutParts_ThrowsException() {
+        // given
+        String key = newKey();
+        String uploadId = s3Service.initiateMultipartUpload(key, "audio/mpeg");
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class,
+                () -> s3Service.completeMultipartUpload(key, uploadId, List.of()));
+        assertEquals(S3_MULTIPART_UPLOAD_FAILED, exception.getStatus());
+        s3Service.abortMultipartUpload(key, uploadId);
+    }
+
+    @Test
+    @DisplayName("취소한 업로드를 조회/완료하면 NoSuchUpload를 업로드 없음 예외로 변환함")
+    void abortedUpload_ReportsNotFound() throws Exception {
+        // given
+        String key = newKey();
+        String uploadId = s3Service.initiateMultipartUpload(key, "audio/mpeg");
+        String url = s3Service.generatePartUploadUrls(key, uploadId, List.of(1)).get(0);
+        String etag = putPart(url, new byte[1024]);
+        s3Service.abortMultipartUpload(key, uploadId);
+
+        // when
+        BaseException listException = assertThrows(BaseException.class,
+                () -> s3Service.listUploadedParts(key, uploadId));
+        BaseException completeException = assertThrows(BaseException.class,
+                () -> s3Service.completeMultipartUpload(key, uploadId, List.of(new MultipartUploadPart(1, etag, null))));
+
+        // then
+        assertEquals(S3_MULTIPART_UPLOAD_NOT_FOUND, listException.getStatus());
+        assertEquals(S3_MULTIPART_UPLOAD_NOT_FOUND, completeException.getStatus());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제 중 일부 객체만 삭제가 거부되면 실제로 삭제된 개수만 반환함")
+    void deleteObjects_PartialFailure_ReturnsDeletedCount() throws Exception {
+        // given
+        String deletable = "minutes_photo/1/" + UUID.randomUUID() + ".jpg";
+        String locked = "locked/" + UUID.randomUUID() + ".jpg";
+        s3.putObject(BUCKET, deletable, "photo");
+        s3.putObject(BUCKET, locked, "photo");
+        S3Service restricted = restrictedService();
+
+        // when
+        int deleted = restricted.deleteObjects(List.of(
+                restricted.toFilePath(deletable),
+                restricted.toFilePath(locked),
+                "https://example.com/other-bucket/ignored.jpg"));
+
+        // then
+        assertEquals(1, deleted);
+        assertFalse(s3.doesObjectExist(BUCKET, deletable));
+        assertTrue(s3.doesObjectExist(BUCKET, locked));
+    }
+
+    // locked/ 아래 객체 삭제만 거부하는 정책을 붙인 사용자로 S3Service 를 만든다 (루트 계정은 정책을 무시하므로)
+    private S3Service restrictedService() throws Exception {
+        String policy = """
+                {
+                  "Version": "2012-10-17",
+                  "Statement": [
+                    {"Effect": "Allow", "Action": ["s3:*"], "Resource": ["arn:aws:s3:::logmeet", "arn:aws:s3:::logmeet/*"]},
+                    {"Effect": "Deny", "Action": ["s3:DeleteObject"], "Resource": ["arn:aws:s3:::logmeet/locked/*"]}
+                  ]
+                }
+                """;
+        minio.copyFileToContainer(Transferable.of(policy), "/tmp/no-delete-locked.json");
+        mc("alias", "set", "local", "http://localhost:9000", minio.getUserName(), minio.getPassword());
+        mc("admin", "user", "add", "local", "restricted", "restricted-secret");
+        mc("admin", "policy", "create", "local", "no-delete-locked", "/tmp/no-delete-locked.json");
+        mc("admin", "policy", "attach", "local", "no-delete-locked", "--user", "restricted");
+
+        AmazonS3 restrictedClient = AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(minio.getS3URL(), "us-east-1"))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("restricted", "restricted-secret")))
+                .build();
+        S3Service service = new S3Service(restrictedClient);
+        ReflectionTestUtils.setField(service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(service, "endpoint", minio.getS3URL());
+        return service;
+    }
+
+    private static void mc(String... args) throws Exception {
+        List<String> command = new ArrayList<>(List.of("mc"));
+        command.addAll(List.of(args));
+        ExecResult result = minio.execInContainer(command.toArray(new String[0]));
+        // 이미 만든 사용자/정책을 다시 만드는 경우는 무시
+        if (result.getExitCode() != 0 && !result.getStderr().contains("already")) {
+            fail("mc " + String.join(" ", args) + " 실패: " + result.getStderr() + result.getStdout());
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package org.focus.logmeet.service;
 
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.*;
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.minutes.MultipartUploadPart;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.S3_MULTIPART_UPLOAD_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -24,6 +35,12 @@ class S3ServiceTest {
     @Mock
     private AmazonS3 s3;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3Service, "bucketName", "logmeet");
+        ReflectionTestUtils.setField(s3Service, "endpoint", "https://kr.object.ncloudstorage.com");
+    }
+
     @Test
     @DisplayName("Pre-signed URL 생성 성공 테스트")
     void generatePreSignedUrl_Success() {
@@ -66,4 +83,163 @@ class S3ServiceTest {
                 s3Service.generatePreSignedUrl(directory, fileName, contentType));
         assertEquals("AWS S3 Error", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("파일 URL을 객체 키로 변환해 일괄 삭제")
+    void deleteObjects_Success() {
+        // given
+        List<String> fileUrls = List.of(
+                "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3",
+                "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/b.jpg",
+                "https://other.example.com/file.mp3");
+
+        // when
+        int deleted = s3Service.deleteObjects(fileUrls);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3, times(1)).deleteObjects(captor.capture());
+        DeleteObjectsRequest request = captor.getValue();
+        assertEquals("logmeet", request.getBucketName());
+        assertEquals(List.of("minutes_voice/a.mp3", "minutes_photo/b.jpg"),
+                request.getKeys().stream().map(DeleteObjectsRequest.KeyVersion::getKey).toList());
+        assertEquals(2, deleted);
+    }
+
+    @Test
+    @DisplayName("1000개를 넘는 객체는 여러 요청으로 나누어 삭제")
+    void deleteObjects_SplitsIntoChunks() {
+        // given
+        List<String> fileUrls = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            fileUrls.add("https://kr.object.ncloudstorage.com/logmeet/minutes_voice/" + i + ".mp3");
+        }
+
+        // when
+        int deleted = s3Service.deleteObjects(fileUrls);
+
+        // then
+        verify(s3, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+        assertEquals(1500, deleted);
+    }
+
+    @Test
+    @DisplayName("일부 객체 삭제 실패 시 실패 건수를 제외하고 반환")
+    void deleteObjects_PartialFailure() {
+        // given
+        MultiObjectDeleteException exception = new MultiObjectDeleteException(
+                List.of(new MultiObjectDeleteException.DeleteError()), List.of());
+        when(s3.deleteObjects(any(DeleteObjectsRequest.class))).thenThrow(exception);
+
+        // when
+        int deleted = s3Service.deleteObjects(List.of(
+                "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3",
+                "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/b.mp3"));
+
+        // then
+        assertEquals(1, deleted);
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드를 공개 읽기 권한과 콘텐츠 타입으로 시작하고 uploadId 반환")
+    void initiateMultipartUpload_Success() {
+        // given
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId("upload-1");
+        when(s3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(result);
+
+        // when
+        String uploadId = s3Service.initiateMultipartUpload("minutes_voice/a.mp3", "audio/mpeg");
+
+        // then
+        ArgumentCaptor<InitiateMultipartUploadRequest> captor = ArgumentCaptor.forClass(InitiateMultipartUploadRequest.class);
+        verify(s3).initiateMultipartUpload(captor.capture());
+        assertEquals("upload-1", uploadId);
+        assertEquals("minutes_voice/a.mp3", captor.getValue().getKey());
+        assertEquals("audio/mpeg", captor.getValue().getObjectMetadata().getContentType());
+        assertEquals(CannedAccessControlList.PublicRead, captor.getValue().getCannedACL());
+    }
+
+    @Test
+    @DisplayName("파트 번호마다 uploadId와 partNumber가 포함된 PUT URL 발급")
+    void generatePartUploadUrls_Success() throws MalformedURLException {
+        // given
+        when(s3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class)))
+                .thenReturn(new URL("https://storage/part-2"), new URL("https://storage/part-3"));
+
+        // when
+        List<String> urls = s3Service.generatePartUploadUrls("minutes_voice/a.mp3", "upload-1", List.of(2, 3));
+
+        // then
+        ArgumentCaptor<GeneratePresignedUrlRequest> captor = ArgumentCaptor.forClass(GeneratePresignedUrlRequest.class);
+        verify(s3, times(2)).generatePresignedUrl(captor.capture());
+        assertEquals(List.of("https://storage/part-2", "https://storage/part-3"), urls);
+        GeneratePresignedUrlRequest first = captor.getAllValues().get(0);
+        assertEquals(HttpMethod.PUT, first.getMethod());
+        assertEquals("upload-1", first.getRequestParameters().get("uploadId"));
+        assertEquals("2", first.getRequestParameters().get("partNumber"));
+    }
+
+    @Test
+    @DisplayName("업로드된 파트가 여러 페이지에 걸쳐 있으면 끝까지 조회")
+    void listUploadedParts_Paginates() {
+        // given
+        PartListing firstPage = partListing(true, 1, 2);
+        firstPage.setNextPartNumberMarker(2);
+        PartListing secondPage = partListing(false, 3);
+        when(s3.listParts(any(ListPartsRequest.class))).thenReturn(firstPage, secondPage);
+
+        // when
+        List<MultipartUploadPart> parts = s3Service.listUploadedParts("minutes_voice/a.mp3", "upload-1");
+
+        // then
+        assertEquals(List.of(1, 2, 3), parts.stream().map(MultipartUploadPart::getPartNumber).toList());
+        assertEquals("etag-3", parts.get(2).getEtag());
+        verify(s3, times(2)).listParts(any(ListPartsRequest.class));
+    }
+
+    @Test
+    @DisplayName("이미 종료된 업로드를 완료하면 업로드 없음 예외 발생")
+    void completeMultipartUpload_NoSuchUpload_ThrowsException() {
+        // given
+        AmazonServiceException exception = new AmazonServiceException("not found");
+        exception.setErrorCode("NoSuchUpload");
+        when(s3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenThrow(exception);
+        List<MultipartUploadPart> parts = List.of(new MultipartUploadPart(1, "etag-1", null));
+
+        // when & then
+        BaseException thrown = assertThrows(BaseException.class,
+                () -> s3Service.completeMultipartUpload("minutes_voice/a.mp3", "upload-1", parts));
+        assertEquals(S3_MULTIPART_UPLOAD_NOT_FOUND, thrown.getStatus());
+    }
+
+    @Test
+    @DisplayName("파일 경로는 설정된 엔드포인트와 버킷으로 만들고 다시 같은 객체 키로 되돌릴 수 있음")
+    void toFilePath_UsesConfiguredEndpointAndBucket() {
+        // given
+        ReflectionTestUtils.setField(s3Service, "endpoint", "http://localhost:9000/");
+        ReflectionTestUtils.setField(s3Service, "bucketName", "logmeet-local");
+
+        // when
+        String filePath = s3Service.toFilePath("minutes_voice/42/uuid_a.mp3");
+
+        // then
+        assertEquals("http://localhost:9000/logmeet-local/minutes_voice/42/uuid_a.mp3", filePath);
+        assertEquals("minutes_voice/42/uuid_a.mp3", s3Service.toObjectKey(filePath));
+    }
+
+    private static PartListing partListing(boolean truncated, int... partNumbers) {
+        PartListing listing = new PartListing();
+        listing.setTruncated(truncated);
+        List<PartSummary> summaries = new ArrayList<>();
+        for (int partNumber : partNumbers) {
+            PartSummary summary = new PartSummary();
+            summary.setPartNumber(partNumber);
+            summary.setETag("etag-" + partNumber);
+            summary.setSize(5L * 1024 * 1024);
+            summaries.add(summary);
+        }
+        listing.setParts(summaries);
+        return listing;
+    }
 }
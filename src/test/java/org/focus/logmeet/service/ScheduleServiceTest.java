@@ -1,13 +1,13 @@
 package org.focus.logmeet.service;
 
 import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.project.ProjectMembership;
 import org.focus.logmeet.controller.dto.schedule.*;
 import org.focus.logmeet.domain.*;
 import org.focus.logmeet.domain.enums.ProjectColor;
 import org.focus.logmeet.domain.enums.Role;
 import org.focus.logmeet.repository.ProjectRepository;
 import org.focus.logmeet.repository.ScheduleRepository;
-import org.focus.logmeet.repository.UserProjectRepository;
 import org.focus.logmeet.security.aspect.CurrentUserHolder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,13 +37,14 @@ class ScheduleServiceTest {
     @Mock
     private ProjectRepository projectRepository;
     @Mock
-    private UserProjectRepository userProjectRepository;
+    private MembershipService membershipService;
     @InjectMocks
     private ScheduleService scheduleService;
 
     private User mockUser;
     private Project mockProject;
     private UserProject mockUserProject;
+    private ProjectMembership mockMembership;
     private Schedule mockSchedule;
 
     @BeforeEach
@@ -51,6 +52,7 @@ class ScheduleServiceTest {
         mockUser = mock(User.class);
         mockProject = mock(Project.class);
         mockUserProject = mock(UserProject.class);
+        mockMembership = mock(ProjectMembership.class);
         mockSchedule = mock(Schedule.class);
         CurrentUserHolder.set(mockUser);
     }
@@ -82,9 +84,8 @@ class ScheduleServiceTest {
         when(scheduleRepository.findById(scheduleId)).thenReturn(Optional.of(mockSchedule));
         when(mockSchedule.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(projectId);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(LEADER);
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
+        when(mockMembership.getRole()).thenReturn(LEADER);
 
         // when
         scheduleService.updateSchedule(scheduleId, request);
@@ -104,11 +105,10 @@ class ScheduleServiceTest {
         int year = yearMonth.getYear();
         int month = yearMonth.getMonthValue();
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject)); // 프로젝트 모킹 추가
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
         when(scheduleRepository.findSchedulesByProjectIdAndMonth(projectId, year, month)).thenReturn(List.of(mockSchedule));
         when(mockSchedule.getScheduleDate()).thenReturn(LocalDateTime.of(2024, 10, 5, 10, 0));
-        when(mockUserProject.getColor()).thenReturn(PROJECT_1);
+        when(mockMembership.getColor()).thenReturn(PROJECT_1);
 
         // when
         List<ScheduleMonthlyListResult> result = scheduleService.getScheduleOfProject(projectId, yearMonth);
@@ -128,8 +128,7 @@ class ScheduleServiceTest {
         Long projectId = 1L;
         LocalDate yearMonth = LocalDate.of(2024, 10, 1);
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.empty()); // 유저가 프로젝트에 속하지 않음
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT)); // 유저가 프로젝트에 속하지 않음
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> scheduleService.getScheduleOfProject(projectId, yearMonth));
@@ -163,9 +162,8 @@ class ScheduleServiceTest {
         when(mockProject.getName()).thenReturn("Project Name");
         when(mockSchedule.getContent()).thenReturn("Meeting");
         when(mockSchedule.getScheduleDate()).thenReturn(scheduleDate);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getColor()).thenReturn(ProjectColor.PROJECT_1);
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
+        when(mockMembership.getColor()).thenReturn(ProjectColor.PROJECT_1);
 
         // when
         ScheduleInfoResult result = scheduleService.getSchedule(scheduleId);
@@ -228,9 +226,8 @@ class ScheduleServiceTest {
         when(scheduleRepository.findById(scheduleId)).thenReturn(Optional.of(mockSchedule));
         when(mockSchedule.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(projectId);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(LEADER);
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
+        when(mockMembership.getRole()).thenReturn(LEADER);
 
         // when
         scheduleService.deleteSchedule(scheduleId);
@@ -258,16 +255,13 @@ class ScheduleServiceTest {
         Long scheduleId = 1L;
         Long projectId = 1L;
         ScheduleUpdateRequest request = new ScheduleUpdateRequest("Updated Meeting", LocalDateTime.now());
-        User testMockUser = mock(User.class);
 
         when(scheduleRepository.findById(scheduleId)).thenReturn(Optional.of(mockSchedule));
         when(mockSchedule.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(projectId);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(Role.MEMBER);
-        when(mockUserProject.getUser()).thenReturn(testMockUser);
-        when(testMockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
+        when(mockMembership.getRole()).thenReturn(Role.MEMBER);
+        when(mockMembership.getUserId()).thenReturn(1L);
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> scheduleService.updateSchedule(scheduleId, request));
@@ -283,8 +277,7 @@ class ScheduleServiceTest {
         when(scheduleRepository.findById(scheduleId)).thenReturn(Optional.of(mockSchedule));
         when(mockSchedule.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(projectId);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.empty());
+        when(membershipService.getMembership(any(), any())).thenThrow(new BaseException(USER_NOT_IN_PROJECT));
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> scheduleService.getSchedule(scheduleId));
@@ -309,16 +302,13 @@ class ScheduleServiceTest {
         // given
         Long scheduleId = 1L;
         Long projectId = 1L;
-        User testMockUser = mock(User.class);
 
         when(scheduleRepository.findById(scheduleId)).thenReturn(Optional.of(mockSchedule));
         when(mockSchedule.getProject()).thenReturn(mockProject);
         when(mockProject.getId()).thenReturn(projectId);
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
-        when(mockUserProject.getRole()).thenReturn(Role.MEMBER); // 리더가 아님
-        when(mockUserProject.getUser()).thenReturn(testMockUser);
-        when(testMockUser.getId()).thenReturn(1L);
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
+        when(mockMembership.getRole()).thenReturn(Role.MEMBER); // 리더가 아님
+        when(mockMembership.getUserId()).thenReturn(1L);
 
         // when & then
         BaseException exception = assertThrows(BaseException.class, () -> scheduleService.deleteSchedule(scheduleId));
@@ -331,15 +321,14 @@ class ScheduleServiceTest {
         // given
         Long projectId = 1L;
         LocalDate date = LocalDate.now();
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(userProjectRepository.findByUserAndProject(any(), any())).thenReturn(Optional.of(mockUserProject));
+        when(membershipService.getMembership(any(), any())).thenReturn(mockMembership);
         when(scheduleRepository.findByProjectIdAndDate(projectId, date)).thenReturn(List.of(mockSchedule));
         when(mockSchedule.getId()).thenReturn(1L);
         when(mockSchedule.getContent()).thenReturn("Meeting");
         when(mockSchedule.getScheduleDate()).thenReturn(LocalDateTime.now());
         when(mockSchedule.getProject()).thenReturn(mockProject);
         when(mockProject.getName()).thenReturn("Project Name");
-        when(mockUserProject.getColor()).thenReturn(PROJECT_1);
+        when(mockMembership.getColor()).thenReturn(PROJECT_1);
 
         // when
         List<ScheduleListResult> result = scheduleService.getScheduleOfProjectAt(projectId, date);
@@ -0,0 +1,111 @@
+package org.focus.logmeet.service;
+
+import org.focus.logmeet.common.exception.BaseException;
+import org.focus.logmeet.controller.dto.storage.StorageEventNotification;
+import org.focus.logmeet.controller.dto.storage.StorageEventResult;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.focus.logmeet.common.response.BaseExceptionResponseStatus.INVALID_TOKEN;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StorageEventServiceTest {
+
+    private static final String AUTHORIZATION = "Bearer secret";
+
+    @Mock
+    private MinutesService minutesService;
+
+    @Mock
+    private S3Service s3Service;
+
+    private StorageEventService storageEventService;
+
+    @BeforeEach
+    void setUp() {
+        storageEventService = new StorageEventService(minutesService, s3Service, "logmeet", "secret");
+    }
+
+    private static StorageEventNotification.Record record(String eventName, String bucket, String key) {
+        return new StorageEventNotification.Record(eventName, new StorageEventNotification.S3Entity(
+                new StorageEventNotification.Bucket(bucket), new StorageEventNotification.StoredObject(key, 1024L, "\"9B2CF535F27731C974343645A3985328\"")));
+    }
+
+    @Test
+    @DisplayName("음성 파일 생성 이벤트는 디코딩한 객체 키의 파일 경로와 키에 포함된 업로더로 임시 회의록을 생성함")
+    void handle_VoiceObjectCreated_StartsMinutes() {
+        // given
+        String filePath = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/42/uuid_주간 회의.mp3";
+        when(s3Service.toFilePath("minutes_voice/42/uuid_주간 회의.mp3")).thenReturn(filePath);
+        when(minutesService.startMinutesFromUpload(filePath, MinutesType.VOICE, "etag:9b2cf535f27731c974343645a3985328", 42L)).thenReturn(Optional.of(7L));
+        StorageEventNotification notification = new StorageEventNotification(List.of(
+                record("ObjectCreated:Put", "logmeet", "minutes_voice/42/uuid_%EC%A3%BC%EA%B0%84+%ED%9A%8C%EC%9D%98.mp3")));
+
+        // when
+        StorageEventResult result = storageEventService.handle(AUTHORIZATION, notification);
+
+        // then
+        assertEquals(List.of(7L), result.getCreatedMinutesIds());
+        assertEquals(0, result.getSkipped());
+    }
+
+    @Test
+    @DisplayName("대상이 아닌 이벤트와 이미 처리된 파일은 건너뜀")
+    void handle_SkipsIrrelevantAndDuplicateEvents() {
+        // given
+        String photoPath = "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/uuid_a.jpg";
+        when(s3Service.toFilePath("minutes_photo/uuid_a.jpg")).thenReturn(photoPath);
+        when(minutesService.startMinutesFromUpload(eq(photoPath), eq(MinutesType.PICTURE), anyString(), any())).thenReturn(Optional.empty());
+        StorageEventNotification notification = new StorageEventNotification(List.of(
+                record("ObjectRemoved:Delete", "logmeet", "minutes_voice/uuid_a.mp3"),
+                record("ObjectCreated:Put", "other-bucket", "minutes_voice/uuid_a.mp3"),
+                record("ObjectCreated:CompleteMultipartUpload", "logmeet", "minutes_multi_photo/uuid_page1.jpg"),
+                record("ObjectCreated:Put", "logmeet", "minutes_photo/uuid_a.jpg")));
+
+        // when
+        StorageEventResult result = storageEventService.handle(AUTHORIZATION, notification);
+
+        // then
+        assertTrue(result.getCreatedMinutesIds().isEmpty());
+        assertEquals(4, result.getSkipped());
+        verify(minutesService, times(1)).startMinutesFromUpload(anyString(), any(MinutesType.class), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("토큰이 일치하지 않으면 이벤트를 처리하지 않고 예외 발생")
+    void handle_InvalidToken_ThrowsException() {
+        // given
+        StorageEventNotification notification = new StorageEventNotification(List.of(
+                record("ObjectCreated:Put", "logmeet", "minutes_voice/uuid_a.mp3")));
+
+        // when & then
+        BaseException exception = assertThrows(BaseException.class,
+                () -> storageEventService.handle("Bearer wrong", notification));
+        assertEquals(INVALID_TOKEN, exception.getStatus());
+        verifyNoInteractions(minutesService);
+    }
+
+    @Test
+    @DisplayName("토큰이 설정되지 않았으면 모든 이벤트를 거부함")
+    void handle_TokenNotConfigured_RejectsAll() {
+        // given
+        StorageEventService disabled = new StorageEventService(minutesService, s3Service, "logmeet", "");
+        StorageEventNotification notification = new StorageEventNotification(List.of());
+
+        // when & then
+        assertThrows(BaseException.class, () -> disabled.handle("Bearer ", notification));
+    }
+}
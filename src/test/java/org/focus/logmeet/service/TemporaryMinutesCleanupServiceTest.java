@@ -0,0 +1,267 @@
+package org.focus.logmeet.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.focus.logmeet.common.cache.SearchResultCache;
+import org.focus.logmeet.controller.dto.minutes.MinutesFileRef;
+import org.focus.logmeet.domain.Minutes;
+import org.focus.logmeet.repository.MinutesRepository;
+import org.focus.logmeet.repository.MinutesSearchHistoryRepository;
+import org.focus.logmeet.repository.search.MinutesSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.focus.logmeet.domain.enums.Status.TEMP;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TemporaryMinutesCleanupServiceTest {
+
+    @Mock
+    private MinutesRepository minutesRepository;
+
+    @Mock
+    private MinutesSearchHistoryRepository minutesSearchHistoryRepository;
+
+    @Mock
+    private MinutesSearchEngine minutesSearchEngine;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MinutesBulkDeleter minutesBulkDeleter;
+    private TemporaryMinutesCleanupService cleanupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        minutesBulkDeleter = new MinutesBulkDeleter(minutesRepository, minutesSearchHistoryRepository, s3Service, transactionManager);
+        cleanupService = new TemporaryMinutesCleanupService(minutesRepository, minutesBulkDeleter,
+                minutesSearchEngine, searchResultCache, Runnable::run, meterRegistry, 30, 1440, 2, 10);
+    }
+
+    @Test
+    @DisplayName("오래된 임시 회의록을 배치 단위로 삭제하고 검색 문서와 파일을 함께 정리")
+    void purgeOlderThan_DeletesInBatches() {
+        // given
+        LocalDateTime timeLimit = LocalDateTime.now();
+        LocalDateTime pendingTimeLimit = timeLimit.minusDays(1);
+        MinutesFileRef first = new MinutesFileRef(1L, 10L, "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3");
+        MinutesFileRef second = new MinutesFileRef(2L, null, null);
+        MinutesFileRef third = new MinutesFileRef(3L, 10L, "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/b.jpg");
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), eq(timeLimit), eq(pendingTimeLimit), any(Pageable.class)))
+                .thenReturn(List.of(first, second), List.of(third));
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(1L, 2L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of(1L, 2L));
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(3L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of(3L));
+        when(minutesRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(minutesRepository.deleteAllByIdIn(List.of(3L))).thenReturn(1);
+        when(s3Service.deleteObjects(anyList())).thenReturn(1);
+
+        // when
+        long deleted = cleanupService.purgeOlderThan(timeLimit, pendingTimeLimit);
+
+        // then
+        assertEquals(3, deleted);
+        verify(minutesSearchHistoryRepository).deleteAllByMinutesIdIn(List.of(1L, 2L));
+        verify(minutesSearchEngine).deleteAllById(List.of(1L, 2L));
+        verify(minutesSearchEngine).deleteAllById(List.of(3L));
+        verify(searchResultCache, times(2)).invalidateProjects(List.of(10L));
+        verify(s3Service).deleteObjects(List.of(first.getFilePath()));
+        verify(s3Service).deleteObjects(List.of(third.getFilePath()));
+        assertEquals(3.0, meterRegistry.get("minutes.temp-cleanup.deleted").counter().count());
+        assertEquals(2.0, meterRegistry.get("minutes.temp-cleanup.files.deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("검색 문서 삭제에 실패해도 파일 정리는 계속 진행")
+    void purgeOlderThan_SearchEngineFailure_ContinuesWithFiles() {
+        // given
+        LocalDateTime timeLimit = LocalDateTime.now();
+        LocalDateTime pendingTimeLimit = timeLimit.minusDays(1);
+        MinutesFileRef ref = new MinutesFileRef(1L, 10L, "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3");
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), eq(timeLimit), eq(pendingTimeLimit), any(Pageable.class)))
+                .thenReturn(List.of(ref));
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(1L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of(1L));
+        when(minutesRepository.deleteAllByIdIn(List.of(1L))).thenReturn(1);
+        doThrow(new RuntimeException("ES 오류")).when(minutesSearchEngine).deleteAllById(List.of(1L));
+        when(s3Service.deleteObjects(anyList())).thenReturn(0);
+
+        // when
+        long deleted = cleanupService.purgeOlderThan(timeLimit, pendingTimeLimit);
+
+        // then
+        assertEquals(1, deleted);
+        verify(s3Service).deleteObjects(List.of(ref.getFilePath()));
+        assertEquals(1.0, meterRegistry.get("minutes.temp-cleanup.files.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("삭제 후에도 다른 회의록이 참조하는 파일은 S3에서 지우지 않음")
+    void purgeOlderThan_SkipsFilesStillReferenced() {
+        // given
+        LocalDateTime timeLimit = LocalDateTime.now();
+        LocalDateTime pendingTimeLimit = timeLimit.minusDays(1);
+        String shared = "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/shared.jpg";
+        String own = "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/own.jpg";
+        MinutesFileRef first = new MinutesFileRef(1L, null, shared);
+        MinutesFileRef second = new MinutesFileRef(2L, null, own);
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), eq(timeLimit), eq(pendingTimeLimit), any(Pageable.class)))
+                .thenReturn(List.of(first, second), List.of());
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(1L, 2L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of(1L, 2L));
+        when(minutesRepository.deleteAllByIdIn(List.of(1L, 2L))).thenReturn(2);
+        when(minutesRepository.findReferencedFilePathsByKeys(List.of(Minutes.filePathKeyOf(shared), Minutes.filePathKeyOf(own))))
+                .thenReturn(List.of());
+        when(minutesRepository.findReferencedPageFilePaths(List.of(shared, own))).thenReturn(List.of(shared));
+        when(s3Service.deleteObjects(anyList())).thenReturn(1);
+
+        // when
+        cleanupService.purgeOlderThan(timeLimit, pendingTimeLimit);
+
+        // then
+        verify(s3Service).deleteObjects(List.of(own));
+        assertEquals(1.0, meterRegistry.get("minutes.temp-cleanup.files.deleted").counter().count());
+    }
+
+    @Test
+    @DisplayName("다른 회의록의 본문 파일로 남아 있는 파일은 파일 경로 키로 찾아 S3에서 지우지 않음")
+    void purgeOlderThan_SkipsFilesReferencedByFilePathKey() {
+        // given
+        LocalDateTime timeLimit = LocalDateTime.now();
+        LocalDateTime pendingTimeLimit = timeLimit.minusDays(1);
+        String reused = "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/reused.mp3";
+        MinutesFileRef ref = new MinutesFileRef(1L, null, reused);
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), eq(timeLimit), eq(pendingTimeLimit), any(Pageable.class)))
+                .thenReturn(List.of(ref), List.of());
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(1L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of(1L));
+        when(minutesRepository.deleteAllByIdIn(List.of(1L))).thenReturn(1);
+        when(minutesRepository.findReferencedFilePathsByKeys(List.of(Minutes.filePathKeyOf(reused)))).thenReturn(List.of(reused));
+
+        // when
+        cleanupService.purgeOlderThan(timeLimit, pendingTimeLimit);
+
+        // then
+        verify(s3Service, never()).deleteObjects(anyList());
+    }
+
+    @Test
+    @DisplayName("조회 후 삭제 전에 확정된 회의록은 행, 검색 문서, 파일 모두 삭제하지 않음")
+    void purgeOlderThan_SkipsMinutesFinalizedBeforeDelete() {
+        // given
+        LocalDateTime timeLimit = LocalDateTime.now();
+        LocalDateTime pendingTimeLimit = timeLimit.minusDays(1);
+        MinutesFileRef finalized = new MinutesFileRef(1L, 10L, "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3");
+        MinutesFileRef temporary = new MinutesFileRef(2L, 20L, "https://kr.object.ncloudstorage.com/logmeet/minutes_photo/b.jpg");
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), eq(timeLimit), eq(pendingTimeLimit), any(Pageable.class)))
+                .thenReturn(List.of(finalized, temporary));
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(1L, 2L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of(2L));
+        when(minutesRepository.deleteAllByIdIn(List.of(2L))).thenReturn(1);
+        when(s3Service.deleteObjects(anyList())).thenReturn(1);
+
+        // when
+        long deleted = cleanupService.purgeOlderThan(timeLimit, pendingTimeLimit);
+
+        // then
+        assertEquals(1, deleted);
+        verify(minutesRepository).findPageFilePathsByIdIn(List.of(2L));
+        verify(minutesSearchHistoryRepository).deleteAllByMinutesIdIn(List.of(2L));
+        verify(minutesRepository).deletePagesByMinutesIdIn(List.of(2L));
+        verify(minutesSearchEngine).deleteAllById(List.of(2L));
+        verify(searchResultCache).invalidateProjects(List.of(20L));
+        verify(s3Service).deleteObjects(List.of(temporary.getFilePath()));
+    }
+
+    @Test
+    @DisplayName("조회한 회의록이 모두 확정되었으면 아무것도 삭제하지 않음")
+    void purgeOlderThan_AllFinalized_DeletesNothing() {
+        // given
+        LocalDateTime timeLimit = LocalDateTime.now();
+        LocalDateTime pendingTimeLimit = timeLimit.minusDays(1);
+        MinutesFileRef finalized = new MinutesFileRef(1L, 10L, "https://kr.object.ncloudstorage.com/logmeet/minutes_voice/a.mp3");
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), eq(timeLimit), eq(pendingTimeLimit), any(Pageable.class)))
+                .thenReturn(List.of(finalized));
+        when(minutesRepository.lockOldTemporaryMinutesIds(List.of(1L), TEMP, timeLimit, pendingTimeLimit)).thenReturn(List.of());
+
+        // when
+        long deleted = cleanupService.purgeOlderThan(timeLimit, pendingTimeLimit);
+
+        // then
+        assertEquals(0, deleted);
+        verify(minutesRepository, never()).deleteAllByIdIn(anyList());
+        verifyNoInteractions(minutesSearchHistoryRepository, minutesSearchEngine, searchResultCache, s3Service);
+    }
+
+    @Test
+    @DisplayName("정리할 임시 회의록이 없으면 삭제를 호출하지 않음")
+    void scheduleCleanup_NothingToDelete() {
+        // given
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        cleanupService.scheduleCleanup();
+
+        // then
+        verify(minutesRepository, never()).deleteAllByIdIn(anyList());
+        verifyNoInteractions(minutesSearchEngine, s3Service);
+        assertEquals(1, meterRegistry.get("minutes.temp-cleanup").timer().count());
+        assertEquals(0.0, meterRegistry.get("minutes.temp-cleanup.running").gauge().value());
+    }
+
+    @Test
+    @DisplayName("본문이 있는 회의록은 정리 기준 시간으로, 변환을 기다리는 본문 없는 회의록은 더 긴 대기 기준 시간으로 조회")
+    void scheduleCleanup_UsesLongerLimitForPendingMinutes() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+        when(minutesRepository.findOldTemporaryMinutes(eq(TEMP), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        cleanupService.scheduleCleanup();
+
+        // then
+        ArgumentCaptor<LocalDateTime> timeLimit = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> pendingTimeLimit = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(minutesRepository).findOldTemporaryMinutes(eq(TEMP), timeLimit.capture(), pendingTimeLimit.capture(), any(Pageable.class));
+        assertFalse(timeLimit.getValue().isBefore(before.minusMinutes(30)));
+        assertEquals(timeLimit.getValue().minusMinutes(1410), pendingTimeLimit.getValue());
+    }
+
+    @Test
+    @DisplayName("실행기가 작업을 거부하면 이번 실행을 건너뛰고 다음 실행은 가능")
+    void scheduleCleanup_ExecutorRejected() {
+        // given
+        SimpleMeterRegistry rejectingRegistry = new SimpleMeterRegistry();
+        TemporaryMinutesCleanupService rejecting = new TemporaryMinutesCleanupService(minutesRepository,
+                minutesBulkDeleter, minutesSearchEngine, searchResultCache,
+                task -> {
+                    throw new TaskRejectedException("가득 참");
+                }, rejectingRegistry, 30, 1440, 2, 10);
+
+        // when
+        rejecting.scheduleCleanup();
+
+        // then
+        verifyNoInteractions(minutesRepository);
+        assertEquals(0.0, rejectingRegistry.get("minutes.temp-cleanup.running").gauge().value());
+    }
+}
@@ -0,0 +1,122 @@
+package org.focus.logmeet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.focus.logmeet.domain.enums.MinutesType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptMergerTest {
+
+    private final TranscriptMerger transcriptMerger = new TranscriptMerger(new ObjectMapper(), 1.0);
+
+    @Test
+    @DisplayName("겹침 구간의 같은 발화로 화자 라벨을 대응시키고 중복 세그먼트를 제거함")
+    void merge_ReconcilesSpeakersByTimestamp() {
+        // given
+        String first = """
+                {"segments": [
+                  {"speaker": "SPEAKER_0", "text": "회의를 시작하겠습니다.", "start": 0.0, "end": 3.0},
+                  {"speaker": "SPEAKER_1", "text": "안건은 배포 일정입니다.", "start": 598.0, "end": 605.0},
+                  {"speaker": "SPEAKER_0", "text": "네 좋습니다.", "start": 606.0, "end": 609.0}
+                ]}""";
+        // 두 번째 구간은 600초부터 시작하며 화자 라벨이 뒤바뀌어 있음
+        String second = """
+                {"segments": [
+                  {"speaker": "SPEAKER_0", "text": "안건은 배포 일정입니다", "start": -2.0, "end": 5.0},
+                  {"speaker": "SPEAKER_1", "text": "네 좋습니다.", "start": 6.0, "end": 9.0},
+                  {"speaker": "SPEAKER_0", "text": "다음 주 화요일로 하죠.", "start": 20.0, "end": 24.0},
+                  {"speaker": "SPEAKER_2", "text": "QA 일정도 확인하겠습니다.", "start": 25.0, "end": 28.0}
+                ]}""";
+
+        // when
+        String merged = transcriptMerger.merge(List.of(
+                new TranscriptMerger.Chunk(0, 615, first),
+                new TranscriptMerger.Chunk(600, 1200, second)));
+
+        // then
+        assertThat(MinutesService.extractClearContent(merged, MinutesType.VOICE)).isEqualTo("""
+                SPEAKER_0: 회의를 시작하겠습니다.
+                SPEAKER_1: 안건은 배포 일정입니다.
+                SPEAKER_0: 네 좋습니다.
+                SPEAKER_1: 다음 주 화요일로 하죠.
+                SPEAKER_2: QA 일정도 확인하겠습니다.""");
+        assertThat(merged).contains("\\"start\\":620.0");
+    }
+
+    @Test
+    @DisplayName("이전 구간 끝에서 잘린 발화는 다음 구간의 온전한 세그먼트로 바꿈")
+    void merge_PrefersNextChunkForUtteranceCrossingBoundary() {
+        // given
+        // 610초에 시작한 발화가 첫 번째 구간의 끝(615초)에서 잘림
+        String first = """
+                {"segments": [
+                  {"speaker": "SPEAKER_0", "text": "예산부터 보겠습니다.", "start": 590.0, "end": 600.0},
+                  {"speaker": "SPEAKER_1", "text": "다음 안건은", "start": 610.0, "end": 615.0}
+                ]}""";
+        String second = """
+                {"segments": [
+                  {"speaker": "SPEAKER_0", "text": "다음 안건은 채용 계획입니다.", "start": 10.0, "end": 19.0},
+                  {"speaker": "SPEAKER_1", "text": "자료를 공유하겠습니다.", "start": 20.0, "end": 24.0}
+                ]}""";
+
+        // when
+        String merged = transcriptMerger.merge(List.of(
+                new TranscriptMerger.Chunk(0, 615, first),
+                new TranscriptMerger.Chunk(600, 1200, second)));
+
+        // then
+        assertThat(MinutesService.extractClearContent(merged, MinutesType.VOICE)).isEqualTo("""
+                SPEAKER_0: 예산부터 보겠습니다.
+                SPEAKER_1: 다음 안건은 채용 계획입니다.
+                SPEAKER_2: 자료를 공유하겠습니다.""");
+        assertThat(merged).contains("\"start\":610.0,\"end\":619.0");
+    }
+
+    @Test
+    @DisplayName("시각 정보가 없으면 본문이 같은 세그먼트로 겹침 구간을 대응시킴")
+    void merge_ReconcilesSpeakersByText() {
+        // given
+        String first = """
+                {"segments": [
+                  {"speaker": "A", "text": "첫 번째 발언"},
+                  {"speaker": "B", "text": "겹치는 발언"}
+                ]}""";
+        String second = """
+                {"segments": [
+                  {"speaker": "X", "text": "겹치는  발언"},
+                  {"speaker": "X", "text": "이어지는 발언"},
+                  {"speaker": "A", "text": "새로운 화자 발언"}
+                ]}""";
+
+        // when
+        String merged = transcriptMerger.merge(List.of(
+                new TranscriptMerger.Chunk(0, 615, first),
+                new TranscriptMerger.Chunk(600, 1200, second)));
+
+        // then
+        assertThat(MinutesService.extractClearContent(merged, MinutesType.VOICE)).isEqualTo("""
+                A: 첫 번째 발언
+                B: 겹치는 발언
+                B: 이어지는 발언
+                SPEAKER_0: 새로운 화자 발언""");
+    }
+
+    @Test
+    @DisplayName("segments가 없는 구간은 건너뜀")
+    void merge_EmptyChunk() {
+        // given
+        String first = "{\"segments\": [{\"speaker\": \"SPEAKER_0\", \"text\": \"안녕하세요\"}]}";
+
+        // when
+        String merged = transcriptMerger.merge(List.of(
+                new TranscriptMerger.Chunk(0, 615, first),
+                new TranscriptMerger.Chunk(600, 700, "{\"text\": \"\"}")));
+
+        // then
+        assertThat(MinutesService.extractClearContent(merged, MinutesType.VOICE)).isEqualTo("SPEAKER_0: 안녕하세요");
+    }
+}